@@ -0,0 +1,153 @@
+package org.accenture.holiday.controller;
+
+import org.accenture.holiday.model.Holiday;
+import org.accenture.holiday.model.HolidayQuery;
+import org.accenture.holiday.service.AvailabilityEngine;
+import org.accenture.holiday.service.HolidayBatchWriter;
+import org.accenture.holiday.service.HolidayEventPublisher;
+import org.accenture.holiday.service.HolidayExportWriter;
+import org.accenture.holiday.service.HolidayJsonCache;
+import org.accenture.holiday.service.HolidayRegistry;
+import org.accenture.holiday.service.HolidayRepository;
+import org.accenture.holiday.service.HolidayService;
+import org.accenture.holiday.service.HolidaySnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.ResponseEntity;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the filters behind {@link HolidayController} and the JSON serialization of their results.
+ *
+ * <p>The {@code filter*} benchmarks measure the snapshot lookups alone, {@code serialize*} measure
+ * Jackson on a freshly computed list (a cache miss), and {@code endpoint*} measure the controller
+ * methods as served, including the serialized response cache.</p>
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HolidayQueryBenchmark {
+
+    private JsonMapper jsonMapper;
+    private HolidaySnapshot snapshot;
+    private HolidayController controller;
+    private List<HolidayQuery> batch;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonMapper = JsonMapper.builder().build();
+        HolidayRepository repository = new HolidayRepository(new HolidayService(),
+                "src/main/resources/bangalore_holidays.log");
+        repository.reload();
+        snapshot = repository.snapshot();
+        HolidayJsonCache cache = new HolidayJsonCache(jsonMapper, 1024);
+        HolidayRegistry registry = new HolidayRegistry(new HolidayService(), cache, "", 0);
+        controller = new HolidayController(repository, registry, cache, new HolidayBatchWriter(jsonMapper),
+                new HolidayExportWriter(jsonMapper), new HolidayEventPublisher(repository, registry, false, "UTC", 0),
+                new AvailabilityEngine(),
+                100, 36600, 1000, 300, 10000);
+        batch = List.of(new HolidayQuery("mandatory", 1, null, null), new HolidayQuery("floating", 3, null, null),
+                new HolidayQuery(null, null, null, "jayanti"));
+    }
+
+    @Benchmark
+    public List<Holiday> filterMandatory() {
+        return snapshot.byType(Holiday.Type.MANDATORY);
+    }
+
+    @Benchmark
+    public List<Holiday> filterFloating() {
+        return snapshot.byType(Holiday.Type.FLOATING);
+    }
+
+    @Benchmark
+    public List<Holiday> filterMandatoryByMonth() {
+        return snapshot.byTypeAndMonth(Holiday.Type.MANDATORY, 1);
+    }
+
+    @Benchmark
+    public List<Holiday> filterFloatingByMonth() {
+        return snapshot.byTypeAndMonth(Holiday.Type.FLOATING, 3);
+    }
+
+    @Benchmark
+    public List<Holiday> filterSearch() {
+        return snapshot.search("jayanti");
+    }
+
+    @Benchmark
+    public void filterBatch(Blackhole bh) {
+        for (HolidayQuery query : batch) {
+            snapshot.select(query).forEach(bh::consume);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeMandatory() {
+        return jsonMapper.writeValueAsBytes(snapshot.byType(Holiday.Type.MANDATORY));
+    }
+
+    @Benchmark
+    public byte[] serializeFloating() {
+        return jsonMapper.writeValueAsBytes(snapshot.byType(Holiday.Type.FLOATING));
+    }
+
+    @Benchmark
+    public byte[] serializeFloatingCollapsed() {
+        return jsonMapper.writeValueAsBytes(snapshot.collapse(snapshot.byType(Holiday.Type.FLOATING)));
+    }
+
+    @Benchmark
+    public byte[] serializeSearch() {
+        return jsonMapper.writeValueAsBytes(snapshot.search("jayanti"));
+    }
+
+    @Benchmark
+    public byte[] serializeBatch() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+        controller.batch(batch, null, null).getBody().writeTo(out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> endpointMandatory() {
+        return controller.getMandatoryHolidays(null, null, false, null, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> endpointMandatoryGzip() {
+        return controller.getMandatoryHolidays(null, null, false, null, "gzip, deflate, br");
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> endpointFloatingByMonth() {
+        return controller.getFloatingHolidaysByMonth(3, null, null, false, null, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> endpointSearch() {
+        return controller.searchHolidaysByName("Jayanti", null, null, false, null, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> endpointNotModified() {
+        return controller.getMandatoryHolidays(null, null, false, controller.getMandatoryHolidays(null, null, false, null, null).getHeaders().getETag(), null);
+    }
+}
@@ -0,0 +1,147 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for loading and parsing holiday files.
+ *
+ * <p>Run with {@code mvn -Pjmh test-compile exec:exec}; the default arguments attach the GC profiler,
+ * so every result carries {@code gc.alloc.rate.norm} (bytes allocated per operation).</p>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HolidayParsingBenchmark {
+
+    /** Bundled data file, resolved from the project root. */
+    static final Path BUNDLED = Path.of("src/main/resources/bangalore_holidays.log");
+
+    /**
+     * Loads the bundled file end to end; binary snapshots are disabled so the text is parsed every time.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Holiday> loadBundled(Bundled state) throws IOException {
+        return state.service.loadHolidays(BUNDLED);
+    }
+
+    /**
+     * Loads a synthetic file of {@code lines} lines built by repeating the bundled file.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public List<Holiday> loadScaled(Scaled state) throws IOException {
+        return state.service.loadHolidays(state.file);
+    }
+
+    /**
+     * Parses one line with the regular expression used as the fallback path.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Holiday parseLine(Lines state) {
+        return HolidayService.parseLine(state.next());
+    }
+
+    /**
+     * Parses one line with the single-pass scanner used on the hot path.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Holiday scanLine(Lines state) {
+        return HolidayLineScanner.scan(state.next());
+    }
+
+    /**
+     * Service configured like production but without binary snapshots.
+     */
+    @State(Scope.Benchmark)
+    public static class Bundled {
+        HolidayService service;
+
+        @Setup
+        public void setUp() {
+            service = new HolidayService();
+        }
+    }
+
+    /**
+     * Synthetic holidays file, generated once per trial in a temporary directory.
+     */
+    @State(Scope.Benchmark)
+    public static class Scaled {
+        @Param({"10000", "100000", "1000000", "10000000"})
+        int lines;
+
+        HolidayService service;
+        Path dir;
+        Path file;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            service = new HolidayService();
+            dir = Files.createTempDirectory("holiday-bench");
+            file = dir.resolve("holidays.log");
+            List<String> source = Files.readAllLines(BUNDLED, StandardCharsets.UTF_8);
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (int i = 0; i < lines; i++) {
+                    out.write(source.get(i % source.size()));
+                    out.newLine();
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    /**
+     * Cycles through the lines of the bundled file.
+     */
+    @State(Scope.Thread)
+    public static class Lines {
+        String[] lines;
+        int next;
+
+        @Setup
+        public void setUp() throws IOException {
+            lines = Files.readAllLines(BUNDLED, StandardCharsets.UTF_8).toArray(new String[0]);
+        }
+
+        String next() {
+            String line = lines[next];
+            next = next + 1 == lines.length ? 0 : next + 1;
+            return line;
+        }
+    }
+}
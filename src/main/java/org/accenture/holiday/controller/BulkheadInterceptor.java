@@ -0,0 +1,188 @@
+package org.accenture.holiday.controller;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.accenture.holiday.service.Bulkhead;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Gives every {@link HolidayController} endpoint its own {@link Bulkhead}.
+ *
+ * <p>An endpoint is named after its handler method, e.g. {@code searchHolidaysByName}; overloaded handlers
+ * serving several mappings add their HTTP method, e.g. {@code countBusinessDays.get} and
+ * {@code countBusinessDays.post}, so each mapping has its own limits. An endpoint is configured by
+ * {@code holidays.bulkhead.<endpoint>.rate-per-second}, {@code .burst} and {@code .max-concurrent},
+ * falling back to the settings under the plain method name for overloaded handlers, then to
+ * {@code holidays.bulkhead.default.*}. A request over its endpoint's limits is
+ * answered with HTTP 429 and {@code Retry-After} before the handler runs, so an expensive endpoint
+ * under load keeps to its own share of server threads.</p>
+ *
+ * <p>A permit is held while the request thread handles the request. Streaming and server-sent event
+ * responses return it when they switch to asynchronous processing, so long-lived streams are limited
+ * by rate only.</p>
+ */
+@Component
+public class BulkheadInterceptor implements AsyncHandlerInterceptor, WebMvcConfigurer, MeterBinder {
+
+    /** Prefix of the bulkhead properties. */
+    static final String PREFIX = "holidays.bulkhead.";
+    /** Request attribute holding the bulkhead whose permit the request holds. */
+    private static final String PERMIT = BulkheadInterceptor.class.getName() + ".permit";
+
+    private final boolean enabled;
+    /** Bulkheads by endpoint name. */
+    private final Map<String, Bulkhead> bulkheads = new TreeMap<>();
+    /** Bulkheads by handler method. */
+    private final Map<Method, Bulkhead> byHandler = new HashMap<>();
+
+    /**
+     * Constructs a new {@code BulkheadInterceptor} with a bulkhead per {@link HolidayController} endpoint.
+     *
+     * @param environment source of the {@code holidays.bulkhead.*} properties
+     */
+    public BulkheadInterceptor(Environment environment) {
+        this.enabled = environment.getProperty(PREFIX + "enabled", Boolean.class, true);
+        List<Method> handlers = new ArrayList<>();
+        Map<String, Integer> overloads = new HashMap<>();
+        for (Method method : HolidayController.class.getDeclaredMethods()) {
+            if (AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class)) {
+                handlers.add(method);
+                overloads.merge(method.getName(), 1, Integer::sum);
+            }
+        }
+        for (Method method : handlers) {
+            String name = overloads.get(method.getName()) == 1 ? method.getName() : method.getName() + "." + verb(method);
+            double rate = property(environment, name, method.getName(), "rate-per-second", Double.class, 0d);
+            Bulkhead bulkhead = new Bulkhead(name, rate,
+                    property(environment, name, method.getName(), "burst", Integer.class, (int) Math.ceil(rate)),
+                    property(environment, name, method.getName(), "max-concurrent", Integer.class, 0));
+            bulkheads.put(name, bulkhead);
+            byHandler.put(method, bulkhead);
+        }
+    }
+
+    /**
+     * @return the lower-case HTTP method a handler is mapped to, e.g. {@code post}; {@code any} if unrestricted
+     */
+    private static String verb(Method method) {
+        RequestMethod[] methods = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class).method();
+        return methods.length == 0 ? "any" : methods[0].name().toLowerCase(Locale.ROOT);
+    }
+
+    private static <T> T property(Environment environment, String endpoint, String handler, String key,
+                                  Class<T> type, T fallback) {
+        T value = environment.getProperty(PREFIX + endpoint + "." + key, type);
+        if (value == null && !endpoint.equals(handler)) {
+            value = environment.getProperty(PREFIX + handler + "." + key, type);
+        }
+        return value != null ? value : environment.getProperty(PREFIX + "default." + key, type, fallback);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (enabled) {
+            registry.addInterceptor(this);
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // An asynchronous dispatch completes a request that was already admitted.
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod method)
+                || method.getBeanType() != HolidayController.class) {
+            return true;
+        }
+        Bulkhead bulkhead = byHandler.get(method.getMethod());
+        if (bulkhead == null) {
+            return true;
+        }
+        if (bulkhead.tryEnter() == Bulkhead.Admission.ADMITTED) {
+            request.setAttribute(PERMIT, bulkhead);
+            return true;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(bulkhead.getRetryAfterSeconds()));
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request);
+    }
+
+    /**
+     * Returns the permit when a handler hands its response to another thread.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request);
+    }
+
+    private static void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT) instanceof Bulkhead bulkhead) {
+            request.removeAttribute(PERMIT);
+            bulkhead.exit();
+        }
+    }
+
+    /**
+     * @return the bulkhead of the named endpoint, or {@code null} if there is none
+     */
+    Bulkhead getBulkhead(String endpoint) {
+        return bulkheads.get(endpoint);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Bulkhead bulkhead : bulkheads.values()) {
+            requests(registry, bulkhead, "admitted", Bulkhead::getAdmittedCount);
+            requests(registry, bulkhead, "rate_limited", Bulkhead::getRateLimitedCount);
+            requests(registry, bulkhead, "saturated", Bulkhead::getSaturatedCount);
+            Gauge.builder("holidays.bulkhead.active", bulkhead, Bulkhead::getActive)
+                    .tag("endpoint", bulkhead.getName())
+                    .description("Requests currently holding a concurrency permit")
+                    .register(registry);
+            Gauge.builder("holidays.bulkhead.max.concurrent", bulkhead, Bulkhead::getMaxConcurrent)
+                    .tag("endpoint", bulkhead.getName())
+                    .description("Configured concurrency permits; 0 if unlimited")
+                    .register(registry);
+            Gauge.builder("holidays.bulkhead.rate", bulkhead, Bulkhead::getRatePerSecond)
+                    .tag("endpoint", bulkhead.getName())
+                    .description("Configured sustained requests per second; 0 if unlimited")
+                    .register(registry);
+        }
+    }
+
+    private static void requests(MeterRegistry registry, Bulkhead bulkhead, String outcome,
+                                 ToDoubleFunction<Bulkhead> count) {
+        FunctionCounter.builder("holidays.bulkhead.requests", bulkhead, count)
+                .tag("endpoint", bulkhead.getName())
+                .tag("outcome", outcome)
+                .description("Requests checked by the endpoint's bulkhead, by outcome")
+                .register(registry);
+    }
+}
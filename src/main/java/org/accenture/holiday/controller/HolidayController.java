@@ -1,122 +1,644 @@
 package org.accenture.holiday.controller;
 
+import org.accenture.holiday.model.AvailabilityReport;
+import org.accenture.holiday.model.AvailabilityRequest;
+import org.accenture.holiday.model.BusinessDayCount;
+import org.accenture.holiday.model.BusinessDayOffset;
+import org.accenture.holiday.model.DateRange;
 import org.accenture.holiday.model.Holiday;
-import org.accenture.holiday.service.HolidayService;
+import org.accenture.holiday.model.HolidayQuery;
+import org.accenture.holiday.model.LeaveInterval;
+import org.accenture.holiday.model.QuarantineReport;
+import org.accenture.holiday.model.SnapshotStatus;
+import org.accenture.holiday.service.AvailabilityEngine;
+import org.accenture.holiday.service.BusinessCalendar;
+import org.accenture.holiday.service.HolidayBatchWriter;
+import org.accenture.holiday.service.HolidayEventPublisher;
+import org.accenture.holiday.service.HolidayExportWriter;
+import org.accenture.holiday.service.HolidayJsonCache;
+import org.accenture.holiday.service.HolidayRegistry;
+import org.accenture.holiday.service.HolidayRepository;
+import org.accenture.holiday.service.HolidaySnapshot;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.IOException;
-import java.nio.file.Path;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * REST controller exposing endpoints to retrieve holiday information.
  *
  * <p>Base path: <code>/api/holidays</code></p>
  *
- * <p>The controller delegates to {@link HolidayService} to load holidays from a data file
- * whose path is provided via the application property {@code holidays.file.path}. If the property
- * is not set, it defaults to {@code src/main/resources/bangalore_holidays.log}.</p>
+ * <p>The controller answers every request from the in-memory snapshot published by
+ * {@link HolidayRepository}; the holidays file itself is only read when the snapshot is loaded.</p>
+ *
+ * <p>Holiday list responses are served as pre-serialized JSON from {@link HolidayJsonCache} with a
+ * strong {@code ETag}. A request whose {@code If-None-Match} matches the current snapshot gets an
+ * empty HTTP 304. They carry a {@code Last-Modified} of the data file and a public {@code Cache-Control}
+ * max-age, and are sent with the gzip encoding stored in the cache entry when the client accepts it.</p>
+ *
+ * <p>Holiday list endpoints accept optional {@code city} and {@code year} parameters. With a
+ * {@link HolidayRegistry} directory configured they are answered from the matching registry
+ * partition only; otherwise the main snapshot's results are filtered by them.</p>
  */
 @RestController
 @RequestMapping("/api/holidays")
 
 public class HolidayController {
 
-    /** Service used to load holidays from the configured source. */
-    private final HolidayService holidayService;
-    /** Path to the holidays data file resolved from configuration. */
-    private final Path holidaysFile;
+    /** Cache scope suffix of collapsed responses. */
+    private static final String COLLAPSED_SCOPE = HolidayJsonCache.VARIANT_SEPARATOR + "collapsed";
+
+    /** Repository holding the currently published holiday snapshot. */
+    private final HolidayRepository holidayRepository;
+    /** Registry of per-city, per-year partitions. */
+    private final HolidayRegistry holidayRegistry;
+    /** Cache of serialized responses for the current snapshot. */
+    private final HolidayJsonCache jsonCache;
+    /** Writer streaming batch query results. */
+    private final HolidayBatchWriter batchWriter;
+    /** Writer streaming NDJSON and CSV exports. */
+    private final HolidayExportWriter exportWriter;
+    /** Publisher of holiday-day server-sent events. */
+    private final HolidayEventPublisher eventPublisher;
+    /** Engine answering availability requests. */
+    private final AvailabilityEngine availabilityEngine;
+    /** Maximum number of queries accepted in one batch request. */
+    private final int maxBatchQueries;
+    /** Maximum length in days of a business-day range or offset. */
+    private final long maxBusinessDaySpan;
+    /** Maximum number of holidays returned by the upcoming endpoint. */
+    private final int maxUpcoming;
+    /** {@code Cache-Control} of holiday list responses. */
+    private final CacheControl apiCacheControl;
+    /** Maximum number of leave intervals in one availability request. */
+    private final int maxLeaves;
 
     /**
      * Constructs a new {@code HolidayController}.
      *
-     * @param holidayService   the service responsible for loading holiday data
-     * @param holidaysFilePath path to the holidays data file, injected from {@code holidays.file.path};
-     *                         defaults to {@code src/main/resources/bangalore_holidays.log} if not provided
+     * @param holidayRepository the repository serving the in-memory holiday snapshot
+     * @param holidayRegistry   the registry of per-city, per-year partitions
+     * @param jsonCache         the cache of serialized responses
+     * @param batchWriter       the writer streaming batch query results
+     * @param exportWriter      the writer streaming NDJSON and CSV exports
+     * @param eventPublisher    the publisher of holiday-day server-sent events
+     * @param availabilityEngine the engine answering availability requests
+     * @param maxBatchQueries    maximum number of queries per batch, from {@code holidays.batch.max-queries}
+     * @param maxBusinessDaySpan maximum days spanned by a business-day range or offset,
+     *                           from {@code holidays.business-days.max-span-days}
+     * @param maxUpcoming        maximum {@code limit} of the upcoming endpoint, from {@code holidays.upcoming.max-limit}
+     * @param apiMaxAgeSeconds   how long clients may reuse a holiday list response before revalidating,
+     *                           from {@code holidays.http.api-max-age-seconds}
+     * @param maxLeaves          maximum leave intervals per availability request, from {@code holidays.availability.max-leaves}
      */
-    public HolidayController(HolidayService holidayService,
-                             @Value("${holidays.file.path:src/main/resources/bangalore_holidays.log}") String holidaysFilePath) {
-        this.holidayService = holidayService;
-        this.holidaysFile = Path.of(holidaysFilePath);
+    public HolidayController(HolidayRepository holidayRepository, HolidayRegistry holidayRegistry,
+                             HolidayJsonCache jsonCache, HolidayBatchWriter batchWriter, HolidayExportWriter exportWriter,
+                             HolidayEventPublisher eventPublisher, AvailabilityEngine availabilityEngine,
+                             @Value("${holidays.batch.max-queries:100}") int maxBatchQueries,
+                             @Value("${holidays.business-days.max-span-days:36600}") long maxBusinessDaySpan,
+                             @Value("${holidays.upcoming.max-limit:1000}") int maxUpcoming,
+                             @Value("${holidays.http.api-max-age-seconds:300}") long apiMaxAgeSeconds,
+                             @Value("${holidays.availability.max-leaves:10000}") int maxLeaves) {
+        this.holidayRepository = holidayRepository;
+        this.holidayRegistry = holidayRegistry;
+        this.jsonCache = jsonCache;
+        this.batchWriter = batchWriter;
+        this.exportWriter = exportWriter;
+        this.eventPublisher = eventPublisher;
+        this.availabilityEngine = availabilityEngine;
+        this.maxBatchQueries = maxBatchQueries;
+        this.maxBusinessDaySpan = maxBusinessDaySpan;
+        this.maxUpcoming = maxUpcoming;
+        this.apiCacheControl = CacheControl.maxAge(Duration.ofSeconds(apiMaxAgeSeconds)).cachePublic();
+        this.maxLeaves = maxLeaves;
     }
 
     /**
      * Retrieves all mandatory holidays.
      *
-     * @return HTTP 200 with a list of {@link Holiday} entries whose type is {@link Holiday.Type#MANDATORY}
-     * @throws IOException if the holidays file cannot be read or parsed
+     * @param city        optional city, case-insensitive
+     * @param year        optional calendar year
+     * @param collapse    whether holidays sharing a date, city and type are collapsed into one entry with aliases
+     * @param ifNoneMatch optional {@code If-None-Match} header
+     * @param acceptEncoding optional {@code Accept-Encoding} header; gzip is served if accepted
+     * @return HTTP 200 with a list of {@link Holiday} entries whose type is {@link Holiday.Type#MANDATORY},
+     * or HTTP 304 if the client's copy is current
      */
     @GetMapping("/mandatory")
-    public ResponseEntity<List<Holiday>> getMandatoryHolidays() throws IOException {
-        List<Holiday> holidays = holidayService.loadHolidays(holidaysFile).stream()
-                .filter(h -> h.getType() == Holiday.Type.MANDATORY)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(holidays);
+    public ResponseEntity<byte[]> getMandatoryHolidays(@RequestParam(required = false) String city,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(defaultValue = "false") boolean collapse,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return respond("mandatory", s -> s.byType(Holiday.Type.MANDATORY), city, year, collapse, ifNoneMatch, acceptEncoding);
     }
 
     /**
      * Retrieves all floating holidays.
      *
-     * @return HTTP 200 with a list of {@link Holiday} entries whose type is {@link Holiday.Type#FLOATING}
-     * @throws IOException if the holidays file cannot be read or parsed
+     * @param city        optional city, case-insensitive
+     * @param year        optional calendar year
+     * @param collapse    whether holidays sharing a date, city and type are collapsed into one entry with aliases
+     * @param ifNoneMatch optional {@code If-None-Match} header
+     * @param acceptEncoding optional {@code Accept-Encoding} header; gzip is served if accepted
+     * @return HTTP 200 with a list of {@link Holiday} entries whose type is {@link Holiday.Type#FLOATING},
+     * or HTTP 304 if the client's copy is current
      */
     @GetMapping("/floating")
-    public ResponseEntity<List<Holiday>> getFloatingHolidays() throws IOException {
-        List<Holiday> holidays = holidayService.loadHolidays(holidaysFile).stream()
-                .filter(h -> h.getType() == Holiday.Type.FLOATING)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(holidays);
+    public ResponseEntity<byte[]> getFloatingHolidays(@RequestParam(required = false) String city,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(defaultValue = "false") boolean collapse,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return respond("floating", s -> s.byType(Holiday.Type.FLOATING), city, year, collapse, ifNoneMatch, acceptEncoding);
     }
 
     /**
      * Retrieves mandatory holidays for a given month.
      *
-     * @param month the month number (1–12)
-     * @return HTTP 200 with a list of mandatory holidays in the specified month; an empty list if none match
-     * @throws IOException if the holidays file cannot be read or parsed
+     * @param month       the month number (1–12)
+     * @param city        optional city, case-insensitive
+     * @param year        optional calendar year
+     * @param collapse    whether holidays sharing a date, city and type are collapsed into one entry with aliases
+     * @param ifNoneMatch optional {@code If-None-Match} header
+     * @param acceptEncoding optional {@code Accept-Encoding} header; gzip is served if accepted
+     * @return HTTP 200 with a list of mandatory holidays in the specified month; an empty list if none match,
+     * or HTTP 304 if the client's copy is current
      */
     @GetMapping("/mandatory/month/{month}")
-    public ResponseEntity<List<Holiday>> getMandatoryHolidaysByMonth(@PathVariable int month) throws IOException {
-        List<Holiday> holidays = holidayService.loadHolidays(holidaysFile).stream()
-                .filter(h -> h.getType() == Holiday.Type.MANDATORY && h.getDate().getMonthValue() == month)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(holidays);
+    public ResponseEntity<byte[]> getMandatoryHolidaysByMonth(@PathVariable int month,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(defaultValue = "false") boolean collapse,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return respond("mandatory/month/" + month, s -> s.byTypeAndMonth(Holiday.Type.MANDATORY, month), city, year, collapse, ifNoneMatch, acceptEncoding);
     }
 
     /**
      * Retrieves floating holidays for a given month.
      *
-     * @param month the month number (1–12)
-     * @return HTTP 200 with a list of floating holidays in the specified month; an empty list if none match
-     * @throws IOException if the holidays file cannot be read or parsed
+     * @param month       the month number (1–12)
+     * @param city        optional city, case-insensitive
+     * @param year        optional calendar year
+     * @param collapse    whether holidays sharing a date, city and type are collapsed into one entry with aliases
+     * @param ifNoneMatch optional {@code If-None-Match} header
+     * @param acceptEncoding optional {@code Accept-Encoding} header; gzip is served if accepted
+     * @return HTTP 200 with a list of floating holidays in the specified month; an empty list if none match,
+     * or HTTP 304 if the client's copy is current
      */
     @GetMapping("/floating/month/{month}")
-    public ResponseEntity<List<Holiday>> getFloatingHolidaysByMonth(@PathVariable int month) throws IOException {
-        List<Holiday> holidays = holidayService.loadHolidays(holidaysFile).stream()
-                .filter(h -> h.getType() == Holiday.Type.FLOATING && h.getDate().getMonthValue() == month)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(holidays);
+    public ResponseEntity<byte[]> getFloatingHolidaysByMonth(@PathVariable int month,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(defaultValue = "false") boolean collapse,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return respond("floating/month/" + month, s -> s.byTypeAndMonth(Holiday.Type.FLOATING, month), city, year, collapse, ifNoneMatch, acceptEncoding);
     }
 
     /**
      * Searches for holidays by name using a case-insensitive substring match.
      *
-     * @param keyword the text to search for within holiday names
-     * @return HTTP 200 with a list of holidays whose names contain the {@code keyword}; may be empty if no matches
-     * @throws IOException if the holidays file cannot be read or parsed
+     * @param keyword     the text to search for within holiday names
+     * @param city        optional city, case-insensitive
+     * @param year        optional calendar year
+     * @param collapse    whether holidays sharing a date, city and type are collapsed into one entry with aliases
+     * @param ifNoneMatch optional {@code If-None-Match} header
+     * @param acceptEncoding optional {@code Accept-Encoding} header; gzip is served if accepted
+     * @return HTTP 200 with a list of holidays whose names contain the {@code keyword}; may be empty if no matches,
+     * or HTTP 304 if the client's copy is current
      */
     @GetMapping("/search/{keyword}")
-    public ResponseEntity<List<Holiday>> searchHolidaysByName(@PathVariable String keyword) throws IOException {
-        List<Holiday> holidays = holidayService.loadHolidays(holidaysFile).stream()
-                .filter(h -> h.getName().toLowerCase().contains(keyword.toLowerCase()))
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(holidays);
+    public ResponseEntity<byte[]> searchHolidaysByName(@PathVariable String keyword,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(defaultValue = "false") boolean collapse,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String normalized = keyword.toLowerCase();
+        return respond("search/" + normalized, s -> s.search(normalized), city, year, collapse, ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * Answers several queries in one round trip, e.g. every month of a calendar view.
+     *
+     * <p>All queries are answered from the same snapshot. The response is a JSON array with one
+     * {@code {"query":...,"holidays":[...]}} element per query, in request order, streamed as it is
+     * produced.</p>
+     *
+     * @param queries the queries to answer; each may combine type, month, year and keyword
+     * @param city    optional city, case-insensitive, selecting the registry partition to answer from
+     * @param year    optional calendar year, selecting the registry partition to answer from
+     * @return HTTP 200 with the streamed results, or HTTP 400 if the batch is empty, exceeds the configured limit
+     *         or has a query with a month outside 1–12 or an unsupported year
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<StreamingResponseBody> batch(@RequestBody List<HolidayQuery> queries,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Integer year) {
+        if (queries == null || queries.isEmpty() || queries.size() > maxBatchQueries) {
+            return ResponseEntity.badRequest().build();
+        }
+        // Reject before streaming starts: once the 200 is committed an error can only truncate the body.
+        for (HolidayQuery q : queries) {
+            if (q == null || !q.isValid()) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        if ((city != null || year != null) && !holidayRegistry.isEnabled()) {
+            List<HolidayQuery> scoped = new ArrayList<>(queries.size());
+            for (HolidayQuery q : queries) {
+                scoped.add(q.withCityAndYear(city, year));
+            }
+            queries = scoped;
+        }
+        HolidaySnapshot snapshot = snapshotFor(city, year);
+        List<HolidayQuery> answered = queries;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> batchWriter.write(snapshot, answered, out));
+    }
+
+    /**
+     * Streams the full data set, or a slice of it, in date order for bulk export.
+     *
+     * <p>Holidays are written one at a time straight from the in-memory snapshot, so memory use is
+     * independent of the data set size. Within a date holidays keep their file order. A client that
+     * was interrupted resumes with {@code from} set to the date of the last holiday it received and
+     * {@code skip} set to how many holidays of that date it already has.</p>
+     *
+     * @param format {@code ndjson} (default) or {@code csv}, case-insensitive
+     * @param type   optional holiday type, case-insensitive
+     * @param city   optional city, case-insensitive
+     * @param year   optional calendar year
+     * @param from   optional first date to export, ISO format
+     * @param skip   number of matching holidays to skip first; defaults to 0
+     * @return HTTP 200 with the streamed export, or HTTP 400 for an unknown format or type or a negative {@code skip}
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(defaultValue = "0") int skip) {
+        HolidayExportWriter.Format exportFormat;
+        Holiday.Type exportType;
+        try {
+            exportFormat = HolidayExportWriter.Format.valueOf(format.toUpperCase(Locale.ROOT));
+            exportType = type == null ? null : Holiday.Type.valueOf(type.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (skip < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        HolidaySnapshot snapshot = snapshotFor(city, year);
+        Predicate<Holiday> filter = exportType == null ? h -> true : h -> h.getType() == exportType;
+        if (city != null && !holidayRegistry.isEnabled()) {
+            filter = filter.and(snapshot.cityFilter(city));
+        }
+        if (year != null && !holidayRegistry.isEnabled()) {
+            filter = filter.and(h -> h.getDate().getYear() == year);
+        }
+        Predicate<Holiday> selected = filter;
+        int start = from == null ? 0 : snapshot.indexOfDate(from);
+        MediaType contentType = exportFormat == HolidayExportWriter.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .body(out -> exportWriter.write(snapshot, start, skip, selected, exportFormat, out));
+    }
+
+    /**
+     * Retrieves the next holidays from today, or from a given date, in date order.
+     *
+     * <p>The start date is located by binary search over the date-ordered data, so the cost depends
+     * on {@code limit} rather than on the size of the data set.</p>
+     *
+     * @param type  optional holiday type, case-insensitive
+     * @param city  optional city, case-insensitive
+     * @param limit maximum number of holidays to return; defaults to 10
+     * @param from  optional first date, ISO format; defaults to today
+     * @return HTTP 200 with up to {@code limit} holidays, or HTTP 400 for an unknown type or a
+     * {@code limit} outside 1 to the configured maximum
+     */
+    @GetMapping("/upcoming")
+    public ResponseEntity<List<Holiday>> getUpcomingHolidays(
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String city,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from) {
+        Holiday.Type upcomingType;
+        try {
+            upcomingType = type == null ? null : Holiday.Type.valueOf(type.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (limit < 1 || limit > maxUpcoming) {
+            return ResponseEntity.badRequest().build();
+        }
+        HolidaySnapshot snapshot = snapshotFor(city, null);
+        Predicate<Holiday> filter = upcomingType == null ? h -> true : h -> h.getType() == upcomingType;
+        if (city != null && !holidayRegistry.isEnabled()) {
+            if (snapshot.byCity(city).isEmpty()) {
+                return ResponseEntity.ok(List.of());
+            }
+            filter = filter.and(snapshot.cityFilter(city));
+        }
+        LocalDate start = from == null ? eventPublisher.today() : from;
+        return ResponseEntity.ok(snapshot.upcoming(start, filter, limit));
+    }
+
+    /**
+     * Opens a server-sent-event stream that receives the day's holidays when each holiday day starts.
+     *
+     * @param type optional holiday type, case-insensitive
+     * @param city optional city, case-insensitive
+     * @return the event stream, or HTTP 400 for an unknown type
+     */
+    @GetMapping(value = "/upcoming/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamUpcomingHolidays(
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String city) {
+        Holiday.Type streamType;
+        try {
+            streamType = type == null ? null : Holiday.Type.valueOf(type.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(eventPublisher.subscribe(streamType, city));
+    }
+
+    /**
+     * Counts the business days in an inclusive date range.
+     *
+     * <p>A business day is neither a Saturday, a Sunday nor a mandatory holiday; floating holidays
+     * are working days.</p>
+     *
+     * @param from first day of the range, ISO format
+     * @param to   last day of the range, ISO format
+     * @param city optional city whose holidays apply; all cities if omitted
+     * @return HTTP 200 with the {@link BusinessDayCount}, or HTTP 400 if the range exceeds the configured span
+     */
+    @GetMapping("/business-days")
+    public ResponseEntity<BusinessDayCount> countBusinessDays(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String city) {
+        if (Math.abs(ChronoUnit.DAYS.between(from, to)) > maxBusinessDaySpan) {
+            return ResponseEntity.badRequest().build();
+        }
+        BusinessCalendar calendar = calendarFor(city);
+        return ResponseEntity.ok(new BusinessDayCount(from, to, city, calendar.countBusinessDays(city, from, to)));
+    }
+
+    /**
+     * Counts the business days of several date ranges in one round trip, all from the same snapshot.
+     *
+     * @param ranges the inclusive ranges to count
+     * @return HTTP 200 with one {@link BusinessDayCount} per range in request order, or HTTP 400 if the
+     * request is empty, has more ranges than the batch limit, or a range is missing a bound or exceeds the
+     * configured span
+     */
+    @PostMapping("/business-days")
+    public ResponseEntity<List<BusinessDayCount>> countBusinessDays(@RequestBody List<DateRange> ranges) {
+        if (ranges == null || ranges.isEmpty() || ranges.size() > maxBatchQueries) {
+            return ResponseEntity.badRequest().build();
+        }
+        for (DateRange range : ranges) {
+            if (range == null || range.getFrom() == null || range.getTo() == null
+                    || Math.abs(ChronoUnit.DAYS.between(range.getFrom(), range.getTo())) > maxBusinessDaySpan) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        List<BusinessDayCount> counts = new ArrayList<>(ranges.size());
+        for (DateRange range : ranges) {
+            counts.add(new BusinessDayCount(range.getFrom(), range.getTo(), range.getCity(),
+                    calendarFor(range.getCity()).countBusinessDays(range.getCity(), range.getFrom(), range.getTo())));
+        }
+        return ResponseEntity.ok(counts);
+    }
+
+    /**
+     * Finds the business day a given number of business days away from a date.
+     *
+     * @param date starting day, ISO format; not itself counted
+     * @param days business days to move; negative moves backwards
+     * @param city optional city whose holidays apply; all cities if omitted
+     * @return HTTP 200 with the {@link BusinessDayOffset}, or HTTP 400 if {@code days} exceeds the configured span
+     * or the result is not a representable date
+     */
+    @GetMapping("/business-days/add")
+    public ResponseEntity<BusinessDayOffset> addBusinessDays(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam long days,
+            @RequestParam(required = false) String city) {
+        if (Math.abs(days) > maxBusinessDaySpan) {
+            return ResponseEntity.badRequest().build();
+        }
+        BusinessCalendar calendar = calendarFor(city);
+        try {
+            return ResponseEntity.ok(new BusinessDayOffset(date, days, city, calendar.addBusinessDays(city, date, days)));
+        } catch (DateTimeException e) {
+            // Result falls outside the supported date range.
+            return ResponseEntity.badRequest().build();
+        }
     }
-}
 
+    /**
+     * Checks a planning window and a team's leave intervals against the holidays in one request.
+     *
+     * <p>Returns the holidays in the window, its bridge days, the holidays and business-day cost of each
+     * leave interval, and the best floating holidays to take. This replaces fetching the holiday lists
+     * per employee and intersecting them on the client.</p>
+     *
+     * @param request planning window, optional city, leave intervals and number of floating choices
+     * @return HTTP 200 with the {@link AvailabilityReport}, or HTTP 400 if a range is missing a bound, is
+     * reversed or exceeds the configured span, there are more leave intervals than allowed, or the choice
+     * count is negative
+     */
+    @PostMapping("/availability")
+    public ResponseEntity<AvailabilityReport> availability(@RequestBody AvailabilityRequest request) {
+        if (request == null || !validRange(request.getFrom(), request.getTo()) || request.getLeaves().size() > maxLeaves
+                || request.getFloatingChoices() < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        for (LeaveInterval leave : request.getLeaves()) {
+            if (leave == null || !validRange(leave.getFrom(), leave.getTo())) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        String city = request.getCity();
+        HolidaySnapshot snapshot = snapshotFor(city, null);
+        Predicate<Holiday> filter = city != null && !holidayRegistry.isEnabled()
+                ? snapshot.cityFilter(city) : h -> true;
+        return ResponseEntity.ok(availabilityEngine.evaluate(snapshot, filter, request));
+    }
+
+    /**
+     * Reports the currently served snapshot and background reload statistics.
+     *
+     * @return HTTP 200 with the {@link SnapshotStatus} of the served data set
+     */
+    @GetMapping("/status")
+    public ResponseEntity<SnapshotStatus> getStatus() {
+        HolidaySnapshot snapshot = holidayRepository.snapshot();
+        return ResponseEntity.ok(new SnapshotStatus(snapshot.getVersion(), snapshot.size(), snapshot.getLoadedAt(),
+                holidayRepository.getReloadCount(), holidayRepository.getLastReloadDuration().toMillis()));
+    }
+
+    /**
+     * Lists the lines of each parsed holidays file that were rejected, dropped as weekend holidays, or
+     * whose day-of-week word contradicts their date, with line numbers and per-file counts.
+     *
+     * @return HTTP 200 with a {@link QuarantineReport} per file parsed from text, ordered by path
+     */
+    @GetMapping("/admin/quarantine")
+    public ResponseEntity<List<QuarantineReport>> getQuarantine() {
+        return ResponseEntity.ok(holidayRepository.getQuarantine().getReports());
+    }
+
+    /**
+     * Answers a list query, optionally restricted to a city and year, through the serialized response cache.
+     *
+     * <p>With the registry enabled a restricted query runs against its partition's snapshot under the
+     * partition's cache scope; otherwise it runs against the main snapshot and its result is restricted
+     * through the snapshot's city index.</p>
+     *
+     * @param key         normalized cache key identifying the query
+     * @param query       computes the result from a snapshot on a cache miss
+     * @param city        optional city
+     * @param year        optional year
+     * @param collapse    whether the result is collapsed by date, city and type
+     * @param ifNoneMatch optional {@code If-None-Match} header
+     * @param acceptEncoding optional {@code Accept-Encoding} header
+     * @return HTTP 304 if {@code ifNoneMatch} matches the snapshot's ETag, otherwise HTTP 200 with the JSON body
+     */
+    private ResponseEntity<byte[]> respond(String key, Function<HolidaySnapshot, List<Holiday>> query,
+                                           String city, Integer year, boolean collapse, String ifNoneMatch,
+                                           String acceptEncoding) {
+        String scope = null;
+        HolidaySnapshot snapshot = holidayRepository.snapshot();
+        Instant lastModified = holidayRepository.getDataModified();
+        Function<HolidaySnapshot, List<Holiday>> selected = query;
+        if (city != null || year != null) {
+            if (holidayRegistry.isEnabled()) {
+                snapshot = holidayRegistry.partition(city, year);
+                scope = snapshot == HolidaySnapshot.EMPTY ? null : HolidayRegistry.scopeOf(city, year);
+                lastModified = holidayRegistry.getLastModified();
+            } else {
+                key = key + "?" + HolidayRegistry.scopeOf(city, year);
+                Function<HolidaySnapshot, List<Holiday>> inCity = city == null ? query
+                        : s -> s.inCity(query.apply(s), city);
+                selected = year == null ? inCity
+                        : s -> inCity.apply(s).stream().filter(h -> h.getDate().getYear() == year).toList();
+            }
+        }
+        if (collapse) {
+            // A separate scope gives the collapsed representation its own ETag.
+            Function<HolidaySnapshot, List<Holiday>> uncollapsed = selected;
+            return respond((scope == null ? "" : scope) + COLLAPSED_SCOPE, snapshot, key,
+                    s -> s.collapse(uncollapsed.apply(s)), lastModified, ifNoneMatch, acceptEncoding);
+        }
+        return respond(scope, snapshot, key, selected, lastModified, ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * Answers a list query from {@code snapshot} through the serialized response cache.
+     *
+     * @param scope       cache scope of {@code snapshot}; {@code null} for the main snapshot
+     * @param snapshot    snapshot to answer from
+     * @param key         normalized cache key identifying the query
+     * @param query       computes the result from a snapshot on a cache miss
+     * @param lastModified modification time of the data files behind {@code snapshot}; {@code null} if unknown
+     * @param ifNoneMatch optional {@code If-None-Match} header
+     * @param acceptEncoding optional {@code Accept-Encoding} header
+     * @return HTTP 304 if {@code ifNoneMatch} matches the snapshot's ETag or its gzip variant, otherwise HTTP 200
+     * with the JSON body, gzip-encoded under the gzip variant of the ETag if the client accepts it
+     */
+    private ResponseEntity<byte[]> respond(String scope, HolidaySnapshot snapshot, String key,
+                                           Function<HolidaySnapshot, ? extends List<?>> query, Instant lastModified,
+                                           String ifNoneMatch, String acceptEncoding) {
+        String matched = HolidayJsonCache.matchedETag(ifNoneMatch, jsonCache.eTag(scope, snapshot));
+        if (matched != null) {
+            return cacheHeaders(ResponseEntity.status(HttpStatus.NOT_MODIFIED), lastModified).eTag(matched).build();
+        }
+        HolidayJsonCache.Entry entry = jsonCache.get(scope, snapshot, key, query);
+        ResponseEntity.BodyBuilder response = cacheHeaders(ResponseEntity.ok(), lastModified)
+                .contentType(MediaType.APPLICATION_JSON);
+        byte[] gzip = entry.getEncodedBody().gzipFor(acceptEncoding);
+        if (gzip != null) {
+            return response.eTag(HolidayJsonCache.gzipETag(entry.getETag()))
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+        }
+        return response.eTag(entry.getETag()).body(entry.getBody());
+    }
+
+    /**
+     * Adds the caching headers shared by full and not-modified list responses.
+     */
+    private ResponseEntity.BodyBuilder cacheHeaders(ResponseEntity.BodyBuilder response, Instant lastModified) {
+        response.cacheControl(apiCacheControl).varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (lastModified != null) {
+            response.lastModified(lastModified);
+        }
+        return response;
+    }
+
+    /**
+     * @return the registry partition for {@code city} and {@code year} if the registry is enabled and
+     * either is given, otherwise the main snapshot
+     */
+    private HolidaySnapshot snapshotFor(String city, Integer year) {
+        if ((city != null || year != null) && holidayRegistry.isEnabled()) {
+            return holidayRegistry.partition(city, year);
+        }
+        return holidayRepository.snapshot();
+    }
+
+    /**
+     * @return {@code true} if both bounds are present and {@code from..to} is a forward range within the configured
+     * business-day span
+     */
+    private boolean validRange(LocalDate from, LocalDate to) {
+        return from != null && to != null && !to.isBefore(from) && ChronoUnit.DAYS.between(from, to) <= maxBusinessDaySpan;
+    }
+
+    /**
+     * @return the business calendar of {@code city}'s registry partition if the registry is enabled,
+     * otherwise of the main snapshot
+     */
+    private BusinessCalendar calendarFor(String city) {
+        return snapshotFor(city, null).getBusinessCalendar();
+    }
+}
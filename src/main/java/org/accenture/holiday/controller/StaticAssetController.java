@@ -0,0 +1,165 @@
+package org.accenture.holiday.controller;
+
+import org.accenture.holiday.service.EncodedBody;
+import org.accenture.holiday.service.HolidayJsonCache;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves the bundled UI with content-hashed asset URLs, long-lived caching and precompressed bodies.
+ *
+ * <p>At startup the scripts and stylesheets referenced by {@code static/index.html} are read once,
+ * hashed and gzip-compressed, and the page is rewritten to reference them as
+ * {@code assets/<name>.<hash>.<ext>}. Those URLs change whenever the content does, so they are
+ * served as immutable for a year. The page itself is revalidated on every use with its ETag.</p>
+ *
+ * <p>The original asset URLs remain available through Spring's static resource handling.</p>
+ */
+@RestController
+public class StaticAssetController {
+
+    /** Location of the UI on the classpath. */
+    private static final String STATIC_ROOT = "static/";
+    /** Relative script and stylesheet references in the page. */
+    private static final Pattern ASSET_REFERENCE = Pattern.compile("(src|href)=\"([\\w.-]+\\.(?:js|css))\"");
+    /** Cache-Control of hashed assets. */
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    /** The rewritten page. */
+    private final Asset index;
+    /** Hashed assets by hashed file name. */
+    private final Map<String, Asset> assets = new HashMap<>();
+
+    /**
+     * Constructs a new {@code StaticAssetController}, reading and compressing the UI.
+     */
+    public StaticAssetController() {
+        String page = new String(read("index.html"), StandardCharsets.UTF_8);
+        Matcher references = ASSET_REFERENCE.matcher(page);
+        StringBuilder rewritten = new StringBuilder(page.length());
+        while (references.find()) {
+            String name = references.group(2);
+            ClassPathResource resource = new ClassPathResource(STATIC_ROOT + name);
+            String replacement = references.group();
+            if (resource.exists()) {
+                Asset asset = new Asset(read(name), name);
+                String hashed = hashedName(name, asset.hash);
+                assets.put(hashed, asset);
+                replacement = references.group(1) + "=\"assets/" + hashed + "\"";
+            }
+            references.appendReplacement(rewritten, Matcher.quoteReplacement(replacement));
+        }
+        references.appendTail(rewritten);
+        index = new Asset(rewritten.toString().getBytes(StandardCharsets.UTF_8), "index.html");
+    }
+
+    /**
+     * Serves the UI page.
+     *
+     * @param ifNoneMatch    optional {@code If-None-Match} header
+     * @param acceptEncoding optional {@code Accept-Encoding} header
+     * @return HTTP 200 with the page, or HTTP 304 if the client's copy is current
+     */
+    @GetMapping({"/", "/index.html"})
+    public ResponseEntity<byte[]> index(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return serve(index, CacheControl.noCache(), ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * Serves a content-hashed script or stylesheet referenced by the page.
+     *
+     * @param file           hashed file name, e.g. {@code app.<hash>.js}
+     * @param ifNoneMatch    optional {@code If-None-Match} header
+     * @param acceptEncoding optional {@code Accept-Encoding} header
+     * @return HTTP 200 with the asset, HTTP 304 if the client's copy is current, or HTTP 404 for an unknown file
+     */
+    @GetMapping("/assets/{file:.+}")
+    public ResponseEntity<byte[]> asset(@PathVariable String file,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Asset asset = assets.get(file);
+        if (asset == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return serve(asset, IMMUTABLE, ifNoneMatch, acceptEncoding);
+    }
+
+    private static ResponseEntity<byte[]> serve(Asset asset, CacheControl cacheControl, String ifNoneMatch,
+                                                String acceptEncoding) {
+        String matched = HolidayJsonCache.matchedETag(ifNoneMatch, asset.eTag);
+        if (matched != null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(matched)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(asset.contentType);
+        byte[] gzip = asset.body.gzipFor(acceptEncoding);
+        if (gzip != null) {
+            return response.eTag(HolidayJsonCache.gzipETag(asset.eTag))
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+        }
+        return response.eTag(asset.eTag).body(asset.body.getIdentity());
+    }
+
+    /**
+     * @return {@code name} with {@code hash} inserted before its extension
+     */
+    static String hashedName(String name, String hash) {
+        int dot = name.lastIndexOf('.');
+        return name.substring(0, dot) + "." + hash + name.substring(dot);
+    }
+
+    private static byte[] read(String name) {
+        try (InputStream in = new ClassPathResource(STATIC_ROOT + name).getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Missing bundled UI file " + name, e);
+        }
+    }
+
+    /**
+     * A UI file held in memory with its precomputed encodings.
+     */
+    private static final class Asset {
+        private final EncodedBody body;
+        private final String hash;
+        private final String eTag;
+        private final MediaType contentType;
+
+        private Asset(byte[] content, String name) {
+            this.body = EncodedBody.of(content);
+            this.hash = DigestUtils.md5DigestAsHex(content);
+            this.eTag = "\"" + hash + "\"";
+            MediaType type = MediaTypeFactory.getMediaType(name).orElse(MediaType.APPLICATION_OCTET_STREAM);
+            this.contentType = type.getType().equals("text") || type.getSubtype().equals("javascript")
+                    ? new MediaType(type, StandardCharsets.UTF_8) : type;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.accenture.holiday.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Holidays, bridge days, leave overlaps and floating-holiday choices for one planning window.
+ */
+public class AvailabilityReport {
+    private final LocalDate from;
+    private final LocalDate to;
+    private final String city;
+    private final List<Holiday> holidays;
+    private final List<LocalDate> bridgeDays;
+    private final List<LeaveOverlap> leaves;
+    private final List<FloatingChoice> floatingChoices;
+
+    /**
+     * Creates a new AvailabilityReport.
+     *
+     * @param from            first day of the planning window
+     * @param to              last day of the planning window
+     * @param city            city whose holidays applied; {@code null} for all cities
+     * @param holidays        holidays in the window, in date order
+     * @param bridgeDays      single working days with a holiday on one side and a weekend or holiday on the other, in date order
+     * @param leaves          one entry per requested leave interval, in request order
+     * @param floatingChoices best floating holidays to take, best first
+     */
+    public AvailabilityReport(LocalDate from, LocalDate to, String city, List<Holiday> holidays,
+                              List<LocalDate> bridgeDays, List<LeaveOverlap> leaves,
+                              List<FloatingChoice> floatingChoices) {
+        this.from = from;
+        this.to = to;
+        this.city = city;
+        this.holidays = holidays;
+        this.bridgeDays = bridgeDays;
+        this.leaves = leaves;
+        this.floatingChoices = floatingChoices;
+    }
+
+    /**
+     * @return first day of the planning window
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * @return last day of the planning window
+     */
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * @return city whose holidays applied, or {@code null} for all cities
+     */
+    public String getCity() {
+        return city;
+    }
+
+    /**
+     * @return holidays in the window, in date order
+     */
+    public List<Holiday> getHolidays() {
+        return holidays;
+    }
+
+    /**
+     * @return bridge days in the window, in date order
+     */
+    public List<LocalDate> getBridgeDays() {
+        return bridgeDays;
+    }
+
+    /**
+     * @return leave overlaps, in request order
+     */
+    public List<LeaveOverlap> getLeaves() {
+        return leaves;
+    }
+
+    /**
+     * @return floating-holiday choices, best first
+     */
+    public List<FloatingChoice> getFloatingChoices() {
+        return floatingChoices;
+    }
+}
@@ -0,0 +1,80 @@
+package org.accenture.holiday.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A planning window and the leave already booked in it, to be checked against the holiday data.
+ */
+public class AvailabilityRequest {
+
+    /** Number of floating-holiday choices returned when the request does not say. */
+    public static final int DEFAULT_FLOATING_CHOICES = 3;
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final String city;
+    private final List<LeaveInterval> leaves;
+    private final int floatingChoices;
+
+    /**
+     * Creates a new AvailabilityRequest.
+     *
+     * @param from            first day of the planning window
+     * @param to              last day of the planning window
+     * @param city            city whose holidays apply; {@code null} for all cities
+     * @param leaves          leave intervals to check; {@code null} for none
+     * @param floatingChoices number of floating-holiday choices to return; {@code null} for
+     *                        {@value #DEFAULT_FLOATING_CHOICES}
+     */
+    @JsonCreator
+    public AvailabilityRequest(@JsonProperty(value = "from", required = true) LocalDate from,
+                               @JsonProperty(value = "to", required = true) LocalDate to,
+                               @JsonProperty("city") String city,
+                               @JsonProperty("leaves") List<LeaveInterval> leaves,
+                               @JsonProperty("floatingChoices") Integer floatingChoices) {
+        this.from = from;
+        this.to = to;
+        this.city = city;
+        this.leaves = leaves == null ? List.of() : leaves;
+        this.floatingChoices = floatingChoices == null ? DEFAULT_FLOATING_CHOICES : floatingChoices;
+    }
+
+    /**
+     * @return first day of the planning window
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * @return last day of the planning window
+     */
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * @return city whose holidays apply, or {@code null} for all cities
+     */
+    public String getCity() {
+        return city;
+    }
+
+    /**
+     * @return leave intervals to check, in request order; never {@code null}
+     */
+    public List<LeaveInterval> getLeaves() {
+        return leaves;
+    }
+
+    /**
+     * @return number of floating-holiday choices to return
+     */
+    public int getFloatingChoices() {
+        return floatingChoices;
+    }
+}
@@ -0,0 +1,56 @@
+package org.accenture.holiday.model;
+
+import java.time.LocalDate;
+
+/**
+ * Number of business days in an inclusive date range.
+ */
+public class BusinessDayCount {
+    private final LocalDate from;
+    private final LocalDate to;
+    private final String city;
+    private final long businessDays;
+
+    /**
+     * Creates a new BusinessDayCount.
+     *
+     * @param from         first day of the range
+     * @param to           last day of the range
+     * @param city         city whose holidays applied; {@code null} for all cities
+     * @param businessDays business days in the range; negative if {@code to} is before {@code from}
+     */
+    public BusinessDayCount(LocalDate from, LocalDate to, String city, long businessDays) {
+        this.from = from;
+        this.to = to;
+        this.city = city;
+        this.businessDays = businessDays;
+    }
+
+    /**
+     * @return first day of the range
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * @return last day of the range
+     */
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * @return city whose holidays applied, or {@code null} for all cities
+     */
+    public String getCity() {
+        return city;
+    }
+
+    /**
+     * @return business days in the range
+     */
+    public long getBusinessDays() {
+        return businessDays;
+    }
+}
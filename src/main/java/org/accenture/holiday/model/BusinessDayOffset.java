@@ -0,0 +1,56 @@
+package org.accenture.holiday.model;
+
+import java.time.LocalDate;
+
+/**
+ * Result of moving a number of business days away from a date.
+ */
+public class BusinessDayOffset {
+    private final LocalDate date;
+    private final long days;
+    private final String city;
+    private final LocalDate result;
+
+    /**
+     * Creates a new BusinessDayOffset.
+     *
+     * @param date   starting day
+     * @param days   business days moved; negative moves backwards
+     * @param city   city whose holidays applied; {@code null} for all cities
+     * @param result business day reached
+     */
+    public BusinessDayOffset(LocalDate date, long days, String city, LocalDate result) {
+        this.date = date;
+        this.days = days;
+        this.city = city;
+        this.result = result;
+    }
+
+    /**
+     * @return starting day
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * @return business days moved
+     */
+    public long getDays() {
+        return days;
+    }
+
+    /**
+     * @return city whose holidays applied, or {@code null} for all cities
+     */
+    public String getCity() {
+        return city;
+    }
+
+    /**
+     * @return business day reached
+     */
+    public LocalDate getResult() {
+        return result;
+    }
+}
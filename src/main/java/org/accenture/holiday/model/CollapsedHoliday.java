@@ -0,0 +1,83 @@
+package org.accenture.holiday.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * All holidays of one type on one date in one city, collapsed into a single entry.
+ *
+ * <p>The holidays file often lists the same day several times under different names, e.g. Pongal,
+ * Uttarayana and Makar Sankranti. The first name in file order becomes the entry's name and the
+ * other distinct names are kept as aliases.</p>
+ */
+public class CollapsedHoliday {
+    private final String name;
+    private final LocalDate date;
+    private final DayOfWeek dayOfWeek;
+    private final String city;
+    private final Holiday.Type type;
+    private final List<String> aliases;
+
+    /**
+     * Creates a new CollapsedHoliday.
+     *
+     * @param name      canonical name, the first in file order
+     * @param date      calendar date shared by the collapsed holidays
+     * @param dayOfWeek day of week for the {@code date}
+     * @param city      city shared by the collapsed holidays
+     * @param type      type shared by the collapsed holidays
+     * @param aliases   other distinct names of the day, in file order; empty if none
+     */
+    public CollapsedHoliday(String name, LocalDate date, DayOfWeek dayOfWeek, String city, Holiday.Type type,
+                            List<String> aliases) {
+        this.name = name;
+        this.date = date;
+        this.dayOfWeek = dayOfWeek;
+        this.city = city;
+        this.type = type;
+        this.aliases = List.copyOf(aliases);
+    }
+
+    /**
+     * @return the canonical name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the holiday date
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * @return the day of week corresponding to {@link #getDate()}
+     */
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    /**
+     * @return the applicable city/region
+     */
+    public String getCity() {
+        return city;
+    }
+
+    /**
+     * @return the holiday type
+     */
+    public Holiday.Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the other names of the day, in file order; never {@code null}
+     */
+    public List<String> getAliases() {
+        return aliases;
+    }
+}
@@ -0,0 +1,52 @@
+package org.accenture.holiday.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+
+/**
+ * One inclusive date range of a bulk business-day request.
+ */
+public class DateRange {
+    private final LocalDate from;
+    private final LocalDate to;
+    private final String city;
+
+    /**
+     * Creates a new DateRange.
+     *
+     * @param from first day of the range
+     * @param to   last day of the range
+     * @param city city whose holidays apply; {@code null} for all cities
+     */
+    @JsonCreator
+    public DateRange(@JsonProperty(value = "from", required = true) LocalDate from,
+                     @JsonProperty(value = "to", required = true) LocalDate to,
+                     @JsonProperty("city") String city) {
+        this.from = from;
+        this.to = to;
+        this.city = city;
+    }
+
+    /**
+     * @return first day of the range
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * @return last day of the range
+     */
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * @return city whose holidays apply, or {@code null} for all cities
+     */
+    public String getCity() {
+        return city;
+    }
+}
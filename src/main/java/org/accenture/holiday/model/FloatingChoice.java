@@ -0,0 +1,44 @@
+package org.accenture.holiday.model;
+
+/**
+ * A floating holiday ranked by how much consecutive time off taking it yields.
+ */
+public class FloatingChoice {
+    private final Holiday holiday;
+    private final int daysOff;
+    private final int onLeave;
+
+    /**
+     * Creates a new FloatingChoice.
+     *
+     * @param holiday the floating holiday
+     * @param daysOff length of the run of consecutive non-working days the holiday would be part of
+     * @param onLeave number of requested leave intervals already covering the holiday's date
+     */
+    public FloatingChoice(Holiday holiday, int daysOff, int onLeave) {
+        this.holiday = holiday;
+        this.daysOff = daysOff;
+        this.onLeave = onLeave;
+    }
+
+    /**
+     * @return the floating holiday
+     */
+    public Holiday getHoliday() {
+        return holiday;
+    }
+
+    /**
+     * @return consecutive non-working days including the holiday, e.g. 4 for a Friday before a long weekend
+     */
+    public int getDaysOff() {
+        return daysOff;
+    }
+
+    /**
+     * @return number of leave intervals covering the date
+     */
+    public int getOnLeave() {
+        return onLeave;
+    }
+}
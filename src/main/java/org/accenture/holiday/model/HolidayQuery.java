@@ -0,0 +1,112 @@
+package org.accenture.holiday.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Year;
+import java.util.Locale;
+
+/**
+ * One query of a batch request; every criterion is optional and all given criteria must match.
+ */
+public class HolidayQuery {
+    private final Holiday.Type type;
+    private final Integer month;
+    private final Integer year;
+    private final String keyword;
+    private final String city;
+
+    /**
+     * Creates a new HolidayQuery for any city.
+     *
+     * @param type    holiday type, case-insensitive ({@code mandatory} or {@code floating}); {@code null} for any
+     * @param month   month number (1–12); {@code null} for any
+     * @param year    calendar year; {@code null} for any
+     * @param keyword case-insensitive substring of the holiday name; {@code null} for any
+     */
+    public HolidayQuery(String type, Integer month, Integer year, String keyword) {
+        this(type, month, year, keyword, null);
+    }
+
+    /**
+     * Creates a new HolidayQuery.
+     *
+     * @param type    holiday type, case-insensitive ({@code mandatory} or {@code floating}); {@code null} for any
+     * @param month   month number (1–12); {@code null} for any
+     * @param year    calendar year; {@code null} for any
+     * @param keyword case-insensitive substring of the holiday name; {@code null} for any
+     * @param city    city, case-insensitive; {@code null} for any
+     */
+    @JsonCreator
+    public HolidayQuery(@JsonProperty("type") String type,
+                        @JsonProperty("month") Integer month,
+                        @JsonProperty("year") Integer year,
+                        @JsonProperty("keyword") String keyword,
+                        @JsonProperty("city") String city) {
+        this(type == null ? null : Holiday.Type.valueOf(type.toUpperCase(Locale.ROOT)), month, year, keyword, city);
+    }
+
+    private HolidayQuery(Holiday.Type type, Integer month, Integer year, String keyword, String city) {
+        this.type = type;
+        this.month = month;
+        this.year = year;
+        this.keyword = keyword;
+        this.city = city;
+    }
+
+    /**
+     * Returns this query restricted to a city and year.
+     *
+     * @param city city to use instead of this query's; {@code null} keeps this query's city
+     * @param year year to use instead of this query's; {@code null} keeps this query's year
+     * @return the restricted query
+     */
+    public HolidayQuery withCityAndYear(String city, Integer year) {
+        return new HolidayQuery(type, month, year != null ? year : this.year, keyword, city != null ? city : this.city);
+    }
+
+    /**
+     * Checks that the month and year, when given, name a real calendar month and year.
+     *
+     * @return {@code true} if the query can be answered without a date-range error
+     */
+    public boolean isValid() {
+        return (month == null || (month >= 1 && month <= 12))
+                && (year == null || (year >= Year.MIN_VALUE && year <= Year.MAX_VALUE));
+    }
+
+    /**
+     * @return the holiday type to match, or {@code null} for any
+     */
+    public Holiday.Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the month number to match, or {@code null} for any
+     */
+    public Integer getMonth() {
+        return month;
+    }
+
+    /**
+     * @return the year to match, or {@code null} for any
+     */
+    public Integer getYear() {
+        return year;
+    }
+
+    /**
+     * @return the name substring to match, or {@code null} for any
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * @return the city to match, or {@code null} for any
+     */
+    public String getCity() {
+        return city;
+    }
+}
@@ -0,0 +1,52 @@
+package org.accenture.holiday.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+
+/**
+ * One inclusive leave interval of an availability request, e.g. an employee's approved leave.
+ */
+public class LeaveInterval {
+    private final String id;
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates a new LeaveInterval.
+     *
+     * @param id   caller's identifier, e.g. an employee or request id; echoed back, may be {@code null}
+     * @param from first day of leave
+     * @param to   last day of leave
+     */
+    @JsonCreator
+    public LeaveInterval(@JsonProperty("id") String id,
+                         @JsonProperty(value = "from", required = true) LocalDate from,
+                         @JsonProperty(value = "to", required = true) LocalDate to) {
+        this.id = id;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * @return caller's identifier, or {@code null}
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return first day of leave
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * @return last day of leave
+     */
+    public LocalDate getTo() {
+        return to;
+    }
+}
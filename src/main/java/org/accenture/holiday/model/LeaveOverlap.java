@@ -0,0 +1,67 @@
+package org.accenture.holiday.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The holidays falling within one leave interval and the business days the leave actually costs.
+ */
+public class LeaveOverlap {
+    private final String id;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final List<Holiday> holidays;
+    private final long businessDays;
+
+    /**
+     * Creates a new LeaveOverlap.
+     *
+     * @param id           identifier of the leave interval, or {@code null}
+     * @param from         first day of leave
+     * @param to           last day of leave
+     * @param holidays     holidays of the planning window falling within the leave, in date order
+     * @param businessDays days of the leave that are neither weekends nor mandatory holidays
+     */
+    public LeaveOverlap(String id, LocalDate from, LocalDate to, List<Holiday> holidays, long businessDays) {
+        this.id = id;
+        this.from = from;
+        this.to = to;
+        this.holidays = holidays;
+        this.businessDays = businessDays;
+    }
+
+    /**
+     * @return identifier of the leave interval, or {@code null}
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return first day of leave
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * @return last day of leave
+     */
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * @return holidays within the leave, in date order
+     */
+    public List<Holiday> getHolidays() {
+        return holidays;
+    }
+
+    /**
+     * @return business days the leave costs
+     */
+    public long getBusinessDays() {
+        return businessDays;
+    }
+}
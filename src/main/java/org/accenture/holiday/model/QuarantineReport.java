@@ -0,0 +1,89 @@
+package org.accenture.holiday.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Diagnostics of the most recent parse of one holidays file: how many lines were dropped or suspect,
+ * and the last of those lines with their line numbers.
+ */
+public class QuarantineReport {
+    private final String file;
+    private final Instant parsedAt;
+    private final long linesRead;
+    private final long rejectedCount;
+    private final long dayMismatchCount;
+    private final long weekendFilteredCount;
+    private final List<QuarantinedLine> lines;
+
+    /**
+     * Creates a new QuarantineReport.
+     *
+     * @param file                 path of the parsed file
+     * @param parsedAt             instant of the most recent full or incremental parse
+     * @param linesRead            lines read since the last full parse
+     * @param rejectedCount        lines that could not be parsed
+     * @param dayMismatchCount     parsed lines whose day-of-week word does not name the day of their date
+     * @param weekendFilteredCount parsed lines dropped because they fall on a weekend
+     * @param lines                the last quarantined lines, in line order
+     */
+    public QuarantineReport(String file, Instant parsedAt, long linesRead, long rejectedCount, long dayMismatchCount,
+                            long weekendFilteredCount, List<QuarantinedLine> lines) {
+        this.file = file;
+        this.parsedAt = parsedAt;
+        this.linesRead = linesRead;
+        this.rejectedCount = rejectedCount;
+        this.dayMismatchCount = dayMismatchCount;
+        this.weekendFilteredCount = weekendFilteredCount;
+        this.lines = List.copyOf(lines);
+    }
+
+    /**
+     * @return path of the parsed file
+     */
+    public String getFile() {
+        return file;
+    }
+
+    /**
+     * @return instant of the most recent full or incremental parse
+     */
+    public Instant getParsedAt() {
+        return parsedAt;
+    }
+
+    /**
+     * @return lines read since the last full parse
+     */
+    public long getLinesRead() {
+        return linesRead;
+    }
+
+    /**
+     * @return lines that could not be parsed
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * @return parsed lines whose day-of-week word does not name the day of their date
+     */
+    public long getDayMismatchCount() {
+        return dayMismatchCount;
+    }
+
+    /**
+     * @return parsed lines dropped because they fall on a weekend
+     */
+    public long getWeekendFilteredCount() {
+        return weekendFilteredCount;
+    }
+
+    /**
+     * @return the last quarantined lines, in line order
+     */
+    public List<QuarantinedLine> getLines() {
+        return lines;
+    }
+}
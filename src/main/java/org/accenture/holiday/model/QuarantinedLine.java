@@ -0,0 +1,67 @@
+package org.accenture.holiday.model;
+
+/**
+ * A line of a holidays file that was dropped or is suspect, with the reason.
+ */
+public class QuarantinedLine {
+
+    /**
+     * Why a line was quarantined.
+     */
+    public enum Reason {
+        /** The line matches neither the scanner nor the regex and was dropped. */
+        REJECTED,
+        /** The line was parsed, but its day-of-week word does not name the day of its date. */
+        DAY_OF_WEEK_MISMATCH,
+        /** The line was parsed but dropped because the holiday falls on a Saturday or Sunday. */
+        WEEKEND
+    }
+
+    private final long lineNumber;
+    private final Reason reason;
+    private final String text;
+    private final Holiday holiday;
+
+    /**
+     * Creates a new QuarantinedLine.
+     *
+     * @param lineNumber 1-based line number in the file
+     * @param reason     why the line was quarantined
+     * @param text       the line as read; {@code null} for weekend lines, which are described by {@code holiday}
+     * @param holiday    the holiday parsed from the line; {@code null} for rejected lines
+     */
+    public QuarantinedLine(long lineNumber, Reason reason, String text, Holiday holiday) {
+        this.lineNumber = lineNumber;
+        this.reason = reason;
+        this.text = text;
+        this.holiday = holiday;
+    }
+
+    /**
+     * @return 1-based line number in the file
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * @return why the line was quarantined
+     */
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * @return the line as read; {@code null} for weekend lines
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return the holiday parsed from the line; {@code null} for rejected lines
+     */
+    public Holiday getHoliday() {
+        return holiday;
+    }
+}
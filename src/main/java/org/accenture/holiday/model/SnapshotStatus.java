@@ -0,0 +1,68 @@
+package org.accenture.holiday.model;
+
+import java.time.Instant;
+
+/**
+ * Read-only status of the currently served holiday data set.
+ *
+ * <p>Reports which snapshot is being served and how the background reloads have been doing.</p>
+ */
+public class SnapshotStatus {
+    private final long version;
+    private final int size;
+    private final Instant loadedAt;
+    private final long reloadCount;
+    private final long lastReloadMillis;
+
+    /**
+     * Creates a new SnapshotStatus.
+     *
+     * @param version          version of the served snapshot
+     * @param size             number of holidays in the served snapshot
+     * @param loadedAt         instant at which the served snapshot was loaded
+     * @param reloadCount      number of successful reloads, including the initial load
+     * @param lastReloadMillis duration of the most recent successful reload in milliseconds
+     */
+    public SnapshotStatus(long version, int size, Instant loadedAt, long reloadCount, long lastReloadMillis) {
+        this.version = version;
+        this.size = size;
+        this.loadedAt = loadedAt;
+        this.reloadCount = reloadCount;
+        this.lastReloadMillis = lastReloadMillis;
+    }
+
+    /**
+     * @return version of the served snapshot
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return number of holidays in the served snapshot
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return instant at which the served snapshot was loaded
+     */
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * @return number of successful reloads, including the initial load
+     */
+    public long getReloadCount() {
+        return reloadCount;
+    }
+
+    /**
+     * @return duration of the most recent successful reload in milliseconds
+     */
+    public long getLastReloadMillis() {
+        return lastReloadMillis;
+    }
+}
@@ -0,0 +1,139 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.CollapsedHoliday;
+import org.accenture.holiday.model.Holiday;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Groups the rows of a {@link ColumnarHolidayStore} that share a date, city and type.
+ *
+ * <p>Groups are computed once per snapshot and held as primitive arrays: a sorted key per group and
+ * the group's rows in file order. A holiday is mapped to its group by binary search on its key, so
+ * collapsing a query result costs one lookup per holiday and no re-grouping.</p>
+ */
+final class AliasGroups {
+
+    private static final int TYPES = Holiday.Type.values().length;
+
+    /** Group keys, ascending; see {@link #key(int, int, Holiday.Type)}. */
+    private final long[] keys;
+    /** Start of each group in {@link #rows}; one extra trailing entry. */
+    private final int[] offsets;
+    /** Rows ordered by group, file order within a group. */
+    private final int[] rows;
+    /** City ids by interned city name. */
+    private final Map<String, Integer> cityIds = new HashMap<>();
+    private final ColumnarHolidayStore store;
+
+    /**
+     * Builds the groups for {@code store}.
+     *
+     * @param store      holidays to group
+     * @param rowsByDate the store's rows sorted by date, file order within a date
+     */
+    AliasGroups(ColumnarHolidayStore store, int[] rowsByDate) {
+        this.store = store;
+        for (int city = 0; city < store.cityCount(); city++) {
+            cityIds.put(store.city(city), city);
+        }
+        // Within each date, order rows by (city, type), keeping file order; dates are already in order.
+        long[] sortKeys = new long[rowsByDate.length];
+        for (int i = 0; i < rowsByDate.length; i++) {
+            int row = rowsByDate[i];
+            sortKeys[i] = ((long) subKey(store.cityId(row), store.type(row)) << 32) | row;
+        }
+        int start = 0;
+        while (start < rowsByDate.length) {
+            int day = store.epochDay(rowsByDate[start]);
+            int end = start + 1;
+            while (end < rowsByDate.length && store.epochDay(rowsByDate[end]) == day) {
+                end++;
+            }
+            Arrays.sort(sortKeys, start, end);
+            start = end;
+        }
+        rows = new int[rowsByDate.length];
+        long[] groupKeys = new long[rowsByDate.length];
+        int[] groupOffsets = new int[rowsByDate.length + 1];
+        int groups = 0;
+        for (int i = 0; i < rows.length; i++) {
+            int row = (int) sortKeys[i];
+            rows[i] = row;
+            long key = key(store.epochDay(row), store.cityId(row), store.type(row));
+            if (groups == 0 || groupKeys[groups - 1] != key) {
+                groupKeys[groups] = key;
+                groupOffsets[groups] = i;
+                groups++;
+            }
+        }
+        groupOffsets[groups] = rows.length;
+        keys = Arrays.copyOf(groupKeys, groups);
+        offsets = Arrays.copyOf(groupOffsets, groups + 1);
+    }
+
+    /**
+     * @return number of groups, i.e. of collapsed entries for the whole store
+     */
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * Collapses {@code holidays} into one entry per group, in order of each group's first appearance.
+     *
+     * <p>An entry always describes its whole group, so a holiday found under an alias still yields
+     * the canonical name and every alias of its day.</p>
+     *
+     * @param holidays holidays taken from the store
+     * @return the collapsed entries
+     */
+    List<CollapsedHoliday> collapse(List<Holiday> holidays) {
+        List<CollapsedHoliday> result = new ArrayList<>();
+        BitSet seen = new BitSet(keys.length);
+        for (Holiday h : holidays) {
+            Integer city = cityIds.get(h.getCity());
+            int group = city == null ? -1 : Arrays.binarySearch(keys, key((int) h.getDate().toEpochDay(), city, h.getType()));
+            if (group < 0) {
+                // Not from this store; keep it as a group of its own.
+                result.add(new CollapsedHoliday(h.getName(), h.getDate(), h.getDayOfWeek(), h.getCity(), h.getType(), List.of()));
+            } else if (!seen.get(group)) {
+                seen.set(group);
+                result.add(entry(group));
+            }
+        }
+        return result;
+    }
+
+    private CollapsedHoliday entry(int group) {
+        int first = rows[offsets[group]];
+        String name = store.name(store.nameId(first));
+        Set<String> aliases = new LinkedHashSet<>();
+        for (int i = offsets[group] + 1; i < offsets[group + 1]; i++) {
+            aliases.add(store.name(store.nameId(rows[i])));
+        }
+        aliases.remove(name);
+        LocalDate date = LocalDate.ofEpochDay(store.epochDay(first));
+        return new CollapsedHoliday(name, date, date.getDayOfWeek(), store.city(store.cityId(first)), store.type(first),
+                new ArrayList<>(aliases));
+    }
+
+    private static int subKey(int cityId, Holiday.Type type) {
+        return cityId * TYPES + type.ordinal();
+    }
+
+    /**
+     * Packs a group key that sorts by date, then city, then type.
+     */
+    private static long key(int epochDay, int cityId, Holiday.Type type) {
+        return ((long) epochDay << 32) | subKey(cityId, type);
+    }
+}
@@ -0,0 +1,98 @@
+package org.accenture.holiday.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * Reads the lines appended to a holidays file after a known byte offset.
+ *
+ * <p>Only complete lines, ending in {@code '\n'}, are consumed; a trailing partial line is left for
+ * the next read, when the writer has finished it. A checksum of every byte before the offset lets
+ * callers tell an append from a rewrite of already consumed content.</p>
+ */
+final class AppendedLineReader {
+
+    private static final int READ_BYTES = 64 * 1024;
+
+    private AppendedLineReader() {
+    }
+
+    /**
+     * Feeds every complete line in {@code [from, to)} to {@code accumulator}.
+     *
+     * @param channel     open channel on the file
+     * @param from        offset of the first byte to read; must be the start of a line
+     * @param to          file size to read up to
+     * @param accumulator receives each complete line without its terminator
+     * @return the offset just after the last complete line read; {@code from} if there was none
+     * @throws IOException if the file cannot be read
+     */
+    static long read(FileChannel channel, long from, long to, ParseAccumulator accumulator) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BYTES);
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        long consumed = from;
+        long pos = from;
+        while (pos < to) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), to - pos));
+            int read = channel.read(buffer, pos);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = buffer.get(i);
+                if (b == '\n') {
+                    int length = line.size();
+                    byte[] bytes = line.toByteArray();
+                    if (length > 0 && bytes[length - 1] == '\r') {
+                        length--;
+                    }
+                    accumulator.accept(new String(bytes, 0, length, StandardCharsets.UTF_8));
+                    line.reset();
+                    consumed = pos + i + 1;
+                } else {
+                    line.write(b);
+                }
+            }
+            pos += read;
+        }
+        return consumed;
+    }
+
+    /**
+     * Feeds the bytes in {@code [from, to)} to {@code crc}.
+     *
+     * @param channel open channel on the file
+     * @param from    offset of the first byte
+     * @param to      offset just after the last byte
+     * @param crc     checksum to update
+     * @return number of {@code '\n'} bytes in the range, i.e. of complete lines it ends
+     * @throws IOException if the file cannot be read
+     */
+    static long checksum(FileChannel channel, long from, long to, CRC32 crc) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BYTES);
+        byte[] bytes = buffer.array();
+        long lines = 0;
+        long pos = from;
+        while (pos < to) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), to - pos));
+            int read = channel.read(buffer, pos);
+            if (read <= 0) {
+                break;
+            }
+            crc.update(bytes, 0, read);
+            for (int i = 0; i < read; i++) {
+                if (bytes[i] == '\n') {
+                    lines++;
+                }
+            }
+            pos += read;
+        }
+        return lines;
+    }
+}
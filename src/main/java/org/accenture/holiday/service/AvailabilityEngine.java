@@ -0,0 +1,158 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.AvailabilityReport;
+import org.accenture.holiday.model.AvailabilityRequest;
+import org.accenture.holiday.model.FloatingChoice;
+import org.accenture.holiday.model.Holiday;
+import org.accenture.holiday.model.LeaveInterval;
+import org.accenture.holiday.model.LeaveOverlap;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Checks a planning window and a set of leave intervals against the holiday data in one pass.
+ *
+ * <p>The window's holidays are cut out of the snapshot's date-ordered view by binary search. Every
+ * other question is then answered with sorted sweeps over that slice: each leave interval finds its
+ * holidays by binary search on the slice's dates, and the number of leave intervals covering a date
+ * is the number of starts on or before it minus the number of ends before it, both found by binary
+ * search over sorted arrays. A request with many leave intervals therefore costs
+ * {@code O((holidays + leaves) log(holidays + leaves))} rather than one scan per leave.</p>
+ *
+ * <p>Weekends and mandatory holidays are non-working days, as in {@link BusinessCalendar}. A bridge day
+ * is a single working day with a holiday on one side and a weekend or holiday on the other. Floating
+ * holidays are ranked by the run of consecutive non-working days taking them would create, then by how
+ * few leave intervals already cover them, so the team stays as available as possible.</p>
+ */
+@Component
+public class AvailabilityEngine {
+
+    /** Longest run of non-working days looked at on either side of a floating holiday. */
+    private static final int MAX_RUN = 31;
+
+    /**
+     * Evaluates {@code request} against {@code snapshot}.
+     *
+     * @param snapshot snapshot to answer from
+     * @param filter   holidays that apply, e.g. those of the requested city
+     * @param request  planning window and leave intervals; callers validate ranges
+     * @return the availability report
+     */
+    public AvailabilityReport evaluate(HolidaySnapshot snapshot, Predicate<Holiday> filter, AvailabilityRequest request) {
+        String city = request.getCity();
+        BusinessCalendar calendar = snapshot.getBusinessCalendar();
+        List<Holiday> byDate = snapshot.byDate();
+        long last = request.getTo().toEpochDay();
+
+        List<Holiday> holidays = new ArrayList<>();
+        for (int i = snapshot.indexOfDate(request.getFrom()); i < byDate.size(); i++) {
+            Holiday h = byDate.get(i);
+            if (h.getDate().toEpochDay() > last) {
+                break;
+            }
+            if (filter.test(h)) {
+                holidays.add(h);
+            }
+        }
+        long[] days = new long[holidays.size()];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = holidays.get(i).getDate().toEpochDay();
+        }
+
+        List<LeaveOverlap> leaves = new ArrayList<>(request.getLeaves().size());
+        long[] starts = new long[request.getLeaves().size()];
+        long[] ends = new long[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            LeaveInterval leave = request.getLeaves().get(i);
+            starts[i] = leave.getFrom().toEpochDay();
+            ends[i] = leave.getTo().toEpochDay();
+            int first = lowerBound(days, starts[i]);
+            int end = lowerBound(days, ends[i] + 1);
+            leaves.add(new LeaveOverlap(leave.getId(), leave.getFrom(), leave.getTo(),
+                    List.copyOf(holidays.subList(first, end)),
+                    calendar.countBusinessDays(city, leave.getFrom(), leave.getTo())));
+        }
+        Arrays.sort(starts);
+        Arrays.sort(ends);
+
+        return new AvailabilityReport(request.getFrom(), request.getTo(), city, holidays,
+                bridgeDays(holidays, calendar, city, request), leaves,
+                floatingChoices(holidays, calendar, city, starts, ends, request.getFloatingChoices()));
+    }
+
+    /**
+     * Finds bridge days next to the window's mandatory holidays; they can only occur there, because a
+     * working day between two weekends does not exist.
+     */
+    private static List<LocalDate> bridgeDays(List<Holiday> holidays, BusinessCalendar calendar, String city,
+                                              AvailabilityRequest request) {
+        TreeSet<LocalDate> bridges = new TreeSet<>();
+        for (Holiday h : holidays) {
+            if (h.getType() != Holiday.Type.MANDATORY) {
+                continue;
+            }
+            for (LocalDate day : List.of(h.getDate().minusDays(1), h.getDate().plusDays(1))) {
+                if (!day.isBefore(request.getFrom()) && !day.isAfter(request.getTo())
+                        && calendar.isBusinessDay(city, day)
+                        && !calendar.isBusinessDay(city, day.minusDays(1))
+                        && !calendar.isBusinessDay(city, day.plusDays(1))) {
+                    bridges.add(day);
+                }
+            }
+        }
+        return List.copyOf(bridges);
+    }
+
+    private static List<FloatingChoice> floatingChoices(List<Holiday> holidays, BusinessCalendar calendar, String city,
+                                                        long[] starts, long[] ends, int limit) {
+        List<FloatingChoice> choices = new ArrayList<>();
+        LocalDate previous = null;
+        for (Holiday h : holidays) {
+            LocalDate day = h.getDate();
+            // One choice per date; aliases of a day are the same choice. Non-working days gain nothing.
+            if (h.getType() != Holiday.Type.FLOATING || day.equals(previous) || !calendar.isBusinessDay(city, day)) {
+                continue;
+            }
+            previous = day;
+            int before = 0;
+            while (before < MAX_RUN && !calendar.isBusinessDay(city, day.minusDays(before + 1))) {
+                before++;
+            }
+            int after = 0;
+            while (after < MAX_RUN && !calendar.isBusinessDay(city, day.plusDays(after + 1))) {
+                after++;
+            }
+            long epochDay = day.toEpochDay();
+            int onLeave = lowerBound(starts, epochDay + 1) - lowerBound(ends, epochDay);
+            choices.add(new FloatingChoice(h, before + 1 + after, onLeave));
+        }
+        choices.sort(Comparator.comparingInt(FloatingChoice::getDaysOff).reversed()
+                .thenComparingInt(FloatingChoice::getOnLeave)
+                .thenComparing(c -> c.getHoliday().getDate()));
+        return List.copyOf(choices.subList(0, Math.min(limit, choices.size())));
+    }
+
+    /**
+     * @return index of the first element of sorted {@code values} that is at least {@code key}
+     */
+    private static int lowerBound(long[] values, long key) {
+        int lo = 0;
+        int hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,282 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+import org.accenture.holiday.model.QuarantinedLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes the compact binary snapshot of a parsed holidays file.
+ *
+ * <p>Layout, big-endian:</p>
+ * <pre>
+ * int    magic 'HOLS'
+ * short  format version
+ * long   source file size
+ * long   source file last-modified millis
+ * int    string count, then per string: int byte length, UTF-8 bytes
+ * int    record count, then per record: int epoch day, byte type ordinal, int name index, int city index
+ * int    lines read, rejected count, weekend-filtered count, day-of-week mismatch count
+ * int    quarantined line count, then per line: long line number, byte reason ordinal, int text index or -1,
+ *        byte 1 if a holiday follows, then int epoch day, byte type ordinal, byte day-of-week ordinal or -1,
+ *        int name index, int city index
+ * int    CRC32 of all preceding bytes
+ * </pre>
+ *
+ * <p>Names and cities are stored once in the string table and referenced by index. The source
+ * size and modification time identify the text file the snapshot was built from; a snapshot whose
+ * source no longer matches is considered stale and is not read.</p>
+ *
+ * <p>The parse diagnostics are stored with the holidays, so a load from a snapshot reports the same counts
+ * and quarantined lines as the text parse that wrote it. Snapshots of an older format version are stale.</p>
+ *
+ * <p>Snapshots are decoded straight into a {@link ColumnarHolidayStore} without creating
+ * per-holiday objects.</p>
+ */
+public final class BinarySnapshotCodec {
+
+    /** File name suffix of a snapshot written next to its source file. */
+    public static final String SUFFIX = ".snap";
+
+    private static final int MAGIC = 0x484F4C53;
+    private static final short FORMAT_VERSION = 2;
+    private static final Holiday.Type[] TYPES = Holiday.Type.values();
+    private static final QuarantinedLine.Reason[] REASONS = QuarantinedLine.Reason.values();
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+
+    private BinarySnapshotCodec() {
+    }
+
+    /**
+     * @param source the text holidays file
+     * @return the path of the snapshot belonging to {@code source}
+     */
+    public static Path snapshotPathFor(Path source) {
+        return source.resolveSibling(source.getFileName() + SUFFIX);
+    }
+
+    /**
+     * Writes a snapshot of a parse of {@code source}, replacing any previous one atomically.
+     *
+     * @param source the text file the holidays were parsed from
+     * @param attrs  attributes of {@code source} read <em>before</em> it was parsed, so a file that
+     *               changed during parsing yields a snapshot that is already stale
+     * @param report result of parsing {@code source} from the first line
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(Path source, BasicFileAttributes attrs, ParseReport report) throws IOException {
+        List<Holiday> holidays = report.getHolidays();
+        List<QuarantinedLine> quarantined = report.getQuarantinedLines();
+        Map<String, Integer> index = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        int[] names = new int[holidays.size()];
+        int[] cities = new int[holidays.size()];
+        for (int i = 0; i < holidays.size(); i++) {
+            names[i] = intern(holidays.get(i).getName(), index, strings);
+            cities[i] = intern(holidays.get(i).getCity(), index, strings);
+        }
+        for (QuarantinedLine line : quarantined) {
+            intern(line.getText(), index, strings);
+            if (line.getHoliday() != null) {
+                intern(line.getHoliday().getName(), index, strings);
+                intern(line.getHoliday().getCity(), index, strings);
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + holidays.size() * 13);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeLong(attrs.size());
+        out.writeLong(attrs.lastModifiedTime().toMillis());
+        out.writeInt(strings.size());
+        for (String s : strings) {
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(utf8.length);
+            out.write(utf8);
+        }
+        out.writeInt(holidays.size());
+        for (int i = 0; i < holidays.size(); i++) {
+            Holiday h = holidays.get(i);
+            out.writeInt((int) h.getDate().toEpochDay());
+            out.writeByte(h.getType().ordinal());
+            out.writeInt(names[i]);
+            out.writeInt(cities[i]);
+        }
+        out.writeInt(report.getLinesRead());
+        out.writeInt(report.getRejectedCount());
+        out.writeInt(report.getWeekendFilteredCount());
+        out.writeInt(report.getDayMismatchCount());
+        out.writeInt(quarantined.size());
+        for (QuarantinedLine line : quarantined) {
+            out.writeLong(line.getLineNumber());
+            out.writeByte(line.getReason().ordinal());
+            out.writeInt(intern(line.getText(), index, strings));
+            Holiday h = line.getHoliday();
+            out.writeByte(h == null ? 0 : 1);
+            if (h != null) {
+                out.writeInt((int) h.getDate().toEpochDay());
+                out.writeByte(h.getType().ordinal());
+                out.writeByte(h.getDayOfWeek() == null ? -1 : h.getDayOfWeek().ordinal());
+                out.writeInt(intern(h.getName(), index, strings));
+                out.writeInt(intern(h.getCity(), index, strings));
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeInt((int) crc.getValue());
+        out.flush();
+
+        Path target = snapshotPathFor(source);
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.write(tmp, bytes.toByteArray());
+        try {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads the snapshot belonging to {@code source} if it exists and is current.
+     *
+     * @param source the text holidays file
+     * @return the stored parse, with the holidays in file order as a {@link ColumnarHolidayStore},
+     *         or {@code null} if there is no usable snapshot
+     * @throws IOException if the source file cannot be inspected
+     */
+    public static ParseReport readIfCurrent(Path source) throws IOException {
+        Path snapshot = snapshotPathFor(source);
+        if (!Files.isRegularFile(snapshot)) {
+            return null;
+        }
+        BasicFileAttributes attrs = Files.readAttributes(source, BasicFileAttributes.class);
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(snapshot));
+        try {
+            return decode(buf, attrs.size(), attrs.lastModifiedTime().toMillis());
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                 | NegativeArraySizeException | DateTimeException e) {
+            // Truncated or corrupt; treat like a stale snapshot.
+            return null;
+        }
+    }
+
+    private static ParseReport decode(ByteBuffer buf, long sourceSize, long sourceModified) {
+        if (buf.remaining() < 4 + 2 + 8 + 8 + 4 || buf.getInt() != MAGIC || buf.getShort() != FORMAT_VERSION) {
+            return null;
+        }
+        if (buf.getLong() != sourceSize || buf.getLong() != sourceModified) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buf.array(), 0, buf.limit() - 4);
+        if ((int) crc.getValue() != buf.getInt(buf.limit() - 4)) {
+            return null;
+        }
+
+        String[] strings = new String[buf.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            int length = buf.getInt();
+            strings[i] = new String(buf.array(), buf.position(), length, StandardCharsets.UTF_8);
+            buf.position(buf.position() + length);
+        }
+        int count = buf.getInt();
+        int[] epochDays = new int[count];
+        byte[] types = new byte[count];
+        int[] nameIds = new int[count];
+        int[] cityIds = new int[count];
+        int[] nameRemap = new int[strings.length];
+        int[] cityRemap = new int[strings.length];
+        Arrays.fill(nameRemap, -1);
+        Arrays.fill(cityRemap, -1);
+        List<String> names = new ArrayList<>();
+        List<String> cities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            epochDays[i] = buf.getInt();
+            types[i] = buf.get();
+            if (types[i] < 0 || types[i] >= TYPES.length) {
+                return null;
+            }
+            nameIds[i] = remap(buf.getInt(), strings, nameRemap, names);
+            cityIds[i] = remap(buf.getInt(), strings, cityRemap, cities);
+        }
+        ColumnarHolidayStore store = new ColumnarHolidayStore(epochDays, types, nameIds, cityIds,
+                names.toArray(new String[0]), cities.toArray(new String[0]));
+
+        int linesRead = buf.getInt();
+        int rejected = buf.getInt();
+        int weekendFiltered = buf.getInt();
+        int dayMismatches = buf.getInt();
+        QuarantinedLine[] quarantined = new QuarantinedLine[buf.getInt()];
+        for (int i = 0; i < quarantined.length; i++) {
+            long lineNumber = buf.getLong();
+            int reason = buf.get();
+            if (reason < 0 || reason >= REASONS.length) {
+                return null;
+            }
+            String text = lookup(buf.getInt(), strings);
+            Holiday holiday = null;
+            if (buf.get() != 0) {
+                LocalDate date = LocalDate.ofEpochDay(buf.getInt());
+                int type = buf.get();
+                int day = buf.get();
+                if (type < 0 || type >= TYPES.length || day < -1 || day >= DAYS.length) {
+                    return null;
+                }
+                String name = lookup(buf.getInt(), strings);
+                String city = lookup(buf.getInt(), strings);
+                holiday = new Holiday(name, date, day < 0 ? null : DAYS[day], city, TYPES[type]);
+            }
+            quarantined[i] = new QuarantinedLine(lineNumber, REASONS[reason], text, holiday);
+        }
+        return new ParseReport(store, linesRead, rejected, weekendFiltered, 0, List.of(), dayMismatches,
+                Arrays.asList(quarantined));
+    }
+
+    private static String lookup(int stringId, String[] strings) {
+        return stringId < 0 ? null : strings[stringId];
+    }
+
+    /**
+     * Maps a shared string-table index to an index in a separate name or city table.
+     */
+    private static int remap(int stringId, String[] strings, int[] remap, List<String> table) {
+        if (remap[stringId] < 0) {
+            remap[stringId] = table.size();
+            table.add(strings[stringId]);
+        }
+        return remap[stringId];
+    }
+
+    private static int intern(String value, Map<String, Integer> index, List<String> strings) {
+        if (value == null) {
+            return -1;
+        }
+        Integer existing = index.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        index.put(value, strings.size());
+        strings.add(value);
+        return strings.size() - 1;
+    }
+}
@@ -0,0 +1,136 @@
+package org.accenture.holiday.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the request rate and the number of concurrent requests of one endpoint.
+ *
+ * <p>Requests over either limit are refused immediately rather than queued, so a burst against one
+ * endpoint cannot hold server threads needed by the others. Both checks are lock-free: concurrency
+ * permits are a compare-and-set counter and the rate is a {@link TokenBucket}.</p>
+ */
+public final class Bulkhead {
+
+    /**
+     * Outcome of {@link #tryEnter()}.
+     */
+    public enum Admission {
+        /** The request may proceed and must call {@link #exit()} when done. */
+        ADMITTED,
+        /** The endpoint's request rate is exhausted. */
+        RATE_LIMITED,
+        /** The endpoint already runs its maximum number of concurrent requests. */
+        SATURATED
+    }
+
+    private final String name;
+    /** Rate limit, or {@code null} if the rate is unlimited. */
+    private final TokenBucket bucket;
+    private final double ratePerSecond;
+    /** Maximum concurrent requests; {@code 0} for unlimited. */
+    private final int maxConcurrent;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder saturated = new LongAdder();
+
+    /**
+     * Constructs a new {@code Bulkhead}.
+     *
+     * @param name          endpoint name, used in metrics
+     * @param ratePerSecond sustained requests per second; {@code 0} or less for unlimited
+     * @param burst         requests allowed at once above the sustained rate; at least 1 is used
+     * @param maxConcurrent maximum concurrent requests; {@code 0} or less for unlimited
+     */
+    public Bulkhead(String name, double ratePerSecond, int burst, int maxConcurrent) {
+        this.name = name;
+        this.ratePerSecond = Math.max(0, ratePerSecond);
+        this.bucket = ratePerSecond > 0 ? new TokenBucket(ratePerSecond, Math.max(1, burst), System::nanoTime) : null;
+        this.maxConcurrent = Math.max(0, maxConcurrent);
+    }
+
+    /**
+     * Tries to admit a request. A permit is taken before a token so that a saturated endpoint does not
+     * also use up its rate.
+     *
+     * @return {@link Admission#ADMITTED} if the request may proceed, otherwise the limit that refused it
+     */
+    public Admission tryEnter() {
+        if (!takePermit()) {
+            saturated.increment();
+            return Admission.SATURATED;
+        }
+        if (bucket != null && !bucket.tryAcquire()) {
+            active.decrementAndGet();
+            rateLimited.increment();
+            return Admission.RATE_LIMITED;
+        }
+        admitted.increment();
+        return Admission.ADMITTED;
+    }
+
+    /**
+     * Returns the permit of an admitted request.
+     */
+    public void exit() {
+        active.decrementAndGet();
+    }
+
+    private boolean takePermit() {
+        while (true) {
+            int current = active.get();
+            if (maxConcurrent > 0 && current >= maxConcurrent) {
+                return false;
+            }
+            if (active.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return whole seconds a refused client should wait before retrying: one refill interval, at least 1
+     */
+    public long getRetryAfterSeconds() {
+        return ratePerSecond > 0 ? Math.max(1, (long) Math.ceil(1 / ratePerSecond)) : 1;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return configured sustained requests per second; {@code 0} if unlimited
+     */
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    /**
+     * @return configured maximum concurrent requests; {@code 0} if unlimited
+     */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * @return requests currently admitted and not yet finished
+     */
+    public int getActive() {
+        return active.get();
+    }
+
+    public long getAdmittedCount() {
+        return admitted.sum();
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimited.sum();
+    }
+
+    public long getSaturatedCount() {
+        return saturated.sum();
+    }
+}
@@ -0,0 +1,215 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Business-day arithmetic over precomputed per-year bitsets of non-working days.
+ *
+ * <p>For every city and year present in the data, one bit per day of the year marks a non-working
+ * day: a Saturday, a Sunday, or a {@link Holiday.Type#MANDATORY} holiday in that city. Floating
+ * holidays are optional and therefore count as working days. Years without holiday data only mark
+ * weekends and share one of fourteen precomputed bitsets, so looking them up allocates nothing.
+ * Counting uses {@link Long#bitCount(long)} over masked words and offsets scan whole words at a time,
+ * so both cost roughly one operation per 64 days.</p>
+ *
+ * <p>A {@code null} city combines the mandatory holidays of all cities. City names match
+ * case-insensitively.</p>
+ */
+public final class BusinessCalendar {
+
+    /** Words needed to hold one bit per day of a leap year. */
+    private static final int WORDS = 6;
+    /** Key under which the union of all cities is stored. */
+    private static final String ALL_CITIES = "";
+    /**
+     * Weekend-only bitsets, shared and never modified, indexed by {@link #weekendIndex(int)}: a year's
+     * weekends depend only on whether it is a leap year and on the day of week of January 1st.
+     */
+    private static final long[][] WEEKENDS = new long[14][];
+
+    static {
+        // One 28-year cycle without a skipped leap year has every combination of leap year and starting day.
+        for (int year = 2001; year <= 2028; year++) {
+            int index = weekendIndex(year);
+            if (WEEKENDS[index] == null) {
+                WEEKENDS[index] = computeWeekends(year);
+            }
+        }
+    }
+
+    /** Non-working-day bitsets by city, then by year. */
+    private final Map<String, Map<Integer, long[]>> nonWorking = new HashMap<>();
+
+    /**
+     * Builds the calendar from the mandatory holidays in {@code store}.
+     *
+     * @param store holidays to take mandatory dates from
+     */
+    BusinessCalendar(ColumnarHolidayStore store) {
+        String[] cities = new String[store.cityCount()];
+        for (int city = 0; city < cities.length; city++) {
+            cities[city] = HolidaySnapshot.normalizeCity(store.city(city));
+        }
+        for (int row = 0; row < store.size(); row++) {
+            if (store.type(row) != Holiday.Type.MANDATORY) {
+                continue;
+            }
+            LocalDate date = LocalDate.ofEpochDay(store.epochDay(row));
+            mark(cities[store.cityId(row)], date);
+            mark(ALL_CITIES, date);
+        }
+    }
+
+    private void mark(String city, LocalDate date) {
+        long[] bits = nonWorking.computeIfAbsent(city, k -> new HashMap<>())
+                .computeIfAbsent(date.getYear(), BusinessCalendar::weekends);
+        int day = date.getDayOfYear() - 1;
+        bits[day >>> 6] |= 1L << day;
+    }
+
+    /**
+     * @param city city whose holidays apply, or {@code null} for all cities
+     * @param date day to check
+     * @return {@code true} if {@code date} is neither a weekend nor a mandatory holiday
+     */
+    public boolean isBusinessDay(String city, LocalDate date) {
+        int day = date.getDayOfYear() - 1;
+        return (bitsFor(city, date.getYear())[day >>> 6] & (1L << day)) == 0;
+    }
+
+    /**
+     * Counts business days in the inclusive range {@code from}..{@code to}.
+     *
+     * @param city city whose holidays apply, or {@code null} for all cities
+     * @param from first day of the range
+     * @param to   last day of the range; if before {@code from} the result is negated
+     * @return the number of business days in the range
+     */
+    public long countBusinessDays(String city, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            return -countBusinessDays(city, to, from);
+        }
+        long count = 0;
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            int first = year == from.getYear() ? from.getDayOfYear() - 1 : 0;
+            int last = year == to.getYear() ? to.getDayOfYear() - 1 : Year.of(year).length() - 1;
+            long[] bits = bitsFor(city, year);
+            for (int w = first >>> 6; w <= last >>> 6; w++) {
+                long mask = rangeMask(w, first, last);
+                count += Long.bitCount(~bits[w] & mask);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Moves {@code days} business days away from {@code date}.
+     *
+     * @param city city whose holidays apply, or {@code null} for all cities
+     * @param date starting day; not itself counted
+     * @param days number of business days to move; negative moves backwards, zero returns {@code date}
+     * @return the business day reached
+     */
+    public LocalDate addBusinessDays(String city, LocalDate date, long days) {
+        if (days == 0) {
+            return date;
+        }
+        return days > 0 ? forward(city, date, days) : backward(city, date, -days);
+    }
+
+    private LocalDate forward(String city, LocalDate date, long remaining) {
+        int year = date.getYear();
+        int first = date.getDayOfYear();
+        while (true) {
+            int last = Year.of(year).length() - 1;
+            long[] bits = bitsFor(city, year);
+            for (int w = first >>> 6; w <= last >>> 6 && first <= last; w++) {
+                long working = ~bits[w] & rangeMask(w, first, last);
+                int n = Long.bitCount(working);
+                if (n >= remaining) {
+                    return LocalDate.ofYearDay(year, (w << 6) + nthSetBit(working, (int) remaining) + 1);
+                }
+                remaining -= n;
+            }
+            year++;
+            first = 0;
+        }
+    }
+
+    private LocalDate backward(String city, LocalDate date, long remaining) {
+        int year = date.getYear();
+        int last = date.getDayOfYear() - 2;
+        while (true) {
+            long[] bits = bitsFor(city, year);
+            for (int w = last >>> 6; w >= 0 && last >= 0; w--) {
+                long working = ~bits[w] & rangeMask(w, 0, last);
+                int n = Long.bitCount(working);
+                if (n >= remaining) {
+                    return LocalDate.ofYearDay(year, (w << 6) + nthSetBit(working, n - (int) remaining + 1) + 1);
+                }
+                remaining -= n;
+            }
+            year--;
+            last = Year.of(year).length() - 1;
+        }
+    }
+
+    private long[] bitsFor(String city, int year) {
+        Map<Integer, long[]> years = nonWorking.get(city == null ? ALL_CITIES : HolidaySnapshot.normalizeCity(city));
+        long[] bits = years == null ? null : years.get(year);
+        return bits != null ? bits : WEEKENDS[weekendIndex(year)];
+    }
+
+    /**
+     * @return mask of the bits of word {@code w} that fall within day indexes {@code first..last}
+     */
+    private static long rangeMask(int w, int first, int last) {
+        int lo = Math.max(first - (w << 6), 0);
+        int hi = Math.min(last - (w << 6), 63);
+        if (lo > hi) {
+            return 0L;
+        }
+        long upper = hi == 63 ? -1L : (1L << (hi + 1)) - 1;
+        return upper & (-1L << lo);
+    }
+
+    /**
+     * @return index of the {@code n}-th (1-based) set bit of {@code word}
+     */
+    private static int nthSetBit(long word, int n) {
+        for (int i = 1; i < n; i++) {
+            word &= word - 1;
+        }
+        return Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * @return a fresh bitset with the weekends of {@code year} set
+     */
+    private static long[] weekends(int year) {
+        return WEEKENDS[weekendIndex(year)].clone();
+    }
+
+    private static int weekendIndex(int year) {
+        return (Year.isLeap(year) ? 7 : 0) + LocalDate.of(year, 1, 1).getDayOfWeek().ordinal();
+    }
+
+    private static long[] computeWeekends(int year) {
+        long[] bits = new long[WORDS];
+        int length = Year.of(year).length();
+        DayOfWeek dow = LocalDate.of(year, 1, 1).getDayOfWeek();
+        for (int day = 0; day < length; day++) {
+            if (dow == DayOfWeek.SATURDAY || dow == DayOfWeek.SUNDAY) {
+                bits[day >>> 6] |= 1L << day;
+            }
+            dow = dow.plus(1);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,319 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Immutable, column-oriented storage of holidays backed by primitive arrays.
+ *
+ * <p>Each row is stored as an {@code int} epoch day, a {@code byte} type ordinal and {@code int}
+ * indexes into interned name and city tables, so repeated names and cities are held once and no
+ * per-row objects are retained. The store is itself a read-only {@link List} of {@link Holiday};
+ * {@link #get(int)} materialises a lightweight view on demand, which callers are expected to use
+ * only at the serialization boundary.</p>
+ */
+public final class ColumnarHolidayStore extends AbstractList<Holiday> implements RandomAccess {
+
+    /** Store without rows. */
+    public static final ColumnarHolidayStore EMPTY = new ColumnarHolidayStore(new int[0], new byte[0], new int[0], new int[0],
+            new String[0], new String[0]);
+
+    private static final Holiday.Type[] TYPES = Holiday.Type.values();
+
+    private final int[] epochDays;
+    private final byte[] types;
+    private final int[] nameIds;
+    private final int[] cityIds;
+    private final String[] names;
+    private final String[] cities;
+
+    /**
+     * Creates a store over already built columns; the arrays are not copied.
+     *
+     * @param epochDays epoch day per row
+     * @param types     {@link Holiday.Type} ordinal per row
+     * @param nameIds   index into {@code names} per row
+     * @param cityIds   index into {@code cities} per row
+     * @param names     distinct names
+     * @param cities    distinct cities
+     */
+    ColumnarHolidayStore(int[] epochDays, byte[] types, int[] nameIds, int[] cityIds, String[] names, String[] cities) {
+        this.epochDays = epochDays;
+        this.types = types;
+        this.nameIds = nameIds;
+        this.cityIds = cityIds;
+        this.names = names;
+        this.cities = cities;
+    }
+
+    /**
+     * Builds a store holding the given holidays in order.
+     *
+     * @param holidays holidays to store; returned as is if already a {@code ColumnarHolidayStore}
+     * @return the columnar store
+     */
+    public static ColumnarHolidayStore of(List<Holiday> holidays) {
+        if (holidays instanceof ColumnarHolidayStore) {
+            return (ColumnarHolidayStore) holidays;
+        }
+        int n = holidays.size();
+        int[] epochDays = new int[n];
+        byte[] types = new byte[n];
+        int[] nameIds = new int[n];
+        int[] cityIds = new int[n];
+        Map<String, Integer> nameIndex = new HashMap<>();
+        Map<String, Integer> cityIndex = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        List<String> cities = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            Holiday h = holidays.get(i);
+            epochDays[i] = (int) h.getDate().toEpochDay();
+            types[i] = (byte) h.getType().ordinal();
+            nameIds[i] = intern(h.getName(), nameIndex, names);
+            cityIds[i] = intern(h.getCity(), cityIndex, cities);
+        }
+        return new ColumnarHolidayStore(epochDays, types, nameIds, cityIds,
+                names.toArray(new String[0]), cities.toArray(new String[0]));
+    }
+
+    /**
+     * Builds a new store holding this store's rows followed by {@code appended}.
+     *
+     * <p>The existing columns are copied as primitive arrays and the name and city tables are
+     * extended, so no existing row is materialised.</p>
+     *
+     * @param appended holidays to add after the existing rows, in order
+     * @return the combined store; this store if {@code appended} is empty
+     */
+    public ColumnarHolidayStore append(List<Holiday> appended) {
+        if (appended.isEmpty()) {
+            return this;
+        }
+        int n = size();
+        int total = n + appended.size();
+        int[] newEpochDays = Arrays.copyOf(epochDays, total);
+        byte[] newTypes = Arrays.copyOf(types, total);
+        int[] newNameIds = Arrays.copyOf(nameIds, total);
+        int[] newCityIds = Arrays.copyOf(cityIds, total);
+        Map<String, Integer> nameIndex = new HashMap<>();
+        Map<String, Integer> cityIndex = new HashMap<>();
+        List<String> newNames = new ArrayList<>(Arrays.asList(names));
+        List<String> newCities = new ArrayList<>(Arrays.asList(cities));
+        for (int i = 0; i < names.length; i++) {
+            nameIndex.put(names[i], i);
+        }
+        for (int i = 0; i < cities.length; i++) {
+            cityIndex.put(cities[i], i);
+        }
+        for (int i = 0; i < appended.size(); i++) {
+            Holiday h = appended.get(i);
+            newEpochDays[n + i] = (int) h.getDate().toEpochDay();
+            newTypes[n + i] = (byte) h.getType().ordinal();
+            newNameIds[n + i] = intern(h.getName(), nameIndex, newNames);
+            newCityIds[n + i] = intern(h.getCity(), cityIndex, newCities);
+        }
+        return new ColumnarHolidayStore(newEpochDays, newTypes, newNameIds, newCityIds,
+                newNames.toArray(new String[0]), newCities.toArray(new String[0]));
+    }
+
+    private static int intern(String value, Map<String, Integer> index, List<String> table) {
+        Integer id = index.putIfAbsent(value, table.size());
+        if (id != null) {
+            return id;
+        }
+        table.add(value);
+        return table.size() - 1;
+    }
+
+    @Override
+    public int size() {
+        return epochDays.length;
+    }
+
+    /**
+     * Materialises a view of row {@code row}.
+     *
+     * @param row row index
+     * @return a new {@link Holiday} with the row's values
+     */
+    @Override
+    public Holiday get(int row) {
+        LocalDate date = LocalDate.ofEpochDay(epochDays[row]);
+        return new Holiday(names[nameIds[row]], date, date.getDayOfWeek(), cities[cityIds[row]], TYPES[types[row]]);
+    }
+
+    /**
+     * @param row row index
+     * @return the row's date as an epoch day
+     */
+    public int epochDay(int row) {
+        return epochDays[row];
+    }
+
+    /**
+     * @param row row index
+     * @return the row's type
+     */
+    public Holiday.Type type(int row) {
+        return TYPES[types[row]];
+    }
+
+    /**
+     * @param row row index
+     * @return index of the row's name in the name table
+     */
+    public int nameId(int row) {
+        return nameIds[row];
+    }
+
+    /**
+     * @param row row index
+     * @return index of the row's city in the city table
+     */
+    public int cityId(int row) {
+        return cityIds[row];
+    }
+
+    /**
+     * @return number of distinct names
+     */
+    public int nameCount() {
+        return names.length;
+    }
+
+    /**
+     * @param nameId index in the name table
+     * @return the interned name
+     */
+    public String name(int nameId) {
+        return names[nameId];
+    }
+
+    /**
+     * @return number of distinct cities
+     */
+    public int cityCount() {
+        return cities.length;
+    }
+
+    /**
+     * @param cityId index in the city table
+     * @return the interned city
+     */
+    public String city(int cityId) {
+        return cities[cityId];
+    }
+
+    /**
+     * Returns a read-only list view of selected rows.
+     *
+     * @param rows row indexes in the order they should appear; not copied
+     * @return holidays for {@code rows}, materialised on access
+     */
+    public List<Holiday> rows(int[] rows) {
+        return new RowList(rows);
+    }
+
+    /**
+     * Growable columns filled one holiday at a time, so a parse retains primitive rows rather than
+     * {@link Holiday} objects.
+     */
+    static final class Builder {
+        private int[] epochDays = new int[16];
+        private byte[] types = new byte[16];
+        private int[] nameIds = new int[16];
+        private int[] cityIds = new int[16];
+        private final Map<String, Integer> nameIndex = new HashMap<>();
+        private final Map<String, Integer> cityIndex = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<String> cities = new ArrayList<>();
+        private int size;
+
+        /**
+         * Adds a row after the existing ones.
+         *
+         * @param h holiday to store
+         */
+        void add(Holiday h) {
+            ensureCapacity(size + 1);
+            epochDays[size] = (int) h.getDate().toEpochDay();
+            types[size] = (byte) h.getType().ordinal();
+            nameIds[size] = intern(h.getName(), nameIndex, names);
+            cityIds[size] = intern(h.getCity(), cityIndex, cities);
+            size++;
+        }
+
+        /**
+         * Adds the rows of another builder after the existing ones, remapping its name and city tables.
+         *
+         * @param next builder holding the following rows; not modified
+         */
+        void addAll(Builder next) {
+            ensureCapacity(size + next.size);
+            int[] nameRemap = new int[next.names.size()];
+            for (int i = 0; i < nameRemap.length; i++) {
+                nameRemap[i] = intern(next.names.get(i), nameIndex, names);
+            }
+            int[] cityRemap = new int[next.cities.size()];
+            for (int i = 0; i < cityRemap.length; i++) {
+                cityRemap[i] = intern(next.cities.get(i), cityIndex, cities);
+            }
+            System.arraycopy(next.epochDays, 0, epochDays, size, next.size);
+            System.arraycopy(next.types, 0, types, size, next.size);
+            for (int i = 0; i < next.size; i++) {
+                nameIds[size + i] = nameRemap[next.nameIds[i]];
+                cityIds[size + i] = cityRemap[next.cityIds[i]];
+            }
+            size += next.size;
+        }
+
+        /**
+         * @return a store holding the rows added so far; the builder must not be used afterwards
+         */
+        ColumnarHolidayStore build() {
+            return new ColumnarHolidayStore(Arrays.copyOf(epochDays, size), Arrays.copyOf(types, size),
+                    Arrays.copyOf(nameIds, size), Arrays.copyOf(cityIds, size),
+                    names.toArray(new String[0]), cities.toArray(new String[0]));
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= epochDays.length) {
+                return;
+            }
+            int grown = Math.max(capacity, epochDays.length * 2);
+            epochDays = Arrays.copyOf(epochDays, grown);
+            types = Arrays.copyOf(types, grown);
+            nameIds = Arrays.copyOf(nameIds, grown);
+            cityIds = Arrays.copyOf(cityIds, grown);
+        }
+    }
+
+    /**
+     * Read-only list over a subset of the store's rows.
+     */
+    private final class RowList extends AbstractList<Holiday> implements RandomAccess {
+        private final int[] rows;
+
+        RowList(int[] rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Holiday get(int index) {
+            return ColumnarHolidayStore.this.get(rows[index]);
+        }
+
+        @Override
+        public int size() {
+            return rows.length;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.accenture.holiday.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A response body together with its gzip encoding, compressed once when the body is created.
+ *
+ * <p>Bodies are cached and served many times, so compression runs at the highest level and its cost
+ * is paid once per body rather than per request. Bodies too small to benefit are not compressed.</p>
+ */
+public final class EncodedBody {
+
+    /** Bodies smaller than this are sent as is; gzip framing would outweigh the savings. */
+    static final int MIN_COMPRESS_BYTES = 256;
+
+    private final byte[] identity;
+    private final byte[] gzip;
+
+    private EncodedBody(byte[] identity, byte[] gzip) {
+        this.identity = identity;
+        this.gzip = gzip;
+    }
+
+    /**
+     * @param identity uncompressed body; not copied, callers must not modify it afterwards
+     * @return the body with its gzip encoding if that is smaller
+     */
+    public static EncodedBody of(byte[] identity) {
+        byte[] gzip = identity.length < MIN_COMPRESS_BYTES ? null : gzip(identity);
+        return new EncodedBody(identity, gzip != null && gzip.length < identity.length ? gzip : null);
+    }
+
+    /**
+     * @param identity uncompressed body; not copied, callers must not modify it afterwards
+     * @return the body without a gzip encoding, for bodies served once and not worth compressing
+     */
+    public static EncodedBody identity(byte[] identity) {
+        return new EncodedBody(identity, null);
+    }
+
+    /**
+     * @return the uncompressed body; callers must not modify it
+     */
+    public byte[] getIdentity() {
+        return identity;
+    }
+
+    /**
+     * @return the gzip-encoded body, or {@code null} if the body is not worth compressing; callers must not modify it
+     */
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    /**
+     * @param acceptEncoding {@code Accept-Encoding} header value; may be {@code null}
+     * @return the gzip body if the client accepts gzip and one exists, otherwise {@code null}
+     */
+    public byte[] gzipFor(String acceptEncoding) {
+        return gzip != null && acceptsGzip(acceptEncoding) ? gzip : null;
+    }
+
+    /**
+     * Checks whether an {@code Accept-Encoding} header allows gzip, honouring {@code q=0} exclusions.
+     *
+     * @param acceptEncoding header value; may be {@code null}
+     * @return {@code true} if gzip, or {@code *} without an explicit gzip entry, has a non-zero quality
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepted = quality(params) > 0;
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return accepted;
+            }
+            if (coding.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static double quality(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException e) {
+            // In-memory streams do not fail.
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,64 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+import org.accenture.holiday.model.HolidayQuery;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Streams the answers to a batch of holiday queries as one JSON array.
+ *
+ * <p>Output has the form {@code [{"query":{...},"holidays":[...]}, ...]}, one element per query in
+ * request order. Holidays are written to the stream one at a time as they are selected, so a large
+ * batch never materialises its full result in memory.</p>
+ */
+@Component
+public class HolidayBatchWriter {
+
+    /** Mapper used to serialize queries and holidays; the same one Spring MVC uses for responses. */
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Constructs a new {@code HolidayBatchWriter}.
+     *
+     * @param jsonMapper mapper used to serialize queries and holidays
+     */
+    public HolidayBatchWriter(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Answers every query from {@code snapshot} and writes the results to {@code out}.
+     *
+     * @param snapshot snapshot to answer all queries from, for a consistent view
+     * @param queries  queries in request order
+     * @param out      destination stream; not closed
+     */
+    public void write(HolidaySnapshot snapshot, List<HolidayQuery> queries, OutputStream out) {
+        // The generator is closed to flush it, but the servlet owns the stream.
+        try (JsonGenerator generator = jsonMapper.writer().without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .createGenerator(out)) {
+            generator.writeStartArray();
+            for (HolidayQuery query : queries) {
+                generator.writeStartObject();
+                generator.writeName("query");
+                generator.writePOJO(query);
+                generator.writeName("holidays");
+                generator.writeStartArray();
+                Iterator<Holiday> it = snapshot.select(query).iterator();
+                while (it.hasNext()) {
+                    generator.writePOJO(it.next());
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package org.accenture.holiday.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.accenture.holiday.model.Holiday;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Pushes a server-sent event to subscribed clients when a holiday day starts.
+ *
+ * <p>A single scheduler thread wakes at the start of each day in the configured time zone, looks the
+ * day up by binary search in the date-ordered data and sends each subscriber the holidays of that day
+ * matching its filter. Days without matching holidays send nothing. Clients therefore hold one idle
+ * connection instead of polling, and the server does one lookup per day however many are connected.</p>
+ *
+ * <p>Each event is named {@value #EVENT_NAME}, has the ISO date as its id and a JSON array of
+ * holidays as its data. A day is published at most once, even if the timer fires early or the clock
+ * steps back. Between events every subscriber gets a comment every {@code holidays.events.heartbeat-ms}
+ * so idle proxies keep the connection open and dead clients are found within one interval.</p>
+ *
+ * <p>Sends run on a small bounded pool, so a slow or half-open client cannot hold up the others.
+ * A subscriber whose send fails, whose sends have not progressed for a heartbeat interval, or whose
+ * send does not fit in the pool's queue is dropped; it reconnects if it is still alive.</p>
+ */
+@Component
+public class HolidayEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(HolidayEventPublisher.class);
+
+    /** Name of the events sent when a holiday day starts. */
+    static final String EVENT_NAME = "holiday";
+    /** Default interval between heartbeat comments, in milliseconds. */
+    static final long DEFAULT_HEARTBEAT_MILLIS = 30_000;
+    /** Default number of threads sending events. */
+    static final int DEFAULT_SEND_THREADS = 4;
+    /** Sends that may wait for a sender thread; further sends drop their subscriber. */
+    private static final int SEND_QUEUE = 10_000;
+
+    /** Repository holding the main snapshot. */
+    private final HolidayRepository holidayRepository;
+    /** Registry answering city subscriptions when enabled. */
+    private final HolidayRegistry holidayRegistry;
+    /** Whether the day-start scheduler runs. */
+    private final boolean enabled;
+    /** Clock in the zone that defines when a day starts. */
+    private final Clock clock;
+    /** Timeout of a subscription in milliseconds, after which the client reconnects. */
+    private final long timeoutMillis;
+    /** Interval between heartbeat comments in milliseconds; {@code 0} disables them. */
+    private final long heartbeatMillis;
+    /** Number of threads sending events. */
+    private final int sendThreads;
+
+    /** Currently connected subscribers. */
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    /** Scheduler thread, or {@code null} if not started. */
+    private ScheduledExecutorService scheduler;
+    /** Threads sending events, or {@code null} if not started, in which case sends run on the caller. */
+    private ExecutorService sender;
+    /** Latest day whose events were published; {@code null} before the first. */
+    private volatile LocalDate lastPublished;
+
+    /**
+     * Constructs a new {@code HolidayEventPublisher}.
+     *
+     * @param holidayRepository repository holding the main snapshot
+     * @param holidayRegistry   registry answering city subscriptions when enabled
+     * @param enabled           whether the day-start scheduler runs, from {@code holidays.events.enabled}
+     * @param zone              time zone in which days start, from {@code holidays.events.zone}; blank for the system zone
+     * @param timeoutMillis     subscription timeout, from {@code holidays.events.timeout-ms}
+     */
+    public HolidayEventPublisher(HolidayRepository holidayRepository, HolidayRegistry holidayRegistry,
+                                 boolean enabled, String zone, long timeoutMillis) {
+        this(holidayRepository, holidayRegistry, enabled, zone, timeoutMillis, DEFAULT_HEARTBEAT_MILLIS,
+                DEFAULT_SEND_THREADS);
+    }
+
+    /**
+     * Constructs a new {@code HolidayEventPublisher}.
+     *
+     * @param holidayRepository repository holding the main snapshot
+     * @param holidayRegistry   registry answering city subscriptions when enabled
+     * @param enabled           whether the day-start scheduler runs, from {@code holidays.events.enabled}
+     * @param zone              time zone in which days start, from {@code holidays.events.zone}; blank for the system zone
+     * @param timeoutMillis     subscription timeout, from {@code holidays.events.timeout-ms}
+     * @param heartbeatMillis   interval between heartbeat comments, from {@code holidays.events.heartbeat-ms}; 0 disables them
+     * @param sendThreads       number of threads sending events, from {@code holidays.events.send-threads}
+     */
+    @Autowired
+    public HolidayEventPublisher(HolidayRepository holidayRepository, HolidayRegistry holidayRegistry,
+                                 @Value("${holidays.events.enabled:true}") boolean enabled,
+                                 @Value("${holidays.events.zone:}") String zone,
+                                 @Value("${holidays.events.timeout-ms:3600000}") long timeoutMillis,
+                                 @Value("${holidays.events.heartbeat-ms:" + DEFAULT_HEARTBEAT_MILLIS + "}") long heartbeatMillis,
+                                 @Value("${holidays.events.send-threads:" + DEFAULT_SEND_THREADS + "}") int sendThreads) {
+        this(holidayRepository, holidayRegistry, enabled,
+                zone == null || zone.isBlank() ? Clock.systemDefaultZone() : Clock.system(ZoneId.of(zone)), timeoutMillis,
+                heartbeatMillis, sendThreads);
+    }
+
+    HolidayEventPublisher(HolidayRepository holidayRepository, HolidayRegistry holidayRegistry, boolean enabled,
+                          Clock clock, long timeoutMillis, long heartbeatMillis, int sendThreads) {
+        this.holidayRepository = holidayRepository;
+        this.holidayRegistry = holidayRegistry;
+        this.enabled = enabled;
+        this.clock = clock;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.sendThreads = sendThreads;
+    }
+
+    /**
+     * Starts the scheduler and sender threads, arms the scheduler for the next day start and starts
+     * the heartbeat. The current day counts as published.
+     */
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        lastPublished = today();
+        scheduler = Executors.newSingleThreadScheduledExecutor(daemon("holiday-events"));
+        sender = new ThreadPoolExecutor(sendThreads, sendThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(SEND_QUEUE), daemon("holiday-events-send"));
+        schedule();
+        if (heartbeatMillis > 0) {
+            scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return r -> {
+            Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Stops the scheduler and completes all open subscriptions.
+     */
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (sender != null) {
+            sender.shutdownNow();
+        }
+        subscriptions.forEach(s -> s.emitter.complete());
+        subscriptions.clear();
+    }
+
+    /**
+     * @return today's date in the configured time zone
+     */
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    /**
+     * Registers a subscriber for holiday-day events.
+     *
+     * @param type optional holiday type to receive; all types if {@code null}
+     * @param city optional city to receive, case-insensitive; all cities if {@code null}
+     * @return the emitter to return from the request handler
+     */
+    public SseEmitter subscribe(Holiday.Type type, String city) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscription subscription = new Subscription(emitter, type, city);
+        subscriptions.add(subscription);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        try {
+            // Commits the response headers now rather than at the first holiday, possibly days away.
+            emitter.send(SseEmitter.event().comment("subscribed"));
+        } catch (IOException e) {
+            subscriptions.remove(subscription);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * @return number of currently connected subscribers
+     */
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Sends the holidays of {@code day} to every subscriber with matching holidays.
+     *
+     * @param day day that just started
+     * @return number of events sent, or handed to the sender threads once started
+     */
+    int publish(LocalDate day) {
+        List<Holiday> all = holidayRepository.snapshot().on(day);
+        int sent = 0;
+        for (Subscription subscription : subscriptions) {
+            List<Holiday> holidays = subscription.holidaysOn(day, all);
+            if (holidays.isEmpty()) {
+                continue;
+            }
+            if (dispatch(subscription, SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .id(day.toString())
+                    .data(holidays, MediaType.APPLICATION_JSON), false)) {
+                sent++;
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * Sends a heartbeat comment to every subscriber.
+     *
+     * @return number of heartbeats sent, or handed to the sender threads once started
+     */
+    int heartbeat() {
+        int sent = 0;
+        for (Subscription subscription : subscriptions) {
+            if (dispatch(subscription, SseEmitter.event().comment("heartbeat"), true)) {
+                sent++;
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * Sends {@code event} to one subscriber, on the sender threads once started.
+     *
+     * @param optional whether the event may be skipped while an earlier one is still being sent
+     * @return {@code false} if the event was skipped or the subscriber dropped instead
+     */
+    private boolean dispatch(Subscription subscription, SseEmitter.SseEventBuilder event, boolean optional) {
+        long now = System.nanoTime();
+        if (subscription.inFlight.get() > 0) {
+            if (heartbeatMillis > 0 && now - subscription.progressNanos > TimeUnit.MILLISECONDS.toNanos(heartbeatMillis)) {
+                // No send finished for a whole interval: the client reads too slowly or is half-open.
+                drop(subscription, new IOException("no event delivered for " + heartbeatMillis + " ms"));
+                return false;
+            }
+            if (optional) {
+                return false;
+            }
+        }
+        if (subscription.inFlight.getAndIncrement() == 0) {
+            subscription.progressNanos = now;
+        }
+        if (sender == null) {
+            return send(subscription, event);
+        }
+        try {
+            sender.execute(() -> send(subscription, event));
+            return true;
+        } catch (RejectedExecutionException e) {
+            subscription.inFlight.decrementAndGet();
+            drop(subscription, e);
+            return false;
+        }
+    }
+
+    private boolean send(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        try {
+            subscription.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // The client went away; the emitter callbacks may not have fired yet.
+            drop(subscription, e);
+            return false;
+        } finally {
+            subscription.progressNanos = System.nanoTime();
+            subscription.inFlight.decrementAndGet();
+        }
+    }
+
+    private void drop(Subscription subscription, Exception cause) {
+        if (subscriptions.remove(subscription)) {
+            subscription.emitter.completeWithError(cause);
+        }
+    }
+
+    /**
+     * @return time from now until the next day starts in the configured zone
+     */
+    Duration untilNextDay() {
+        Instant next = today().plusDays(1).atStartOfDay(clock.getZone()).toInstant();
+        return Duration.between(clock.instant(), next);
+    }
+
+    private void schedule() {
+        if (scheduler == null) {
+            return;
+        }
+        // Wake slightly late so the new day has certainly started on this clock.
+        long delay = untilNextDay().toMillis() + 1;
+        scheduler.schedule(this::tick, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Publishes today's events unless today was already published, then re-arms for the next day start.
+     *
+     * @return number of events sent
+     */
+    int tick() {
+        try {
+            LocalDate day = today();
+            LocalDate last = lastPublished;
+            if (last != null && !day.isAfter(last)) {
+                // Woke early, or the clock stepped back.
+                return 0;
+            }
+            lastPublished = day;
+            int sent = publish(day);
+            if (sent > 0) {
+                log.info("Sent {} holiday events for {}", sent, day);
+            }
+            return sent;
+        } catch (RuntimeException e) {
+            log.warn("Could not publish holiday events", e);
+            return 0;
+        } finally {
+            schedule();
+        }
+    }
+
+    /**
+     * A connected client and its filter.
+     */
+    private final class Subscription {
+        private final SseEmitter emitter;
+        private final Holiday.Type type;
+        private final String city;
+        /** Events to this subscriber queued or being sent. */
+        private final AtomicInteger inFlight = new AtomicInteger();
+        /** {@link System#nanoTime()} of the last send queued while idle, or finished. */
+        private volatile long progressNanos;
+
+        private Subscription(SseEmitter emitter, Holiday.Type type, String city) {
+            this.emitter = emitter;
+            this.type = type;
+            this.city = city;
+        }
+
+        private List<Holiday> holidaysOn(LocalDate day, List<Holiday> all) {
+            List<Holiday> candidates = all;
+            Predicate<Holiday> filter = type == null ? h -> true : h -> h.getType() == type;
+            if (city != null && holidayRegistry.isEnabled()) {
+                candidates = holidayRegistry.partition(city, day.getYear()).on(day);
+            } else if (city != null) {
+                filter = filter.and(HolidayRegistry.matcher(city, null));
+            }
+            return candidates.stream().filter(filter).toList();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Streams holidays in date order as NDJSON or CSV for bulk export.
+ *
+ * <p>Holidays are read one at a time from a snapshot's date-ordered view and written straight to
+ * the output, so memory use does not depend on the size of the data set. Within a date, holidays
+ * keep their file order, which makes a position in the export addressable by a date and the number
+ * of holidays already seen on that date.</p>
+ */
+@Component
+public class HolidayExportWriter {
+
+    /** Supported output formats. */
+    public enum Format {
+        /** One JSON object per line. */
+        NDJSON,
+        /** RFC 4180 CSV with a header row. */
+        CSV
+    }
+
+    /** CSV header, matching the JSON property names. */
+    private static final String CSV_HEADER = "name,date,dayOfWeek,city,type";
+
+    /** Mapper used for NDJSON lines; the same one Spring MVC uses for responses. */
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Constructs a new {@code HolidayExportWriter}.
+     *
+     * @param jsonMapper mapper used to serialize NDJSON lines
+     */
+    public HolidayExportWriter(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Writes the holidays of {@code snapshot} from a cursor position onwards.
+     *
+     * @param snapshot snapshot to export
+     * @param from     position in {@link HolidaySnapshot#byDate()} to start at
+     * @param skip     number of matching holidays to skip first, e.g. those on the cursor date already received
+     * @param filter   holidays to include
+     * @param format   output format
+     * @param out      destination stream
+     * @throws IOException if writing fails
+     */
+    public void write(HolidaySnapshot snapshot, int from, int skip, Predicate<Holiday> filter, Format format,
+                      OutputStream out) throws IOException {
+        List<Holiday> byDate = snapshot.byDate();
+        if (format == Format.CSV) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+            for (int i = from; i < byDate.size(); i++) {
+                Holiday h = byDate.get(i);
+                if (filter.test(h) && skip-- <= 0) {
+                    writeCsv(writer, h);
+                }
+            }
+            writer.flush();
+        } else {
+            // Root values are separated by "\n"; the last line gets its terminator explicitly. Closing the
+            // generator flushes it but leaves the caller's stream open.
+            try (JsonGenerator generator = jsonMapper.writer().without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                    .withRootValueSeparator("\n").createGenerator(out)) {
+                boolean any = false;
+                for (int i = from; i < byDate.size(); i++) {
+                    Holiday h = byDate.get(i);
+                    if (filter.test(h) && skip-- <= 0) {
+                        generator.writePOJO(h);
+                        any = true;
+                    }
+                }
+                if (any) {
+                    generator.writeRaw('\n');
+                }
+            }
+        }
+    }
+
+    private static void writeCsv(Writer writer, Holiday h) throws IOException {
+        writeCsvField(writer, h.getName());
+        writer.write(',');
+        writer.write(h.getDate().toString());
+        writer.write(',');
+        writer.write(h.getDayOfWeek().name());
+        writer.write(',');
+        writeCsvField(writer, h.getCity());
+        writer.write(',');
+        writer.write(h.getType().name());
+        writer.write("\r\n");
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,276 @@
+package org.accenture.holiday.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reloads the holidays file in the background whenever it changes on disk.
+ *
+ * <p>The parent directory is registered with a {@link WatchService} so changes are picked up
+ * promptly. Because watch events are not delivered on every file system (network shares, some
+ * container mounts), the file's modification time and size are also compared on every poll
+ * interval; a reload happens only when that fingerprint actually differs from the one last loaded.</p>
+ *
+ * <p>Reloads run on a single daemon thread and publish through {@link HolidayRepository}, so
+ * request threads never wait on parsing. The same thread refreshes the {@link HolidayRegistry}
+ * catalogue, whose directory is watched too when the registry is enabled.</p>
+ */
+@Component
+public class HolidayFileWatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(HolidayFileWatcher.class);
+
+    /** Repository to reload when the file changes. */
+    private final HolidayRepository holidayRepository;
+    /** Registry whose catalogue is refreshed on every poll, or {@code null}. */
+    private final HolidayRegistry holidayRegistry;
+    /** Whether background reloading is enabled. */
+    private final boolean enabled;
+    /** Maximum time between two fingerprint checks, in milliseconds. */
+    private final long pollIntervalMillis;
+
+    /** Watch service on the parent directory, or {@code null} if registration failed. */
+    private WatchService watchService;
+    /** Background thread running {@link #run()}. */
+    private Thread thread;
+    /** Fingerprint of the file as it was when last loaded. */
+    private volatile Fingerprint loaded;
+    /** Fingerprint of the last file version whose reload was rejected. */
+    private volatile Fingerprint rejected;
+    /** Set when the watcher is stopping. */
+    private volatile boolean stopped;
+
+    /**
+     * Constructs a new {@code HolidayFileWatcher}.
+     *
+     * @param holidayRepository  repository to reload when the file changes
+     * @param enabled            whether background reloading is enabled, from {@code holidays.watch.enabled}
+     * @param pollIntervalMillis fallback poll interval, from {@code holidays.watch.poll-interval-ms}
+     */
+    public HolidayFileWatcher(HolidayRepository holidayRepository, boolean enabled, long pollIntervalMillis) {
+        this(holidayRepository, null, enabled, pollIntervalMillis);
+    }
+
+    /**
+     * Constructs a new {@code HolidayFileWatcher}.
+     *
+     * @param holidayRepository  repository to reload when the file changes
+     * @param holidayRegistry    registry whose catalogue is refreshed on every poll; may be {@code null}
+     * @param enabled            whether background reloading is enabled, from {@code holidays.watch.enabled}
+     * @param pollIntervalMillis fallback poll interval, from {@code holidays.watch.poll-interval-ms}
+     */
+    @Autowired
+    public HolidayFileWatcher(HolidayRepository holidayRepository, HolidayRegistry holidayRegistry,
+                              @Value("${holidays.watch.enabled:true}") boolean enabled,
+                              @Value("${holidays.watch.poll-interval-ms:2000}") long pollIntervalMillis) {
+        this.holidayRepository = holidayRepository;
+        this.holidayRegistry = holidayRegistry;
+        this.enabled = enabled;
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    /**
+     * Records the fingerprint of the initially loaded file and starts the watch thread.
+     */
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        Path file = holidayRepository.getHolidaysFile();
+        loaded = Fingerprint.of(file);
+        watchService = register(file);
+        if (watchService != null && holidayRegistry != null && holidayRegistry.isEnabled()) {
+            registerDirectory(watchService, holidayRegistry.getDirectory());
+        }
+        thread = new Thread(this::run, "holiday-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the watch thread and releases the watch service.
+     */
+    @PreDestroy
+    void stop() {
+        stopped = true;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debug("Failed to close watch service", e);
+            }
+        }
+    }
+
+    /**
+     * Refreshes from the file if its fingerprint differs from the one last loaded; appended lines
+     * are ingested incrementally where the repository allows it.
+     *
+     * @return {@code true} if a new snapshot was published
+     */
+    boolean checkForChange() {
+        Path file = holidayRepository.getHolidaysFile();
+        Fingerprint current = Fingerprint.of(file);
+        if (current == null || current.equals(loaded) || current.equals(rejected)) {
+            return false;
+        }
+        try {
+            HolidaySnapshot snapshot = holidayRepository.refresh();
+            loaded = current;
+            log.info("Reloaded {} holidays from {} in {} ms", snapshot.size(), file,
+                    holidayRepository.getLastReloadDuration().toMillis());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // Retry only once the file changes again, e.g. when the writer has finished.
+            rejected = current;
+            log.warn("Reload of {} rejected; keeping snapshot version {}", file,
+                    holidayRepository.snapshot().getVersion(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Refreshes the registry catalogue; files it finds unchanged cost one attribute read each.
+     *
+     * @return {@code true} if a registry file was added, changed or removed
+     */
+    boolean checkRegistry() {
+        if (holidayRegistry == null || !holidayRegistry.isEnabled()) {
+            return false;
+        }
+        try {
+            return holidayRegistry.refresh();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Refresh of registry directory {} failed; keeping its catalogue", holidayRegistry.getDirectory(), e);
+            return false;
+        }
+    }
+
+    private void run() {
+        while (!stopped) {
+            try {
+                awaitChange();
+                checkForChange();
+                checkRegistry();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Blocks until a watch event arrives for the parent directory or the poll interval elapses.
+     */
+    private void awaitChange() throws InterruptedException {
+        if (watchService == null) {
+            TimeUnit.MILLISECONDS.sleep(pollIntervalMillis);
+            return;
+        }
+        WatchKey key = watchService.poll(pollIntervalMillis, TimeUnit.MILLISECONDS);
+        if (key != null) {
+            // Events are only a hint; the fingerprint decides whether the file really changed.
+            key.pollEvents();
+            key.reset();
+        }
+    }
+
+    private static void registerDirectory(WatchService service, Path dir) {
+        try {
+            dir.register(service,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException | UnsupportedOperationException e) {
+            log.info("File watching unavailable for {}; falling back to polling", dir);
+        }
+    }
+
+    private static WatchService register(Path file) {
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir == null || !Files.isDirectory(dir)) {
+            return null;
+        }
+        WatchService service = null;
+        try {
+            service = FileSystems.getDefault().newWatchService();
+            dir.register(service,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            return service;
+        } catch (IOException | UnsupportedOperationException e) {
+            log.info("File watching unavailable for {}; falling back to polling", dir);
+            if (service != null) {
+                try {
+                    service.close();
+                } catch (IOException ignored) {
+                    // nothing left to release
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Modification time and size of a file, used to detect changes cheaply.
+     */
+    private static final class Fingerprint {
+        private final long modifiedMillis;
+        private final long size;
+
+        private Fingerprint(long modifiedMillis, long size) {
+            this.modifiedMillis = modifiedMillis;
+            this.size = size;
+        }
+
+        /**
+         * @return the fingerprint of {@code file}, or {@code null} if it cannot be read
+         */
+        static Fingerprint of(Path file) {
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                return new Fingerprint(attrs.lastModifiedTime().toMillis(), attrs.size());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Fingerprint)) {
+                return false;
+            }
+            Fingerprint other = (Fingerprint) o;
+            return modifiedMillis == other.modifiedMillis && size == other.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(modifiedMillis, size);
+        }
+    }
+}
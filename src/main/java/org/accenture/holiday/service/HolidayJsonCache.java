@@ -0,0 +1,269 @@
+package org.accenture.holiday.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Caches the serialized JSON bytes of query results for the currently published snapshot.
+ *
+ * <p>The API answers a small set of distinct queries (type, type and month, search keyword)
+ * against data that rarely changes, so each result is serialized once per snapshot and served
+ * as raw bytes afterwards. Entries belong to a generation tied to a snapshot version; when a new
+ * snapshot is published the whole generation is dropped at once.</p>
+ *
+ * <p>Each entry carries a strong ETag derived from the snapshot, so clients can revalidate with
+ * {@code If-None-Match}, and is gzip-compressed once when it is cached, so compressed responses cost
+ * no CPU per request. Results that are not cached, because the generation is full or the request
+ * holds an outdated snapshot, are served uncompressed rather than compressed for a single use.</p>
+ *
+ * <p>Snapshots of {@link HolidayRegistry} partitions are cached under their own scope, one
+ * generation per partition, so they neither displace nor share ETags with the main snapshot.</p>
+ */
+@Component
+public class HolidayJsonCache {
+
+    /**
+     * Separates a scope from a variant suffix, e.g. another representation of the same snapshot;
+     * {@link #evict(String)} drops a scope's variants with it.
+     */
+    public static final String VARIANT_SEPARATOR = "#";
+    /**
+     * Appended inside the quotes of an ETag to name the gzip-encoded body of the same content; strong
+     * validators must differ between content codings.
+     */
+    public static final String GZIP_ETAG_SUFFIX = "-gz";
+
+    /** Mapper used to serialize results; the same one Spring MVC uses for responses. */
+    private final JsonMapper jsonMapper;
+    /** Maximum number of cached queries per snapshot; further queries are serialized uncached. */
+    private final int maxEntries;
+    /** Cache generation for the most recently seen snapshot. */
+    private final AtomicReference<Generation> generation = new AtomicReference<>(new Generation(null, HolidaySnapshot.EMPTY, false));
+    /** Cache generations of registry partitions and representation variants, by scope. */
+    private final Map<String, AtomicReference<Generation>> scopes = new ConcurrentHashMap<>();
+    /** Lookups answered from the cache. */
+    private final LongAdder hits = new LongAdder();
+    /** Lookups that had to serialize. */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs a new {@code HolidayJsonCache}.
+     *
+     * @param jsonMapper mapper used to serialize results
+     * @param maxEntries maximum number of cached queries per snapshot, from {@code holidays.json-cache.max-entries}
+     */
+    public HolidayJsonCache(JsonMapper jsonMapper,
+                            @Value("${holidays.json-cache.max-entries:1024}") int maxEntries) {
+        this.jsonMapper = jsonMapper;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the serialized result of {@code query} against {@code snapshot}, computing and caching
+     * it on first use.
+     *
+     * @param snapshot snapshot to answer from
+     * @param key      normalized query key; equal keys must denote equal queries
+     * @param query    computes the result list from the snapshot
+     * @return the cached or freshly serialized entry
+     */
+    public Entry get(HolidaySnapshot snapshot, String key, Function<HolidaySnapshot, ? extends List<?>> query) {
+        return get(null, snapshot, key, query);
+    }
+
+    /**
+     * Like {@link #get(HolidaySnapshot, String, Function)}, for a snapshot cached under its own scope.
+     *
+     * @param scope    scope of {@code snapshot}, e.g. a registry partition; {@code null} for the main snapshot
+     * @param snapshot snapshot to answer from
+     * @param key      normalized query key; equal keys must denote equal queries
+     * @param query    computes the result list from the snapshot
+     * @return the cached or freshly serialized entry
+     */
+    public Entry get(String scope, HolidaySnapshot snapshot, String key, Function<HolidaySnapshot, ? extends List<?>> query) {
+        Generation current = generationFor(scope, snapshot);
+        Entry entry = current.entries.get(key);
+        if (entry != null) {
+            hits.increment();
+            return entry;
+        }
+        misses.increment();
+        byte[] json = jsonMapper.writeValueAsBytes(query.apply(snapshot));
+        if (current.detached || current.entries.size() >= maxEntries) {
+            return new Entry(EncodedBody.identity(json), current.eTag);
+        }
+        entry = new Entry(EncodedBody.of(json), current.eTag);
+        Entry raced = current.entries.putIfAbsent(key, entry);
+        return raced != null ? raced : entry;
+    }
+
+    /**
+     * @return number of lookups answered from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of lookups that had to serialize the result
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @param snapshot snapshot whose ETag is requested
+     * @return the strong ETag, including quotes, for responses built from {@code snapshot}
+     */
+    public String eTag(HolidaySnapshot snapshot) {
+        return eTag(null, snapshot);
+    }
+
+    /**
+     * @param scope    scope of {@code snapshot}; {@code null} for the main snapshot
+     * @param snapshot snapshot whose ETag is requested
+     * @return the strong ETag, including quotes, for responses built from {@code snapshot}
+     */
+    public String eTag(String scope, HolidaySnapshot snapshot) {
+        return generationFor(scope, snapshot).eTag;
+    }
+
+    /**
+     * Drops the cache generations of a scope whose snapshot is no longer served, including its variants.
+     *
+     * @param scope scope to drop
+     */
+    public void evict(String scope) {
+        String variants = scope + VARIANT_SEPARATOR;
+        scopes.keySet().removeIf(k -> k.equals(scope) || k.startsWith(variants));
+    }
+
+    private static String eTagOf(String scope, HolidaySnapshot snapshot) {
+        String tag = Long.toString(snapshot.getLoadedAt().toEpochMilli(), 36) + "-" + snapshot.getVersion();
+        return "\"" + (scope == null ? tag : Integer.toHexString(scope.hashCode()) + "-" + tag) + "\"";
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header value against an ETag and its gzip variant.
+     *
+     * @param ifNoneMatch header value; may be {@code null}, {@code *} or a comma-separated list
+     * @param eTag        current ETag of the identity body, including quotes
+     * @return {@code true} if the client's copy is current and a 304 may be sent
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        return matchedETag(ifNoneMatch, eTag) != null;
+    }
+
+    /**
+     * Like {@link #matches(String, String)}, naming the representation the client holds.
+     *
+     * @param ifNoneMatch header value; may be {@code null}, {@code *} or a comma-separated list
+     * @param eTag        current ETag of the identity body, including quotes
+     * @return {@code eTag} or its {@link #gzipETag gzip variant}, whichever the header names, or {@code null} if neither
+     */
+    public static String matchedETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return null;
+        }
+        String gzipETag = gzipETag(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                // If-None-Match uses weak comparison.
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return eTag;
+            }
+            if (tag.equals(gzipETag)) {
+                return gzipETag;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param eTag ETag of an identity body, including quotes
+     * @return the ETag of the gzip encoding of the same body
+     */
+    public static String gzipETag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+    }
+
+    private Generation generationFor(String scope, HolidaySnapshot snapshot) {
+        AtomicReference<Generation> ref = scope == null ? generation
+                : scopes.computeIfAbsent(scope, k -> new AtomicReference<>(new Generation(k, HolidaySnapshot.EMPTY, false)));
+        Generation current = ref.get();
+        while (current.version != snapshot.getVersion()) {
+            if (current.version > snapshot.getVersion()) {
+                // A request still holding an older snapshot; answer it without polluting the cache.
+                return new Generation(scope, snapshot, true);
+            }
+            Generation next = new Generation(scope, snapshot, false);
+            if (ref.compareAndSet(current, next)) {
+                return next;
+            }
+            current = ref.get();
+        }
+        return current;
+    }
+
+    /**
+     * Serialized response body with its ETag.
+     */
+    public static final class Entry {
+        private final EncodedBody body;
+        private final String eTag;
+
+        private Entry(EncodedBody body, String eTag) {
+            this.body = body;
+            this.eTag = eTag;
+        }
+
+        /**
+         * @return the serialized JSON body; callers must not modify it
+         */
+        public byte[] getBody() {
+            return body.getIdentity();
+        }
+
+        /**
+         * @return the serialized JSON body, with its precomputed gzip encoding if the entry is cached
+         */
+        public EncodedBody getEncodedBody() {
+            return body;
+        }
+
+        /**
+         * @return the strong ETag of the identity body, including quotes; see {@link #gzipETag(String)}
+         */
+        public String getETag() {
+            return eTag;
+        }
+    }
+
+    /**
+     * Cache entries belonging to one snapshot version.
+     */
+    private static final class Generation {
+        private final long version;
+        private final String eTag;
+        /** Whether this generation answers a single outdated request and is never stored. */
+        private final boolean detached;
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+        private Generation(String scope, HolidaySnapshot snapshot, boolean detached) {
+            this.version = snapshot.getVersion();
+            this.eTag = eTagOf(scope, snapshot);
+            this.detached = detached;
+        }
+    }
+}
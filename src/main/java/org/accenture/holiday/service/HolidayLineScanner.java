@@ -0,0 +1,248 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * Single-pass, regex-free parser for holiday lines.
+ *
+ * <p>Recognises the same grammar as {@code HolidayService.LINE_PATTERN}:
+ * {@code "Mandatory|Floating holiday for <Name> on <Word>, <d-MMM-yyyy> in <City>"}, with the name
+ * ending at the first {@code " on "} after which the rest of the line matches. Months are looked up
+ * in a fixed English abbreviation table and the {@link LocalDate} is built directly from the parsed
+ * fields, so the only allocations on the happy path are the name, the city and the result.</p>
+ *
+ * <p>The scanner is deliberately conservative: any line it is not certain about (unusual
+ * whitespace, invalid day-of-month, month abbreviations in another case) is rejected with
+ * {@code null} so the caller can fall back to the regex, which remains the reference behaviour.</p>
+ *
+ * <p>Like the regex, the scanner does not require the day-of-week word to agree with the date; callers
+ * that validate it pass a flag that the scanner sets from the word it has already delimited.</p>
+ */
+public final class HolidayLineScanner {
+
+    private static final String MANDATORY = "Mandatory";
+    private static final String FLOATING = "Floating";
+    private static final String HOLIDAY_FOR = " holiday for ";
+    private static final String ON = " on ";
+    private static final String IN = " in ";
+    /** Month abbreviations as produced by {@code MMM} in {@link java.util.Locale#ENGLISH}. */
+    private static final String[] MONTHS = {"Jan", "Feb", "Mar", "Apr", "May", "Jun",
+            "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+    /** Lower-case day names in {@link DayOfWeek} order. */
+    private static final String[] DAY_NAMES = {"monday", "tuesday", "wednesday", "thursday", "friday",
+            "saturday", "sunday"};
+
+    private HolidayLineScanner() {
+    }
+
+    /**
+     * Parses a single line.
+     *
+     * @param line input line; leading and trailing whitespace is ignored as with {@link String#trim()}
+     * @return the parsed holiday, or {@code null} if the scanner cannot parse the line with certainty
+     */
+    public static Holiday scan(CharSequence line) {
+        return scan(line, null);
+    }
+
+    /**
+     * Parses a single line and checks its day-of-week word against its date.
+     *
+     * @param line        input line; leading and trailing whitespace is ignored as with {@link String#trim()}
+     * @param dayMismatch one-element array, reused by the caller, whose element is set to whether the
+     *                    day-of-week word does not name the date's day; may be {@code null}
+     * @return the parsed holiday, or {@code null} if the scanner cannot parse the line with certainty
+     */
+    static Holiday scan(CharSequence line, boolean[] dayMismatch) {
+        int start = 0;
+        int end = line.length();
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        for (int i = start; i < end; i++) {
+            if (isLineTerminator(line.charAt(i))) {
+                // The regex '.' does not match these; leave such lines to the fallback.
+                return null;
+            }
+        }
+
+        Holiday.Type type;
+        int pos;
+        if (regionMatches(line, start, end, MANDATORY)) {
+            type = Holiday.Type.MANDATORY;
+            pos = start + MANDATORY.length();
+        } else if (regionMatches(line, start, end, FLOATING)) {
+            type = Holiday.Type.FLOATING;
+            pos = start + FLOATING.length();
+        } else {
+            return null;
+        }
+        if (!regionMatches(line, pos, end, HOLIDAY_FOR)) {
+            return null;
+        }
+        int nameStart = pos + HOLIDAY_FOR.length();
+
+        // The name is lazy: try each " on " in turn, starting one character in, until the tail matches.
+        for (int on = nameStart + 1; on + ON.length() <= end; on++) {
+            if (!regionMatches(line, on, end, ON)) {
+                continue;
+            }
+            Holiday holiday = scanTail(line, on + ON.length(), end, nameStart, on, type, dayMismatch);
+            if (holiday != null) {
+                return holiday;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses {@code "<Word>, <d-MMM-yyyy> in <City>"} starting at {@code pos}.
+     */
+    private static Holiday scanTail(CharSequence line, int pos, int end, int nameStart, int nameEnd, Holiday.Type type,
+                                    boolean[] dayMismatch) {
+        int wordStart = pos;
+        while (pos < end && isWordChar(line.charAt(pos))) {
+            pos++;
+        }
+        int wordEnd = pos;
+        if (pos == wordStart || pos + 2 > end || line.charAt(pos) != ',' || line.charAt(pos + 1) != ' ') {
+            return null;
+        }
+        pos += 2;
+
+        int day = 0;
+        int digits = 0;
+        while (pos < end && digits < 2 && isDigit(line.charAt(pos))) {
+            day = day * 10 + (line.charAt(pos) - '0');
+            pos++;
+            digits++;
+        }
+        if (digits == 0 || pos >= end || line.charAt(pos) != '-') {
+            return null;
+        }
+        pos++;
+
+        if (pos + 4 > end || line.charAt(pos + 3) != '-') {
+            return null;
+        }
+        int month = monthOf(line, pos);
+        if (month == 0) {
+            return null;
+        }
+        pos += 4;
+
+        if (pos + 4 > end) {
+            return null;
+        }
+        int year = 0;
+        for (int k = 0; k < 4; k++) {
+            char c = line.charAt(pos + k);
+            if (!isDigit(c)) {
+                return null;
+            }
+            year = year * 10 + (c - '0');
+        }
+        pos += 4;
+
+        if (!regionMatches(line, pos, end, IN)) {
+            return null;
+        }
+        int cityStart = pos + IN.length();
+        if (cityStart >= end) {
+            return null;
+        }
+        if (year == 0 || day < 1 || day > 28 && day > LocalDate.of(year, month, 1).lengthOfMonth()) {
+            // Left to the fallback, whose strict formatter rejects impossible dates and accepts year 0.
+            return null;
+        }
+
+        String name = trimmed(line, nameStart, nameEnd);
+        String city = trimmed(line, cityStart, end);
+        LocalDate date = LocalDate.of(year, month, day);
+        if (dayMismatch != null) {
+            dayMismatch[0] = !namesDay(line, wordStart, wordEnd, date.getDayOfWeek());
+        }
+        return new Holiday(name, date, date.getDayOfWeek(), city, type);
+    }
+
+    /**
+     * Checks a day-of-week word, ignoring case; the full English name and its three-letter
+     * abbreviation are accepted.
+     *
+     * @param text text containing the word
+     * @param from start of the word
+     * @param to   end of the word, exclusive
+     * @param day  day the word should name
+     * @return {@code true} if the word names {@code day}
+     */
+    static boolean namesDay(CharSequence text, int from, int to, DayOfWeek day) {
+        String name = DAY_NAMES[day.ordinal()];
+        int length = to - from;
+        if (length != 3 && length != name.length()) {
+            return false;
+        }
+        for (int k = 0; k < length; k++) {
+            if (Character.toLowerCase(text.charAt(from + k)) != name.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return month number 1–12 for the abbreviation at {@code pos}, or {@code 0} if unknown
+     */
+    private static int monthOf(CharSequence line, int pos) {
+        char c0 = line.charAt(pos);
+        char c1 = line.charAt(pos + 1);
+        char c2 = line.charAt(pos + 2);
+        for (int m = 0; m < MONTHS.length; m++) {
+            String abbr = MONTHS[m];
+            if (abbr.charAt(0) == c0 && abbr.charAt(1) == c1 && abbr.charAt(2) == c2) {
+                return m + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean regionMatches(CharSequence line, int pos, int end, String token) {
+        if (pos + token.length() > end) {
+            return false;
+        }
+        for (int k = 0; k < token.length(); k++) {
+            if (line.charAt(pos + k) != token.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String trimmed(CharSequence line, int from, int to) {
+        while (from < to && line.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && line.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return line.subSequence(from, to).toString();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /** Matches {@code \w} without {@code UNICODE_CHARACTER_CLASS}. */
+    private static boolean isWordChar(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || isDigit(c) || c == '_';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -0,0 +1,116 @@
+package org.accenture.holiday.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exposes load, snapshot and response cache statistics as Micrometer meters.
+ *
+ * <p>Every meter is a function meter polled at scrape time from counters the components already
+ * maintain, so the request and load paths pay nothing beyond an atomic increment. Per-endpoint
+ * latency histograms come from Spring MVC's own {@code http.server.requests} observation, enabled
+ * in {@code application.properties}.</p>
+ */
+@Component
+public class HolidayMetrics implements MeterBinder {
+
+    private final HolidayService holidayService;
+    private final HolidayRepository holidayRepository;
+    private final HolidayJsonCache jsonCache;
+
+    /**
+     * Constructs a new {@code HolidayMetrics}.
+     *
+     * @param holidayService    service whose {@link ParseStatistics} are exported
+     * @param holidayRepository repository whose current snapshot is described
+     * @param jsonCache         response cache whose hit ratio is exported
+     */
+    public HolidayMetrics(HolidayService holidayService, HolidayRepository holidayRepository, HolidayJsonCache jsonCache) {
+        this.holidayService = holidayService;
+        this.holidayRepository = holidayRepository;
+        this.jsonCache = jsonCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ParseStatistics stats = holidayService.getStatistics();
+        FunctionTimer.builder("holidays.parse.duration", stats,
+                        ParseStatistics::getLoads, ParseStatistics::getTotalNanos, TimeUnit.NANOSECONDS)
+                .description("Time spent loading the holidays file, from text or binary snapshot")
+                .register(registry);
+        TimeGauge.builder("holidays.parse.last.duration", stats, TimeUnit.NANOSECONDS, ParseStatistics::getLastNanos)
+                .description("Duration of the most recent load")
+                .register(registry);
+        FunctionCounter.builder("holidays.parse.snapshot.loads", stats, ParseStatistics::getSnapshotLoads)
+                .description("Loads answered from a binary snapshot instead of parsing text")
+                .register(registry);
+        FunctionCounter.builder("holidays.parse.lines.read", stats, ParseStatistics::getLinesRead)
+                .description("Lines read from holidays text files")
+                .register(registry);
+        lines(registry, stats, "accepted", ParseStatistics::getAccepted);
+        lines(registry, stats, "rejected", ParseStatistics::getRejected);
+        lines(registry, stats, "weekend_filtered", ParseStatistics::getWeekendFiltered);
+        FunctionCounter.builder("holidays.parse.lines.day.mismatch", stats, ParseStatistics::getDayMismatches)
+                .description("Parsed lines whose day-of-week word does not name the day of their date")
+                .register(registry);
+
+        Gauge.builder("holidays.snapshot.size", holidayRepository, r -> r.snapshot().size())
+                .description("Holidays in the served snapshot")
+                .register(registry);
+        TimeGauge.builder("holidays.snapshot.age", holidayRepository, TimeUnit.MILLISECONDS, HolidayMetrics::snapshotAgeMillis)
+                .description("Time since the served snapshot was loaded")
+                .register(registry);
+        FunctionCounter.builder("holidays.reloads", holidayRepository, HolidayRepository::getReloadCount)
+                .description("Successful reloads of the holidays file")
+                .register(registry);
+
+        FunctionCounter.builder("holidays.json.cache.requests", jsonCache, HolidayJsonCache::getHitCount)
+                .tag("result", "hit")
+                .description("Serialized response cache lookups")
+                .register(registry);
+        FunctionCounter.builder("holidays.json.cache.requests", jsonCache, HolidayJsonCache::getMissCount)
+                .tag("result", "miss")
+                .description("Serialized response cache lookups")
+                .register(registry);
+        Gauge.builder("holidays.json.cache.hit.ratio", jsonCache, HolidayMetrics::hitRatio)
+                .description("Share of serialized response cache lookups answered from the cache")
+                .register(registry);
+    }
+
+    private static void lines(MeterRegistry registry, ParseStatistics stats, String outcome,
+                              ToDoubleFunction<ParseStatistics> count) {
+        FunctionCounter.builder("holidays.parse.lines", stats, count)
+                .tag("outcome", outcome)
+                .description("Lines read from holidays text files, by outcome")
+                .register(registry);
+    }
+
+    /**
+     * @return milliseconds since the served snapshot was loaded, or {@code NaN} before the first load
+     */
+    private static double snapshotAgeMillis(HolidayRepository repository) {
+        HolidaySnapshot snapshot = repository.snapshot();
+        if (snapshot.getVersion() == 0) {
+            return Double.NaN;
+        }
+        return Instant.now().toEpochMilli() - snapshot.getLoadedAt().toEpochMilli();
+    }
+
+    /**
+     * @return cache hits divided by lookups, or {@code NaN} before the first lookup
+     */
+    private static double hitRatio(HolidayJsonCache cache) {
+        long hits = cache.getHitCount();
+        long total = hits + cache.getMissCount();
+        return total == 0 ? Double.NaN : (double) hits / total;
+    }
+}
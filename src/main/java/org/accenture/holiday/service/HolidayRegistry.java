@@ -0,0 +1,446 @@
+package org.accenture.holiday.service;
+
+import jakarta.annotation.PostConstruct;
+import org.accenture.holiday.model.Holiday;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Serves holidays from a directory of holiday files, partitioned by city and year.
+ *
+ * <p>When {@code holidays.registry.directory} is set, every {@code *.log} file in it is catalogued
+ * by which (city, year) pairs its lines name. Cataloguing only looks for the year and city at the
+ * end of each line and keeps no holidays; it may list a file for a pair whose lines are later
+ * rejected, which costs an extra read but never a wrong answer. A partition is a selection of one
+ * city, one year, or both, and is parsed on first access from only the files that may hold matching
+ * holidays. Concurrent first accesses to the same partition share one parse. Built partitions are
+ * kept in LRU order and the least recently used ones are evicted once the partitions together exceed
+ * {@code holidays.registry.max-rows} holidays; the most recently used partition is always kept.</p>
+ *
+ * <p>{@link #refresh()} re-catalogues only files whose modification time or size changed, and drops
+ * the loaded partitions those files touch. {@link HolidayFileWatcher} calls it on every poll.
+ * City names match case-insensitively.</p>
+ */
+@Component
+public class HolidayRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(HolidayRegistry.class);
+
+    /** File name pattern of holiday files in the directory. */
+    private static final String FILE_GLOB = "*.log";
+
+    /** Service used to parse holiday files. */
+    private final HolidayService holidayService;
+    /** Response cache whose partition scopes are dropped on eviction. */
+    private final HolidayJsonCache jsonCache;
+    /** Directory of holiday files, or {@code null} if the registry is disabled. */
+    private final Path directory;
+    /** Maximum number of holidays held by all loaded partitions together. */
+    private final int maxRows;
+
+    /** Catalogue entry of every file, in name order; replaced, never modified, on refresh. */
+    private volatile Map<Path, CatalogEntry> catalog = Map.of();
+    /** Loaded partitions by scope, in access order. */
+    private final LinkedHashMap<String, Partition> partitions = new LinkedHashMap<>(16, 0.75f, true);
+    /** Partitions being parsed, by scope, so concurrent misses wait for one parse. */
+    private final Map<String, CompletableFuture<HolidaySnapshot>> loading = new ConcurrentHashMap<>();
+    /** Holidays held by {@link #partitions}. */
+    private long loadedRows;
+    /** Incremented whenever the catalogue changes; a parse started before a change is not kept. */
+    private long catalogVersion;
+    /** Source of partition snapshot versions. */
+    private final AtomicLong versions = new AtomicLong();
+    /** Latest modification time of the catalogued files; {@code null} before a scan. */
+    private volatile Instant lastModified;
+
+    /**
+     * Constructs a new {@code HolidayRegistry}.
+     *
+     * @param holidayService service used to parse holiday files
+     * @param jsonCache      response cache holding partition scopes
+     * @param directory      directory of holiday files, from {@code holidays.registry.directory}; blank disables the registry
+     * @param maxRows        memory budget in holidays across loaded partitions, from {@code holidays.registry.max-rows}
+     */
+    public HolidayRegistry(HolidayService holidayService, HolidayJsonCache jsonCache,
+                           @Value("${holidays.registry.directory:}") String directory,
+                           @Value("${holidays.registry.max-rows:100000}") int maxRows) {
+        this.holidayService = holidayService;
+        this.jsonCache = jsonCache;
+        this.directory = directory == null || directory.isBlank() ? null : Path.of(directory);
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Builds the catalogue. An unreadable directory leaves the registry empty; the failure is logged.
+     */
+    @PostConstruct
+    void init() {
+        if (directory == null) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (IOException e) {
+            log.warn("Could not scan holiday directory {}; registry is empty", directory, e);
+        }
+    }
+
+    /**
+     * @return {@code true} if a directory is configured
+     */
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * @return the registry directory, or {@code null} if the registry is disabled
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Brings the catalogue up to date with the directory. Added, changed and removed files are
+     * re-catalogued by their modification time and size, and every loaded partition that may hold
+     * holidays of theirs is dropped, to be parsed again on next access.
+     *
+     * @return {@code true} if any file was added, changed or removed
+     * @throws IOException if the directory or one of its changed files cannot be read
+     */
+    public boolean refresh() throws IOException {
+        if (directory == null) {
+            return false;
+        }
+        Map<Path, CatalogEntry> previous = catalog;
+        Map<Path, CatalogEntry> next = new TreeMap<>();
+        Set<String> affected = new HashSet<>();
+        boolean changed = false;
+        Instant newest = null;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_GLOB)) {
+            for (Path file : files) {
+                BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                Instant modified = attrs.lastModifiedTime().toInstant();
+                newest = newest == null || modified.isAfter(newest) ? modified : newest;
+                CatalogEntry old = previous.get(file);
+                if (old != null && old.matches(attrs)) {
+                    next.put(file, old);
+                    continue;
+                }
+                CatalogEntry entry = CatalogEntry.of(file, attrs);
+                next.put(file, entry);
+                changed = true;
+                entry.addKeys(affected);
+                if (old != null) {
+                    old.addKeys(affected);
+                }
+            }
+        }
+        for (Map.Entry<Path, CatalogEntry> removed : previous.entrySet()) {
+            if (!next.containsKey(removed.getKey())) {
+                removed.getValue().addKeys(affected);
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return false;
+        }
+        synchronized (this) {
+            catalog = Collections.unmodifiableMap(next);
+            lastModified = newest;
+            catalogVersion++;
+            loading.clear();
+            Iterator<Map.Entry<String, Partition>> it = partitions.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, Partition> entry = it.next();
+                if (entry.getValue().touches(affected)) {
+                    loadedRows -= entry.getValue().snapshot.size();
+                    jsonCache.evict(entry.getKey());
+                    it.remove();
+                }
+            }
+        }
+        log.info("Catalogued {} files from {}", next.size(), directory);
+        return true;
+    }
+
+    /**
+     * @param city city to select, any case; {@code null} for all cities
+     * @param year year to select; {@code null} for all years
+     * @return the cache scope naming the partition
+     */
+    public static String scopeOf(String city, Integer year) {
+        return (city == null ? "*" : HolidaySnapshot.normalizeCity(city)) + "/" + (year == null ? "*" : year);
+    }
+
+    /**
+     * @param city city to match, any case; {@code null} for all cities
+     * @param year year to match; {@code null} for all years
+     * @return a predicate accepting holidays of the selection
+     */
+    public static Predicate<Holiday> matcher(String city, Integer year) {
+        String normalized = city == null ? null : HolidaySnapshot.normalizeCity(city);
+        return h -> (normalized == null || HolidaySnapshot.normalizeCity(h.getCity()).equals(normalized))
+                && (year == null || h.getDate().getYear() == year);
+    }
+
+    /**
+     * Returns the partition holding the holidays of {@code city} in {@code year}, loading it on first use.
+     *
+     * <p>Only one thread parses a missing partition; others asking for it meanwhile wait for that parse.</p>
+     *
+     * @param city city to select, any case; {@code null} for all cities
+     * @param year year to select; {@code null} for all years
+     * @return the partition snapshot; {@link HolidaySnapshot#EMPTY} if no file holds matching holidays
+     * @throws UncheckedIOException if a file of the partition cannot be read
+     */
+    public HolidaySnapshot partition(String city, Integer year) {
+        String scope = scopeOf(city, year);
+        String normalized = city == null ? null : HolidaySnapshot.normalizeCity(city);
+        CompletableFuture<HolidaySnapshot> mine = new CompletableFuture<>();
+        CompletableFuture<HolidaySnapshot> inFlight;
+        long version;
+        synchronized (this) {
+            Partition loaded = partitions.get(scope);
+            if (loaded != null) {
+                return loaded.snapshot;
+            }
+            inFlight = loading.putIfAbsent(scope, mine);
+            version = catalogVersion;
+        }
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            Set<Path> files = filesFor(normalized, year);
+            HolidaySnapshot snapshot = files.isEmpty() ? HolidaySnapshot.EMPTY : load(files, matcher(city, year));
+            synchronized (this) {
+                // A partition parsed from a catalogue that has since changed answers this call only.
+                if (version == catalogVersion && !files.isEmpty()) {
+                    partitions.put(scope, new Partition(normalized, year, snapshot));
+                    loadedRows += snapshot.size();
+                    evict();
+                }
+            }
+            mine.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(scope, mine);
+        }
+    }
+
+    /**
+     * @return latest modification time of the catalogued files, or {@code null} if none
+     */
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return number of partitions currently loaded
+     */
+    public synchronized int getLoadedPartitions() {
+        return partitions.size();
+    }
+
+    private static HolidaySnapshot await(CompletableFuture<HolidaySnapshot> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Set<Path> filesFor(String city, Integer year) {
+        Set<Path> files = new TreeSet<>();
+        catalog.forEach((file, entry) -> {
+            if (entry.holds(city, year)) {
+                files.add(file);
+            }
+        });
+        return files;
+    }
+
+    private HolidaySnapshot load(Set<Path> files, Predicate<Holiday> matcher) {
+        List<Holiday> holidays = new ArrayList<>();
+        for (Path file : files) {
+            try {
+                for (Holiday h : holidayService.loadHolidays(file)) {
+                    if (matcher.test(h)) {
+                        holidays.add(h);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return new HolidaySnapshot(holidays, versions.incrementAndGet(), Instant.now());
+    }
+
+    /**
+     * Evicts least recently used partitions until the budget is met, always keeping the newest one.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, Partition>> eldest = partitions.entrySet().iterator();
+        while (loadedRows > maxRows && partitions.size() > 1) {
+            Map.Entry<String, Partition> entry = eldest.next();
+            loadedRows -= entry.getValue().snapshot.size();
+            jsonCache.evict(entry.getKey());
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Extracts the year and city from the end of a holiday line, e.g. {@code "...15-Jan-2024 in Pune"},
+     * without parsing the rest of it.
+     *
+     * @return {@code "city/year"} with the city normalized, or {@code null} if the line has no such ending
+     */
+    static String catalogKey(String line) {
+        int dash = line.indexOf('-');
+        while (dash >= 0) {
+            int i = dash + 1;
+            int yearEnd = i + 4;
+            if (yearEnd < line.length() && isDigits(line, i, yearEnd) && Character.isWhitespace(line.charAt(yearEnd))) {
+                int in = skipWhitespace(line, yearEnd);
+                if (line.startsWith("in", in) && in + 2 < line.length() && Character.isWhitespace(line.charAt(in + 2))) {
+                    String city = line.substring(in + 2).trim();
+                    return city.isEmpty() ? null : HolidaySnapshot.normalizeCity(city) + "/" + line.substring(i, yearEnd);
+                }
+            }
+            dash = line.indexOf('-', dash + 1);
+        }
+        return null;
+    }
+
+    private static boolean isDigits(String s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipWhitespace(String s, int from) {
+        while (from < s.length() && Character.isWhitespace(s.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    /**
+     * The (city, year) pairs named by one file, with the modification time and size they were read at.
+     */
+    private static final class CatalogEntry {
+        private final long modifiedMillis;
+        private final long size;
+        /** {@code "city/year"} keys, city normalized. */
+        private final Set<String> keys;
+
+        private CatalogEntry(long modifiedMillis, long size, Set<String> keys) {
+            this.modifiedMillis = modifiedMillis;
+            this.size = size;
+            this.keys = keys;
+        }
+
+        static CatalogEntry of(Path file, BasicFileAttributes attrs) throws IOException {
+            Set<String> keys = new HashSet<>();
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String key = catalogKey(line);
+                    if (key != null) {
+                        keys.add(key);
+                    }
+                }
+            }
+            return new CatalogEntry(attrs.lastModifiedTime().toMillis(), attrs.size(), keys);
+        }
+
+        boolean matches(BasicFileAttributes attrs) {
+            return attrs.lastModifiedTime().toMillis() == modifiedMillis && attrs.size() == size;
+        }
+
+        void addKeys(Set<String> into) {
+            into.addAll(keys);
+        }
+
+        boolean holds(String city, Integer year) {
+            for (String key : keys) {
+                if (Partition.selects(city, year, key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A loaded partition and the selection it was built for.
+     */
+    private static final class Partition {
+        /** Normalized city, or {@code null} for all cities. */
+        private final String city;
+        /** Year, or {@code null} for all years. */
+        private final Integer year;
+        private final HolidaySnapshot snapshot;
+
+        Partition(String city, Integer year, HolidaySnapshot snapshot) {
+            this.city = city;
+            this.year = year;
+            this.snapshot = snapshot;
+        }
+
+        boolean touches(Set<String> keys) {
+            for (String key : keys) {
+                if (selects(city, year, key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return {@code true} if the selection of {@code city} and {@code year} includes the {@code "city/year"} key
+         */
+        static boolean selects(String city, Integer year, String key) {
+            int slash = key.lastIndexOf('/');
+            return (city == null || key.regionMatches(0, city, 0, slash) && city.length() == slash)
+                    && (year == null || Integer.parseInt(key, slash + 1, key.length(), 10) == year);
+        }
+    }
+}
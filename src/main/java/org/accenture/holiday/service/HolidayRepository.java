@@ -0,0 +1,330 @@
+package org.accenture.holiday.service;
+
+import jakarta.annotation.PostConstruct;
+import org.accenture.holiday.model.Holiday;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+
+/**
+ * Holds the current {@link HolidaySnapshot} and publishes new ones atomically.
+ *
+ * <p>The holidays file configured via {@code holidays.file.path} is parsed once at startup and
+ * served from memory afterwards. Readers call {@link #snapshot()}, which is a single volatile read
+ * and never blocks; writers build a complete snapshot off to the side and swap it in.</p>
+ *
+ * <p>With {@code holidays.ingest.incremental} enabled, {@link #refresh()} remembers the byte offset
+ * up to which the file has been consumed and parses only complete lines appended after it, merging
+ * them into the published data. A file that shrank, was replaced, or whose already consumed bytes
+ * changed is reloaded in full instead. Each refresh re-reads the consumed bytes, without parsing
+ * them, to compare their CRC-32 with the one recorded when they were consumed. An edit that leaves
+ * that checksum unchanged, which an accidental one does with a chance of one in 2<sup>32</sup>, goes
+ * unnoticed.</p>
+ */
+@Component
+public class HolidayRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(HolidayRepository.class);
+
+    /** Service used to parse the holidays file. */
+    private final HolidayService holidayService;
+    /** Path to the holidays data file resolved from configuration. */
+    private final Path holidaysFile;
+    /** Currently published snapshot. */
+    private final AtomicReference<HolidaySnapshot> current = new AtomicReference<>(HolidaySnapshot.EMPTY);
+    /** Source of snapshot versions. */
+    private final AtomicLong versions = new AtomicLong();
+    /** Number of successful reloads from the holidays file. */
+    private final AtomicLong reloadCount = new AtomicLong();
+    /** Wall-clock duration of the most recent successful reload. */
+    private volatile Duration lastReloadDuration = Duration.ZERO;
+    /** Whether {@link #refresh()} may parse only appended lines. */
+    private final boolean incremental;
+    /** How far the published snapshot has consumed the file; {@code null} if unknown. */
+    private volatile IngestState ingested;
+    /** Modification time of the holidays file as last loaded; {@code null} if unknown. */
+    private volatile Instant dataModified;
+
+    /**
+     * Constructs a new {@code HolidayRepository}.
+     *
+     * @param holidayService   the service responsible for parsing holiday data
+     * @param holidaysFilePath path to the holidays data file, injected from {@code holidays.file.path};
+     *                         defaults to {@code src/main/resources/bangalore_holidays.log} if not provided
+     */
+    public HolidayRepository(HolidayService holidayService, String holidaysFilePath) {
+        this(holidayService, holidaysFilePath, true);
+    }
+
+    /**
+     * Constructs a new {@code HolidayRepository}.
+     *
+     * @param holidayService   the service responsible for parsing holiday data
+     * @param holidaysFilePath path to the holidays data file, injected from {@code holidays.file.path};
+     *                         defaults to {@code src/main/resources/bangalore_holidays.log} if not provided
+     * @param incremental      whether {@link #refresh()} parses only appended lines when it can,
+     *                         from {@code holidays.ingest.incremental}
+     */
+    @Autowired
+    public HolidayRepository(HolidayService holidayService,
+                             @Value("${holidays.file.path:src/main/resources/bangalore_holidays.log}") String holidaysFilePath,
+                             @Value("${holidays.ingest.incremental:true}") boolean incremental) {
+        this.holidayService = holidayService;
+        this.holidaysFile = Path.of(holidaysFilePath);
+        this.incremental = incremental;
+    }
+
+    /**
+     * Loads the initial snapshot. A missing or unreadable file leaves the empty snapshot in place
+     * so the application still starts; the failure is logged.
+     */
+    @PostConstruct
+    void init() {
+        try {
+            reload();
+        } catch (IOException e) {
+            log.warn("Could not load holidays from {}; serving an empty data set", holidaysFile, e);
+        }
+    }
+
+    /**
+     * @return the currently published snapshot; never {@code null}
+     */
+    public HolidaySnapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * @return path of the holidays file backing this repository
+     */
+    public Path getHolidaysFile() {
+        return holidaysFile;
+    }
+
+    /**
+     * @return number of successful reloads from the holidays file, including the initial load
+     */
+    public long getReloadCount() {
+        return reloadCount.get();
+    }
+
+    /**
+     * @return modification time of the holidays file as of the published data, or {@code null} if unknown,
+     * e.g. when the data was published directly
+     */
+    public Instant getDataModified() {
+        return dataModified;
+    }
+
+    /**
+     * @return line-level diagnostics of the holidays file and of every other file parsed by the same service
+     */
+    public ParseQuarantine getQuarantine() {
+        return holidayService.getQuarantine();
+    }
+
+    /**
+     * @return wall-clock duration of the most recent successful reload
+     */
+    public Duration getLastReloadDuration() {
+        return lastReloadDuration;
+    }
+
+    /**
+     * Re-parses the holidays file, validates the result and publishes it.
+     *
+     * <p>If parsing or validation fails the previously published snapshot stays in place.</p>
+     *
+     * @return the newly published snapshot
+     * @throws IOException if reading the file fails or the parsed data is rejected
+     */
+    public synchronized HolidaySnapshot reload() throws IOException {
+        long start = System.nanoTime();
+        ingested = null;
+        BasicFileAttributes before = attributes();
+        List<Holiday> holidays = holidayService.loadHolidays(holidaysFile);
+        validate(holidays);
+        HolidaySnapshot snapshot = publish(holidays);
+        ingested = captureState(before);
+        dataModified = before == null ? null : before.lastModifiedTime().toInstant();
+        lastReloadDuration = Duration.ofNanos(System.nanoTime() - start);
+        reloadCount.incrementAndGet();
+        return snapshot;
+    }
+
+    /**
+     * Brings the published data up to date with the holidays file, parsing only the lines appended
+     * since the last load when possible and falling back to {@link #reload()} otherwise.
+     *
+     * <p>A trailing line without a terminator is left for a later refresh, once the writer has
+     * finished it.</p>
+     *
+     * @return the current snapshot, which is unchanged if nothing complete was appended
+     * @throws IOException if reading the file fails or the parsed data is rejected
+     */
+    public synchronized HolidaySnapshot refresh() throws IOException {
+        IngestState state = ingested;
+        if (!incremental || state == null) {
+            return reload();
+        }
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(holidaysFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (!Objects.equals(state.fileKey, fileKey()) || size < state.offset) {
+                log.info("{} was truncated or replaced; reloading it in full", holidaysFile);
+                return reload();
+            }
+            // Re-reading the consumed bytes is far cheaper than parsing them and catches in-place edits.
+            CRC32 crc = new CRC32();
+            AppendedLineReader.checksum(channel, 0, state.offset, crc);
+            if (crc.getValue() != state.checksum) {
+                log.info("{} was rewritten; reloading it in full", holidaysFile);
+                return reload();
+            }
+            ParseAccumulator accumulator = new ParseAccumulator();
+            long consumed = AppendedLineReader.read(channel, state.offset, size, accumulator);
+            if (consumed == state.offset) {
+                return snapshot();
+            }
+            ParseReport report = accumulator.toReport();
+            HolidaySnapshot snapshot = report.getHolidays().isEmpty() ? snapshot() : publishAppended(report.getHolidays());
+            holidayService.getQuarantine().append(holidaysFile, report, state.lines);
+            long lines = state.lines + AppendedLineReader.checksum(channel, state.offset, consumed, crc);
+            ingested = new IngestState(state.fileKey, consumed, crc.getValue(), lines);
+            BasicFileAttributes attributes = attributes();
+            dataModified = attributes == null ? null : attributes.lastModifiedTime().toInstant();
+            long nanos = System.nanoTime() - start;
+            holidayService.getStatistics().record(report, nanos, false);
+            lastReloadDuration = Duration.ofNanos(nanos);
+            reloadCount.incrementAndGet();
+            log.debug("Appended {} holidays from {} lines of {}", report.getHolidays().size(), report.getLinesRead(), holidaysFile);
+            return snapshot;
+        }
+    }
+
+    /**
+     * Rejects a parse result that would silently wipe out published data, which is what a
+     * half-written or truncated file typically looks like to the parser.
+     *
+     * @param holidays freshly parsed holidays
+     * @throws IOException if the result must not replace the current snapshot
+     */
+    private void validate(List<Holiday> holidays) throws IOException {
+        int published = snapshot().size();
+        if (holidays.isEmpty() && published > 0) {
+            throw new IOException("Refusing to replace " + published + " holidays with an empty data set from " + holidaysFile);
+        }
+    }
+
+    /**
+     * Builds a snapshot from already parsed holidays and publishes it.
+     *
+     * <p>Writers are serialized so versions are published in order; readers are unaffected.</p>
+     *
+     * @param holidays parsed holidays in file order
+     * @return the newly published snapshot
+     */
+    public synchronized HolidaySnapshot publish(List<Holiday> holidays) {
+        HolidaySnapshot snapshot = new HolidaySnapshot(holidays, versions.incrementAndGet(), Instant.now());
+        current.set(snapshot);
+        // Published data no longer necessarily matches the file.
+        ingested = null;
+        dataModified = null;
+        return snapshot;
+    }
+
+    /**
+     * Publishes the current data followed by {@code appended}; the indexes are rebuilt over the
+     * merged columnar store without re-parsing or materialising the existing holidays.
+     */
+    private HolidaySnapshot publishAppended(List<Holiday> appended) {
+        ColumnarHolidayStore store = snapshot().getStore().append(appended);
+        HolidaySnapshot snapshot = new HolidaySnapshot(store, versions.incrementAndGet(), Instant.now());
+        current.set(snapshot);
+        return snapshot;
+    }
+
+    private BasicFileAttributes attributes() {
+        try {
+            return Files.readAttributes(holidaysFile, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private Object fileKey() {
+        BasicFileAttributes attributes = attributes();
+        return attributes == null ? null : attributes.fileKey();
+    }
+
+    /**
+     * Records how far a full load consumed the file, provided the file did not change while it was
+     * parsed and ends with a complete line; otherwise the next refresh reloads in full.
+     *
+     * @param before file attributes taken before parsing; {@code null} if unavailable
+     * @return the state, or {@code null} if an incremental refresh cannot safely follow
+     */
+    private IngestState captureState(BasicFileAttributes before) {
+        BasicFileAttributes after = attributes();
+        if (before == null || after == null || before.size() != after.size()
+                || !before.lastModifiedTime().equals(after.lastModifiedTime())
+                || !Objects.equals(before.fileKey(), after.fileKey())) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(holidaysFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size != after.size()) {
+                return null;
+            }
+            if (size > 0) {
+                ByteBuffer last = ByteBuffer.allocate(1);
+                if (channel.read(last, size - 1) != 1 || last.get(0) != '\n') {
+                    return null;
+                }
+            }
+            CRC32 crc = new CRC32();
+            long lines = AppendedLineReader.checksum(channel, 0, size, crc);
+            return new IngestState(after.fileKey(), size, crc.getValue(), lines);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Position up to which the holidays file has been consumed.
+     */
+    private static final class IngestState {
+        /** Identity of the file, e.g. its inode; {@code null} if the file system has none. */
+        private final Object fileKey;
+        /** Offset just after the last consumed line. */
+        private final long offset;
+        /** CRC-32 of all bytes before {@link #offset}, to detect in-place rewrites. */
+        private final long checksum;
+        /** Number of lines before {@link #offset}. */
+        private final long lines;
+
+        private IngestState(Object fileKey, long offset, long checksum, long lines) {
+            this.fileKey = fileKey;
+            this.offset = offset;
+            this.checksum = checksum;
+            this.lines = lines;
+        }
+    }
+}
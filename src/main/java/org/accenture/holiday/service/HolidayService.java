@@ -1,6 +1,10 @@
 package org.accenture.holiday.service;
 
 import org.accenture.holiday.model.Holiday;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.BufferedReader;
@@ -8,15 +12,16 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.DateTimeException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
 import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Service responsible for loading and parsing holiday data from a text file.
@@ -24,23 +29,78 @@ import java.util.stream.Collectors;
  * <p>Each line is expected in the form:
  * {@code "Mandatory|Floating holiday for <Name> on <DayOfWeek>, <d-MMM-yyyy> in <City>"}.</p>
  *
- * <p>Malformed lines are ignored. Holidays that fall on Saturday or Sunday are filtered out.</p>
+ * <p>Malformed lines are ignored. Holidays that fall on Saturday or Sunday are filtered out. Both,
+ * and lines whose day-of-week word contradicts their date, are recorded with their line numbers in
+ * the {@link ParseQuarantine}.</p>
+ *
+ * <p>Lines are parsed by {@link HolidayLineScanner}; the regular expression below is only used for
+ * lines the scanner rejects, and those lines are reported in the {@link ParseReport}.</p>
+ *
+ * <p>Files of at least {@code holidays.loader.mapped-threshold-bytes} are memory-mapped and parsed
+ * in parallel by {@link MappedHolidayParser}; smaller files are read line by line. Both modes
+ * produce the same result.</p>
+ *
+ * <p>When binary snapshots are enabled, a current {@link BinarySnapshotCodec} snapshot next to the
+ * text file is loaded instead of parsing it, and a fresh snapshot is written after each text parse.</p>
  */
 @Service
 public class HolidayService {
 
-    /** Formatter for dates like {@code 15-Jan-2024}. */
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d-MMM-yyyy", Locale.ENGLISH);
+    private static final Logger log = LoggerFactory.getLogger(HolidayService.class);
+
+    /** Formatter for dates like {@code 15-Jan-2024}; strict, so impossible dates such as 31-Feb are rejected, not clamped. */
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d-MMM-uuuu", Locale.ENGLISH)
+            .withResolverStyle(ResolverStyle.STRICT);
     /** Pattern capturing type, name, day-of-week token, date, and city from each line. */
     private static final Pattern LINE_PATTERN = Pattern.compile("^(Mandatory|Floating) holiday for (.+?) on (\\w+), (\\d{1,2}-[A-Za-z]{3}-\\d{4}) in (.+)$");
+    /** Default file size from which the memory-mapped parallel loader is used. */
+    static final long DEFAULT_MAPPED_THRESHOLD_BYTES = 64L * 1024 * 1024;
+    /** Default size of each chunk parsed in parallel by the mapped loader. */
+    static final int DEFAULT_MAPPED_CHUNK_BYTES = 8 * 1024 * 1024;
+
+    /** File size from which the mapped loader is used; negative disables it. */
+    private final long mappedThresholdBytes;
+    /** Target chunk size for the mapped loader. */
+    private final int mappedChunkBytes;
+    /** Whether binary snapshots are read and written next to the text file. */
+    private final boolean binarySnapshots;
+    /** Cumulative counters over all loads. */
+    private final ParseStatistics statistics = new ParseStatistics();
+    /** Line-level diagnostics of the latest parse of each file. */
+    private final ParseQuarantine quarantine = new ParseQuarantine();
 
     /**
-     * Parses a single line of the holidays file into a {@link Holiday}.
+     * Creates a service using the default loader settings, without binary snapshots.
+     */
+    public HolidayService() {
+        this(DEFAULT_MAPPED_THRESHOLD_BYTES, DEFAULT_MAPPED_CHUNK_BYTES, false);
+    }
+
+    /**
+     * Creates a service with explicit loader settings.
+     *
+     * @param mappedThresholdBytes file size from which files are memory-mapped and parsed in parallel,
+     *                             from {@code holidays.loader.mapped-threshold-bytes}; negative disables it
+     * @param mappedChunkBytes     target size of each parallel chunk, from {@code holidays.loader.mapped-chunk-bytes}
+     * @param binarySnapshots      whether to use {@link BinarySnapshotCodec} snapshots next to the text file,
+     *                             from {@code holidays.snapshot.enabled}
+     */
+    @Autowired
+    public HolidayService(@Value("${holidays.loader.mapped-threshold-bytes:" + DEFAULT_MAPPED_THRESHOLD_BYTES + "}") long mappedThresholdBytes,
+                          @Value("${holidays.loader.mapped-chunk-bytes:" + DEFAULT_MAPPED_CHUNK_BYTES + "}") int mappedChunkBytes,
+                          @Value("${holidays.snapshot.enabled:true}") boolean binarySnapshots) {
+        this.mappedThresholdBytes = mappedThresholdBytes;
+        this.mappedChunkBytes = mappedChunkBytes;
+        this.binarySnapshots = binarySnapshots;
+    }
+
+    /**
+     * Parses a single line of the holidays file into a {@link Holiday} using the regular expression.
      *
      * @param line input line
-     * @return a Holiday if the line matches the expected pattern; otherwise {@code null}
+     * @return a Holiday if the line matches the expected pattern and names a real date; otherwise {@code null}
      */
-    private static Holiday parseLine(String line) {
+    static Holiday parseLine(String line) {
         Matcher matcher = LINE_PATTERN.matcher(line.trim());
         if (!matcher.matches()) {
             return null;
@@ -51,7 +111,13 @@ public class HolidayService {
         String dateStr = matcher.group(4).trim();
         String city = matcher.group(5).trim();
 
-        LocalDate date = LocalDate.parse(dateStr, DATE_FORMATTER);
+        LocalDate date;
+        try {
+            date = LocalDate.parse(dateStr, DATE_FORMATTER);
+        } catch (DateTimeException e) {
+            // E.g. 32-Jan-2025, 15-JAN-2025 or 31-Feb-2025: reject the line rather than the whole load.
+            return null;
+        }
         DayOfWeek dayOfWeek = date.getDayOfWeek();
 
         Holiday.Type type = "Mandatory".equalsIgnoreCase(typeToken)
@@ -61,6 +127,20 @@ public class HolidayService {
         return new Holiday(name, date, dayOfWeek, city, type);
     }
 
+    /**
+     * Checks the day-of-week word of a line the regex accepts against the date it parsed to.
+     *
+     * @param line    input line accepted by {@link #parseLine(String)}
+     * @param holiday the holiday parsed from it
+     * @return {@code true} if the word does not name the holiday's day, see {@link HolidayLineScanner#namesDay}
+     */
+    static boolean dayMismatch(String line, Holiday holiday) {
+        String trimmed = line.trim();
+        Matcher matcher = LINE_PATTERN.matcher(trimmed);
+        return matcher.matches()
+                && !HolidayLineScanner.namesDay(trimmed, matcher.start(3), matcher.end(3), holiday.getDayOfWeek());
+    }
+
     /**
      * Loads and parses holidays from the given file path.
      *
@@ -72,12 +152,71 @@ public class HolidayService {
      * @throws IOException if reading the file fails
      */
     public List<Holiday> loadHolidays(Path filePath) throws IOException {
-        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
-            return reader.lines()
-                    .map(HolidayService::parseLine)
-                    .filter(Objects::nonNull)
-                    .filter(h -> h.getDayOfWeek() != DayOfWeek.SATURDAY && h.getDayOfWeek() != DayOfWeek.SUNDAY)
-                    .collect(Collectors.toList());
+        return parse(filePath).getHolidays();
+    }
+
+    /**
+     * Loads and parses holidays from the given file path, reporting how each line was handled.
+     *
+     * @param filePath path to the text file containing holiday lines
+     * @return the parsed holidays together with parse diagnostics
+     * @throws IOException if reading the file fails
+     */
+    public ParseReport parse(Path filePath) throws IOException {
+        long start = System.nanoTime();
+        BasicFileAttributes attrs = Files.readAttributes(filePath, BasicFileAttributes.class);
+        if (binarySnapshots) {
+            ParseReport cached = BinarySnapshotCodec.readIfCurrent(filePath);
+            if (cached != null) {
+                statistics.record(cached, System.nanoTime() - start, true);
+                quarantine.record(filePath, cached);
+                return cached;
+            }
+        }
+        ParseReport report;
+        if (mappedThresholdBytes >= 0 && attrs.size() >= mappedThresholdBytes) {
+            report = MappedHolidayParser.parse(filePath, mappedChunkBytes);
+        } else {
+            ParseAccumulator accumulator = new ParseAccumulator();
+            try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    accumulator.accept(line);
+                }
+            }
+            report = accumulator.toReport();
+        }
+        statistics.record(report, System.nanoTime() - start, false);
+        quarantine.record(filePath, report);
+        if (report.getFallbackCount() > 0) {
+            log.info("{} line(s) of {} needed the regex fallback, first at lines {}",
+                    report.getFallbackCount(), filePath, report.getFallbackLines());
+        }
+        if (binarySnapshots) {
+            try {
+                BinarySnapshotCodec.write(filePath, attrs, report);
+            } catch (IOException e) {
+                log.warn("Could not write binary snapshot for {}", filePath, e);
+            }
         }
+        return report;
+    }
+
+    /**
+     * @return cumulative counters over all loads performed by this service
+     */
+    public ParseStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return line-level diagnostics of the latest parse of each file read by this service
+     */
+    public ParseQuarantine getQuarantine() {
+        return quarantine;
+    }
+
+    static boolean isWeekend(Holiday holiday) {
+        return holiday.getDayOfWeek() == DayOfWeek.SATURDAY || holiday.getDayOfWeek() == DayOfWeek.SUNDAY;
     }
 }
@@ -0,0 +1,468 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.CollapsedHoliday;
+import org.accenture.holiday.model.Holiday;
+import org.accenture.holiday.model.HolidayQuery;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Immutable, fully parsed view of the holidays file at a point in time.
+ *
+ * <p>A snapshot is built once per load and never mutated afterwards, so it can be shared
+ * freely between request threads without synchronization. A newer snapshot replaces an older
+ * one by reference swap in {@link HolidayRepository}.</p>
+ *
+ * <p>Secondary indexes by type, month and city, a name search index, same-day alias groups and a business-day calendar are built together with the data in the
+ * constructor, so they can never disagree with {@link #getHolidays()}. Every index entry is a
+ * prebuilt unmodifiable list in file order. Cities are indexed by {@link #normalizeCity(String) normalized}
+ * name, the same key {@link HolidayRegistry} partitions by, so city filters are answered from the index
+ * without normalizing each holiday's city.</p>
+ *
+ * <p>The data is held in a {@link ColumnarHolidayStore}; the index lists are arrays of row numbers
+ * over that store, so a snapshot retains no per-holiday objects.</p>
+ */
+public final class HolidaySnapshot {
+
+    /** Snapshot served before any data has been loaded. */
+    public static final HolidaySnapshot EMPTY = new HolidaySnapshot(List.of(), 0L, Instant.EPOCH);
+
+    private final ColumnarHolidayStore holidays;
+    private final long version;
+    private final Instant loadedAt;
+    /** Holidays by type. */
+    private final Map<Holiday.Type, List<Holiday>> byType;
+    /** Holidays by type, then by month-of-year (index 1–12; index 0 unused). */
+    private final Map<Holiday.Type, List<List<Holiday>>> byTypeAndMonth;
+    /** Holidays by type, then by year-month. */
+    private final Map<Holiday.Type, Map<YearMonth, List<Holiday>>> byTypeAndYearMonth;
+    /** Holidays by normalized city. */
+    private final Map<String, List<Holiday>> byCity;
+    /** Spellings in the store of each normalized city. */
+    private final Map<String, Set<String>> citySpellings;
+    /** Substring index over holiday names. */
+    private final NameSearchIndex searchIndex;
+    /** Row numbers sorted by date, file order within a date. */
+    private final int[] rowsByDate;
+    /** Holidays in {@link #rowsByDate} order. */
+    private final List<Holiday> byDate;
+    /** Non-working-day bitsets for business-day arithmetic. */
+    private final BusinessCalendar businessCalendar;
+    /** Groups of holidays sharing a date, city and type. */
+    private final AliasGroups aliasGroups;
+
+    /**
+     * Creates a new snapshot.
+     *
+     * @param holidays parsed holidays in file order; stored in a {@link ColumnarHolidayStore}
+     * @param version  monotonically increasing version assigned by the publisher
+     * @param loadedAt instant at which the data was loaded
+     */
+    public HolidaySnapshot(List<Holiday> holidays, long version, Instant loadedAt) {
+        this(ColumnarHolidayStore.of(holidays), version, loadedAt);
+    }
+
+    /**
+     * Creates a new snapshot over an already built store.
+     *
+     * @param store    holidays in file order
+     * @param version  monotonically increasing version assigned by the publisher
+     * @param loadedAt instant at which the data was loaded
+     */
+    public HolidaySnapshot(ColumnarHolidayStore store, long version, Instant loadedAt) {
+        this.holidays = store;
+        this.version = version;
+        this.loadedAt = loadedAt;
+
+        Map<Holiday.Type, RowsBuilder> types = new EnumMap<>(Holiday.Type.class);
+        Map<Holiday.Type, RowsBuilder[]> months = new EnumMap<>(Holiday.Type.class);
+        Map<Holiday.Type, Map<YearMonth, RowsBuilder>> yearMonths = new EnumMap<>(Holiday.Type.class);
+        // Cities are normalized once per distinct spelling; spellings of the same city share a builder.
+        Map<String, RowsBuilder> cityRows = new HashMap<>();
+        Map<String, Set<String>> spellings = new HashMap<>();
+        RowsBuilder[] cities = new RowsBuilder[store.cityCount()];
+        for (int city = 0; city < cities.length; city++) {
+            String key = normalizeCity(store.city(city));
+            cities[city] = cityRows.computeIfAbsent(key, k -> new RowsBuilder());
+            spellings.computeIfAbsent(key, k -> new HashSet<>()).add(store.city(city));
+        }
+        for (Holiday.Type type : Holiday.Type.values()) {
+            types.put(type, new RowsBuilder());
+            RowsBuilder[] perMonth = new RowsBuilder[13];
+            for (int m = 0; m <= 12; m++) {
+                perMonth[m] = new RowsBuilder();
+            }
+            months.put(type, perMonth);
+            yearMonths.put(type, new LinkedHashMap<>());
+        }
+        for (int row = 0; row < store.size(); row++) {
+            Holiday.Type type = store.type(row);
+            LocalDate date = LocalDate.ofEpochDay(store.epochDay(row));
+            types.get(type).add(row);
+            months.get(type)[date.getMonthValue()].add(row);
+            yearMonths.get(type).computeIfAbsent(YearMonth.from(date), k -> new RowsBuilder()).add(row);
+            cities[store.cityId(row)].add(row);
+        }
+
+        Map<Holiday.Type, List<Holiday>> typeLists = new EnumMap<>(Holiday.Type.class);
+        Map<Holiday.Type, List<List<Holiday>>> monthLists = new EnumMap<>(Holiday.Type.class);
+        Map<Holiday.Type, Map<YearMonth, List<Holiday>>> yearMonthLists = new EnumMap<>(Holiday.Type.class);
+        for (Holiday.Type type : Holiday.Type.values()) {
+            typeLists.put(type, types.get(type).build(store));
+            List<List<Holiday>> perMonth = new ArrayList<>(13);
+            for (RowsBuilder rows : months.get(type)) {
+                perMonth.add(rows.build(store));
+            }
+            monthLists.put(type, Collections.unmodifiableList(perMonth));
+            Map<YearMonth, List<Holiday>> perYearMonth = new LinkedHashMap<>();
+            yearMonths.get(type).forEach((ym, rows) -> perYearMonth.put(ym, rows.build(store)));
+            yearMonthLists.put(type, Collections.unmodifiableMap(perYearMonth));
+        }
+        Map<String, List<Holiday>> cityLists = new HashMap<>();
+        cityRows.forEach((key, rows) -> cityLists.put(key, rows.build(store)));
+        spellings.replaceAll((key, names) -> Set.copyOf(names));
+        this.byType = Collections.unmodifiableMap(typeLists);
+        this.byTypeAndMonth = Collections.unmodifiableMap(monthLists);
+        this.byTypeAndYearMonth = Collections.unmodifiableMap(yearMonthLists);
+        this.byCity = Collections.unmodifiableMap(cityLists);
+        this.citySpellings = Collections.unmodifiableMap(spellings);
+        this.searchIndex = new NameSearchIndex(store);
+        this.businessCalendar = new BusinessCalendar(store);
+        this.rowsByDate = sortByDate(store);
+        this.byDate = store.rows(rowsByDate);
+        this.aliasGroups = new AliasGroups(store, rowsByDate);
+    }
+
+    /**
+     * Sorts row numbers by date without boxing; packing the row into the low bits keeps file order within a date.
+     */
+    private static int[] sortByDate(ColumnarHolidayStore store) {
+        long[] keys = new long[store.size()];
+        for (int row = 0; row < keys.length; row++) {
+            keys[row] = ((long) store.epochDay(row) << 32) | row;
+        }
+        Arrays.sort(keys);
+        int[] rows = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            rows[i] = (int) keys[i];
+        }
+        return rows;
+    }
+
+    /**
+     * @return all holidays in file order, as an unmodifiable list
+     */
+    public List<Holiday> getHolidays() {
+        return holidays;
+    }
+
+    /**
+     * @return the columnar store backing this snapshot, for callers that work on primitive columns
+     */
+    public ColumnarHolidayStore getStore() {
+        return holidays;
+    }
+
+    /**
+     * @return the version of this snapshot; {@code 0} for {@link #EMPTY}
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the instant at which this snapshot was loaded
+     */
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * @return number of holidays in this snapshot
+     */
+    public int size() {
+        return holidays.size();
+    }
+
+    /**
+     * @param type holiday type
+     * @return all holidays of {@code type} in file order
+     */
+    public List<Holiday> byType(Holiday.Type type) {
+        return byType.get(type);
+    }
+
+    /**
+     * @param type  holiday type
+     * @param month month number (1–12), matched across all years
+     * @return holidays of {@code type} in {@code month}; empty for an out-of-range month
+     */
+    public List<Holiday> byTypeAndMonth(Holiday.Type type, int month) {
+        if (month < 1 || month > 12) {
+            return List.of();
+        }
+        return byTypeAndMonth.get(type).get(month);
+    }
+
+    /**
+     * @param type      holiday type
+     * @param yearMonth calendar month of a specific year
+     * @return holidays of {@code type} in {@code yearMonth}; empty if none
+     */
+    public List<Holiday> byTypeAndYearMonth(Holiday.Type type, YearMonth yearMonth) {
+        return byTypeAndYearMonth.get(type).getOrDefault(yearMonth, List.of());
+    }
+
+    /**
+     * @param city city, matched case-insensitively and ignoring surrounding whitespace
+     * @return holidays in {@code city} in file order; empty if none
+     */
+    public List<Holiday> byCity(String city) {
+        return byCity.getOrDefault(normalizeCity(city), List.of());
+    }
+
+    /**
+     * Returns a filter accepting this snapshot's holidays in {@code city}.
+     *
+     * <p>The city is looked up in the index once; the filter then compares each holiday's city with the
+     * spellings the index found, and is constant when the city is absent or holds every holiday.</p>
+     *
+     * @param city city, matched case-insensitively and ignoring surrounding whitespace
+     * @return a predicate over holidays of this snapshot
+     */
+    public Predicate<Holiday> cityFilter(String city) {
+        String key = normalizeCity(city);
+        List<Holiday> rows = byCity.get(key);
+        if (rows == null) {
+            return h -> false;
+        }
+        if (rows.size() == holidays.size()) {
+            return h -> true;
+        }
+        Set<String> spellings = citySpellings.get(key);
+        return h -> spellings.contains(h.getCity());
+    }
+
+    /**
+     * Restricts a selection of this snapshot's holidays to a city.
+     *
+     * @param selection holidays of this snapshot, e.g. an index entry
+     * @param city      city, matched case-insensitively and ignoring surrounding whitespace
+     * @return the holidays of {@code selection} in {@code city}, in the same order; {@code selection} itself if
+     * every holiday of the snapshot is in {@code city}
+     */
+    public List<Holiday> inCity(List<Holiday> selection, String city) {
+        List<Holiday> rows = byCity(city);
+        if (rows.isEmpty() || selection.isEmpty()) {
+            return List.of();
+        }
+        if (rows.size() == holidays.size()) {
+            return selection;
+        }
+        return selection.stream().filter(cityFilter(city)).toList();
+    }
+
+    /**
+     * Normalizes a city name for matching: surrounding whitespace removed, lower case.
+     *
+     * @param city city name as given
+     * @return the key under which {@code city} is indexed and partitioned
+     */
+    static String normalizeCity(String city) {
+        return city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Finds holidays whose name contains {@code keyword}, ignoring case.
+     *
+     * @param keyword search text
+     * @return matching holidays in file order; the same result as a case-insensitive
+     * {@code contains} scan over all names
+     */
+    public List<Holiday> search(String keyword) {
+        int[] rows = searchIndex.search(keyword);
+        return rows.length == 0 ? List.of() : holidays.rows(rows);
+    }
+
+    /**
+     * @return all holidays sorted by date, in file order within a date
+     */
+    public List<Holiday> byDate() {
+        return byDate;
+    }
+
+    /**
+     * Finds where a date starts in {@link #byDate()} by binary search.
+     *
+     * @param date date to look up
+     * @return index in {@link #byDate()} of the first holiday on or after {@code date}; {@link #size()} if none
+     */
+    public int indexOfDate(LocalDate date) {
+        long day = date.toEpochDay();
+        int lo = 0;
+        int hi = rowsByDate.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (holidays.epochDay(rowsByDate[mid]) < day) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the next holidays from a date on, located by binary search in {@link #byDate()}.
+     *
+     * @param from   first date to include
+     * @param filter holidays to include
+     * @param limit  maximum number of holidays to return
+     * @return up to {@code limit} matching holidays on or after {@code from}, in date order
+     */
+    public List<Holiday> upcoming(LocalDate from, Predicate<Holiday> filter, int limit) {
+        List<Holiday> result = new ArrayList<>(Math.min(limit, 64));
+        for (int i = indexOfDate(from); i < byDate.size() && result.size() < limit; i++) {
+            Holiday h = byDate.get(i);
+            if (filter.test(h)) {
+                result.add(h);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param date day to look up
+     * @return the holidays on {@code date}, in file order
+     */
+    public List<Holiday> on(LocalDate date) {
+        return byDate.subList(indexOfDate(date), indexOfDate(date.plusDays(1)));
+    }
+
+    /**
+     * Collapses holidays sharing a date, city and type into one entry with the other names as aliases.
+     *
+     * <p>The groups are computed when the snapshot is built; this only looks each holiday's group up.</p>
+     *
+     * @param holidays holidays from this snapshot, e.g. a query result
+     * @return one entry per group, in order of each group's first appearance in {@code holidays}
+     */
+    public List<CollapsedHoliday> collapse(List<Holiday> holidays) {
+        return aliasGroups.collapse(holidays);
+    }
+
+    /**
+     * @return number of entries the whole snapshot collapses to
+     */
+    public int collapsedSize() {
+        return aliasGroups.size();
+    }
+
+    /**
+     * @return the business-day calendar derived from this snapshot's mandatory holidays
+     */
+    public BusinessCalendar getBusinessCalendar() {
+        return businessCalendar;
+    }
+
+    /**
+     * Selects the holidays matching every criterion of {@code query}.
+     *
+     * <p>The most selective prebuilt index is used as the starting point and the remaining
+     * criteria are applied lazily, so no intermediate list is built.</p>
+     *
+     * @param query criteria to match
+     * @return matching holidays in file order
+     */
+    public Stream<Holiday> select(HolidayQuery query) {
+        Holiday.Type type = query.getType();
+        Integer month = query.getMonth();
+        Integer year = query.getYear();
+        String keyword = query.getKeyword();
+        String city = query.getCity();
+        if (month != null && (month < 1 || month > 12)) {
+            return Stream.empty();
+        }
+
+        List<Holiday> base;
+        boolean typeApplied = false;
+        boolean monthApplied = false;
+        boolean yearApplied = false;
+        boolean keywordApplied = false;
+        boolean cityApplied = false;
+        if (type != null && month != null && year != null) {
+            base = byTypeAndYearMonth(type, YearMonth.of(year, month));
+            typeApplied = true;
+            monthApplied = true;
+            yearApplied = true;
+        } else if (type != null && month != null) {
+            base = byTypeAndMonth(type, month);
+            typeApplied = true;
+            monthApplied = true;
+        } else if (keyword != null) {
+            base = search(keyword);
+            keywordApplied = true;
+        } else if (type != null) {
+            base = byType(type);
+            typeApplied = true;
+        } else if (city != null) {
+            base = byCity(city);
+            cityApplied = true;
+        } else {
+            base = holidays;
+        }
+
+        Stream<Holiday> result = base.stream();
+        if (type != null && !typeApplied) {
+            result = result.filter(h -> h.getType() == type);
+        }
+        if (month != null && !monthApplied) {
+            result = result.filter(h -> h.getDate().getMonthValue() == month);
+        }
+        if (year != null && !yearApplied) {
+            result = result.filter(h -> h.getDate().getYear() == year);
+        }
+        if (keyword != null && !keywordApplied) {
+            String needle = keyword.toLowerCase();
+            result = result.filter(h -> h.getName().toLowerCase().contains(needle));
+        }
+        if (city != null && !cityApplied) {
+            result = result.filter(cityFilter(city));
+        }
+        return result;
+    }
+
+    /**
+     * Growable list of row indexes used while building the indexes.
+     */
+    private static final class RowsBuilder {
+        private int[] rows = new int[8];
+        private int size;
+
+        void add(int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        List<Holiday> build(ColumnarHolidayStore store) {
+            return size == 0 ? List.of() : store.rows(Arrays.copyOf(rows, size));
+        }
+    }
+}
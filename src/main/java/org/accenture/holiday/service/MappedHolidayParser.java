@@ -0,0 +1,215 @@
+package org.accenture.holiday.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parses very large holiday files by memory-mapping them and parsing line-aligned chunks in parallel.
+ *
+ * <p>The file is cut into chunks of roughly {@code chunkBytes}, each ending just after a
+ * {@code '\n'}. Every chunk is mapped on its own with {@link FileChannel#map}, so the file content
+ * stays off-heap and no single mapping exceeds the 2 GB limit. Chunks are parsed on the common
+ * {@link ForkJoinPool} into their own {@link ParseAccumulator} and merged in file order, so the
+ * result is identical to reading the file line by line.</p>
+ *
+ * <p>Chunks keep their holidays in primitive columns, and each chunk's columns are released as soon
+ * as they are merged. Heap use therefore grows by about 13 bytes per parsed holiday, plus the name
+ * and city tables, and peaks at roughly twice that while the last chunks are merged. It does not
+ * depend on the file size.</p>
+ *
+ * <p>ASCII lines are handed to the scanner through a reusable view over the mapped bytes; only
+ * lines containing multi-byte characters are decoded into a {@code String} first.</p>
+ */
+final class MappedHolidayParser {
+
+    /** How far past a nominal boundary to look for the next line break per read. */
+    private static final int BOUNDARY_PROBE_BYTES = 4096;
+
+    private MappedHolidayParser() {
+    }
+
+    /**
+     * Parses {@code file} in parallel.
+     *
+     * @param file       file to parse
+     * @param chunkBytes target chunk size in bytes
+     * @return the merged report, in file order
+     * @throws IOException if the file cannot be mapped or read
+     */
+    static ParseReport parse(Path file, int chunkBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(channel, Math.max(chunkBytes, BOUNDARY_PROBE_BYTES));
+            List<ChunkTask> tasks = new ArrayList<>(bounds.length - 1);
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                tasks.add(new ChunkTask(channel, bounds[i], bounds[i + 1]));
+            }
+            ParseAccumulator merged = new ParseAccumulator();
+            try {
+                ForkJoinPool.commonPool().submit(() -> ForkJoinTask.invokeAll(tasks)).join();
+            } catch (RuntimeException e) {
+                for (Throwable t = e; t != null; t = t.getCause()) {
+                    if (t instanceof IOException) {
+                        throw (IOException) t;
+                    }
+                }
+                throw e;
+            }
+            for (int i = 0; i < tasks.size(); i++) {
+                merged.append(tasks.get(i).join());
+                // Drop the merged chunk's columns before the next one is copied.
+                tasks.set(i, null);
+            }
+            return merged.toReport();
+        }
+    }
+
+    /**
+     * Computes chunk boundaries; each boundary except the last sits just after a {@code '\n'}.
+     */
+    private static long[] chunkBounds(FileChannel channel, int chunkBytes) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(BOUNDARY_PROBE_BYTES);
+        long pos = chunkBytes;
+        while (pos < size) {
+            long boundary = nextLineStart(channel, pos, probe);
+            if (boundary >= size) {
+                break;
+            }
+            bounds.add(boundary);
+            pos = boundary + chunkBytes;
+        }
+        bounds.add(size);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * @return the position just after the first {@code '\n'} at or after {@code pos}, or the file size
+     */
+    private static long nextLineStart(FileChannel channel, long pos, ByteBuffer probe) throws IOException {
+        while (true) {
+            probe.clear();
+            int read = channel.read(probe, pos);
+            if (read <= 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return pos + i + 1;
+                }
+            }
+            pos += read;
+        }
+    }
+
+    /**
+     * Parses the lines of one mapped chunk.
+     */
+    private static final class ChunkTask extends RecursiveTask<ParseAccumulator> {
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+
+        ChunkTask(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected ParseAccumulator compute() {
+            MappedByteBuffer buffer;
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            ParseAccumulator accumulator = new ParseAccumulator();
+            AsciiLine view = new AsciiLine(buffer);
+            int limit = buffer.limit();
+            int lineStart = 0;
+            boolean ascii = true;
+            for (int i = 0; i < limit; i++) {
+                byte b = buffer.get(i);
+                if (b == '\n' || b == '\r') {
+                    accept(accumulator, buffer, view, lineStart, i, ascii);
+                    if (b == '\r' && i + 1 < limit && buffer.get(i + 1) == '\n') {
+                        i++;
+                    }
+                    lineStart = i + 1;
+                    ascii = true;
+                } else if (b < 0) {
+                    ascii = false;
+                }
+            }
+            if (lineStart < limit) {
+                accept(accumulator, buffer, view, lineStart, limit, ascii);
+            }
+            return accumulator;
+        }
+
+        private static void accept(ParseAccumulator accumulator, ByteBuffer buffer, AsciiLine view,
+                                   int from, int to, boolean ascii) {
+            if (ascii) {
+                accumulator.accept(view.reset(from, to));
+            } else {
+                byte[] bytes = new byte[to - from];
+                buffer.get(from, bytes);
+                accumulator.accept(new String(bytes, StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    /**
+     * Reusable {@link CharSequence} view over an ASCII range of a byte buffer.
+     */
+    private static final class AsciiLine implements CharSequence {
+        private final ByteBuffer buffer;
+        private int from;
+        private int length;
+
+        AsciiLine(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        AsciiLine reset(int from, int to) {
+            this.from = from;
+            this.length = to - from;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) buffer.get(from + index);
+        }
+
+        @Override
+        public String subSequence(int start, int end) {
+            byte[] bytes = new byte[end - start];
+            buffer.get(from + start, bytes);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, length);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package org.accenture.holiday.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trigram index answering case-insensitive substring queries over holiday names.
+ *
+ * <p>The index is built over the distinct names of a {@link ColumnarHolidayStore}, lower-cased once
+ * with {@link String#toLowerCase()}. A keyword of three or more characters is split into trigrams
+ * whose posting lists are intersected, smallest first; the surviving candidates are confirmed with
+ * {@link String#contains(CharSequence)}, so results are exactly those of a full
+ * {@code name.toLowerCase().contains(keyword.toLowerCase())} scan. Shorter keywords scan the
+ * distinct names only. Matching rows are returned in file order.</p>
+ *
+ * <p>Keywords longer than the longest name are rejected up front, and each distinct trigram is
+ * looked up once, so long or repetitive keywords cost at most one pass over their own length.</p>
+ */
+final class NameSearchIndex {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    /** Lower-cased distinct names, indexed by name id. */
+    private final String[] lowerNames;
+    /** Rows per name id, in file order. */
+    private final int[][] rowsByName;
+    /** Sorted name ids per trigram. */
+    private final Map<Long, int[]> postings;
+    /** Length of the longest lower-cased name. */
+    private final int maxNameLength;
+    /** Total number of rows in the store. */
+    private final int rowCount;
+
+    /**
+     * Builds the index for {@code store}.
+     *
+     * @param store store whose names are indexed
+     */
+    NameSearchIndex(ColumnarHolidayStore store) {
+        int names = store.nameCount();
+        this.rowCount = store.size();
+        this.lowerNames = new String[names];
+        int max = 0;
+        for (int id = 0; id < names; id++) {
+            lowerNames[id] = store.name(id).toLowerCase();
+            max = Math.max(max, lowerNames[id].length());
+        }
+        this.maxNameLength = max;
+
+        int[] counts = new int[names];
+        for (int row = 0; row < store.size(); row++) {
+            counts[store.nameId(row)]++;
+        }
+        this.rowsByName = new int[names][];
+        for (int id = 0; id < names; id++) {
+            rowsByName[id] = new int[counts[id]];
+            counts[id] = 0;
+        }
+        for (int row = 0; row < store.size(); row++) {
+            int id = store.nameId(row);
+            rowsByName[id][counts[id]++] = row;
+        }
+
+        Map<Long, List<Integer>> building = new HashMap<>();
+        for (int id = 0; id < names; id++) {
+            for (long trigram : trigrams(lowerNames[id])) {
+                building.computeIfAbsent(trigram, k -> new ArrayList<>()).add(id);
+            }
+        }
+        this.postings = new HashMap<>(building.size() * 2);
+        building.forEach((trigram, ids) -> postings.put(trigram, ids.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * Finds the rows whose name contains {@code keyword}, ignoring case.
+     *
+     * @param keyword search text
+     * @return matching row indexes in ascending (file) order
+     */
+    int[] search(String keyword) {
+        String needle = keyword.toLowerCase();
+        if (needle.isEmpty()) {
+            int[] all = new int[rowCount];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        if (needle.length() > maxNameLength) {
+            return NO_ROWS;
+        }
+        int[] candidates = needle.length() < 3 ? null : candidates(needle);
+        List<int[]> matches = new ArrayList<>();
+        int total = 0;
+        if (candidates == null) {
+            for (int id = 0; id < lowerNames.length; id++) {
+                if (lowerNames[id].contains(needle)) {
+                    matches.add(rowsByName[id]);
+                    total += rowsByName[id].length;
+                }
+            }
+        } else {
+            for (int id : candidates) {
+                if (lowerNames[id].contains(needle)) {
+                    matches.add(rowsByName[id]);
+                    total += rowsByName[id].length;
+                }
+            }
+        }
+        int[] rows = new int[total];
+        int pos = 0;
+        for (int[] r : matches) {
+            System.arraycopy(r, 0, rows, pos, r.length);
+            pos += r.length;
+        }
+        Arrays.sort(rows);
+        return rows;
+    }
+
+    /**
+     * Intersects the posting lists of the keyword's trigrams.
+     *
+     * @return candidate name ids; empty if any trigram is unknown
+     */
+    private int[] candidates(String needle) {
+        Set<Long> grams = trigrams(needle);
+        int[][] lists = new int[grams.size()][];
+        int n = 0;
+        for (long gram : grams) {
+            int[] list = postings.get(gram);
+            if (list == null) {
+                return NO_ROWS;
+            }
+            lists[n++] = list;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, k);
+    }
+
+    /**
+     * @return the distinct trigrams of {@code s}, each packed into a long
+     */
+    private static Set<Long> trigrams(String s) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= s.length(); i++) {
+            grams.add(((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2));
+        }
+        return grams;
+    }
+}
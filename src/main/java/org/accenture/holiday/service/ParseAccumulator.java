@@ -0,0 +1,100 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+import org.accenture.holiday.model.QuarantinedLine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects parsed holidays and diagnostics line by line; shared by all loader modes so they
+ * apply exactly the same parsing and filtering rules.
+ *
+ * <p>Accepted holidays go straight into the primitive columns of a {@link ColumnarHolidayStore.Builder},
+ * so a parse retains about 13 bytes per holiday rather than a {@link Holiday} object.</p>
+ *
+ * <p>Rejected, weekend-filtered and day-of-week-mismatched lines are also kept, with their line
+ * numbers, in a {@link QuarantineRing}. Well-formed weekday lines only pay for reading a flag the
+ * scanner sets while parsing.</p>
+ */
+final class ParseAccumulator {
+
+    private final ColumnarHolidayStore.Builder holidays = new ColumnarHolidayStore.Builder();
+    private final List<Integer> fallbackLines = new ArrayList<>();
+    private int fallbackCount;
+    private int lineCount;
+    private int rejectedCount;
+    private int weekendCount;
+    private int mismatchCount;
+    private final QuarantineRing quarantine = new QuarantineRing(ParseReport.MAX_RECORDED_LINES);
+    /** Set by the scanner for each line it parses; reused across lines. */
+    private final boolean[] dayMismatch = new boolean[1];
+
+    /**
+     * Parses one line with the scanner, falling back to the regex, and keeps it if it is a weekday holiday.
+     *
+     * @param line the line without its terminator; may be a view that is reused for the next line
+     */
+    void accept(CharSequence line) {
+        lineCount++;
+        Holiday holiday = HolidayLineScanner.scan(line, dayMismatch);
+        boolean mismatch = dayMismatch[0];
+        String text = null;
+        if (holiday == null) {
+            text = line.toString();
+            holiday = HolidayService.parseLine(text);
+            if (holiday != null) {
+                fallbackCount++;
+                if (fallbackLines.size() < ParseReport.MAX_RECORDED_LINES) {
+                    fallbackLines.add(lineCount);
+                }
+                mismatch = HolidayService.dayMismatch(text, holiday);
+            }
+        }
+        if (holiday == null) {
+            rejectedCount++;
+            quarantine.add(lineCount, QuarantinedLine.Reason.REJECTED, text, null);
+            return;
+        }
+        if (mismatch) {
+            mismatchCount++;
+            quarantine.add(lineCount, QuarantinedLine.Reason.DAY_OF_WEEK_MISMATCH, text != null ? text : line.toString(), holiday);
+        }
+        if (HolidayService.isWeekend(holiday)) {
+            weekendCount++;
+            quarantine.add(lineCount, QuarantinedLine.Reason.WEEKEND, null, holiday);
+        } else {
+            holidays.add(holiday);
+        }
+    }
+
+    /**
+     * Appends the results of an accumulator that parsed the lines following this one's.
+     *
+     * @param next accumulator for the immediately following part of the file
+     */
+    void append(ParseAccumulator next) {
+        holidays.addAll(next.holidays);
+        for (int line : next.fallbackLines) {
+            if (fallbackLines.size() >= ParseReport.MAX_RECORDED_LINES) {
+                break;
+            }
+            fallbackLines.add(lineCount + line);
+        }
+        quarantine.addAll(next.quarantine, lineCount);
+        fallbackCount += next.fallbackCount;
+        lineCount += next.lineCount;
+        rejectedCount += next.rejectedCount;
+        weekendCount += next.weekendCount;
+        mismatchCount += next.mismatchCount;
+    }
+
+    /**
+     * @return the report for all lines accepted so far, with the holidays in a {@link ColumnarHolidayStore};
+     * the accumulator must not be used afterwards
+     */
+    ParseReport toReport() {
+        return new ParseReport(holidays.build(), lineCount, rejectedCount, weekendCount, fallbackCount, fallbackLines,
+                mismatchCount, quarantine.toList(0));
+    }
+}
@@ -0,0 +1,82 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.QuarantineReport;
+import org.accenture.holiday.model.QuarantinedLine;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the line-level diagnostics of the latest parse of every holidays file a {@link HolidayService}
+ * has read, so that dropped or suspect lines can be looked up without re-reading the file.
+ *
+ * <p>A full parse replaces a file's diagnostics; an incremental parse of appended lines adds to them,
+ * keeping only the last {@value ParseReport#MAX_RECORDED_LINES} lines. A load from a binary snapshot
+ * counts as a full parse and restores the diagnostics stored with the snapshot.</p>
+ */
+public final class ParseQuarantine {
+
+    private final Map<Path, QuarantineReport> reports = new ConcurrentHashMap<>();
+
+    /**
+     * Replaces the diagnostics of {@code file} with those of a full parse.
+     *
+     * @param file   parsed file
+     * @param report result of parsing it from the first line
+     */
+    void record(Path file, ParseReport report) {
+        Path key = key(file);
+        reports.put(key, new QuarantineReport(key.toString(), Instant.now(), report.getLinesRead(),
+                report.getRejectedCount(), report.getDayMismatchCount(), report.getWeekendFilteredCount(),
+                report.getQuarantinedLines()));
+    }
+
+    /**
+     * Adds the diagnostics of lines appended to {@code file}.
+     *
+     * @param file       parsed file
+     * @param report     result of parsing the appended lines
+     * @param lineOffset number of lines before the appended ones
+     */
+    void append(Path file, ParseReport report, long lineOffset) {
+        Path key = key(file);
+        reports.compute(key, (k, previous) -> {
+            QuarantineReport before = previous != null ? previous
+                    : new QuarantineReport(k.toString(), Instant.now(), 0, 0, 0, 0, List.of());
+            List<QuarantinedLine> lines = new ArrayList<>(before.getLines());
+            for (QuarantinedLine line : report.getQuarantinedLines()) {
+                lines.add(new QuarantinedLine(line.getLineNumber() + lineOffset, line.getReason(), line.getText(),
+                        line.getHoliday()));
+            }
+            return new QuarantineReport(k.toString(), Instant.now(), before.getLinesRead() + report.getLinesRead(),
+                    before.getRejectedCount() + report.getRejectedCount(),
+                    before.getDayMismatchCount() + report.getDayMismatchCount(),
+                    before.getWeekendFilteredCount() + report.getWeekendFilteredCount(),
+                    lines.subList(Math.max(0, lines.size() - ParseReport.MAX_RECORDED_LINES), lines.size()));
+        });
+    }
+
+    /**
+     * @return the diagnostics of every file parsed so far, ordered by path
+     */
+    public List<QuarantineReport> getReports() {
+        return reports.values().stream().sorted(Comparator.comparing(QuarantineReport::getFile)).toList();
+    }
+
+    /**
+     * @param file a holidays file
+     * @return its diagnostics, or {@code null} if it has not been parsed from text
+     */
+    public QuarantineReport getReport(Path file) {
+        return reports.get(key(file));
+    }
+
+    private static Path key(Path file) {
+        return file.toAbsolutePath().normalize();
+    }
+}
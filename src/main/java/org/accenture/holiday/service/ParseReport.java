@@ -0,0 +1,106 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+import org.accenture.holiday.model.QuarantinedLine;
+
+import java.util.List;
+
+/**
+ * Result of parsing a holidays file, with diagnostics about how the lines were handled.
+ */
+public final class ParseReport {
+
+    /** Maximum number of line numbers kept per diagnostic list, and of quarantined lines. */
+    static final int MAX_RECORDED_LINES = 100;
+
+    private final List<Holiday> holidays;
+    private final int linesRead;
+    private final int rejectedCount;
+    private final int weekendFilteredCount;
+    private final int fallbackCount;
+    private final List<Integer> fallbackLines;
+    private final int dayMismatchCount;
+    private final List<QuarantinedLine> quarantinedLines;
+
+    /**
+     * Creates a new ParseReport.
+     *
+     * @param holidays             parsed weekday holidays in file order
+     * @param linesRead            number of lines read
+     * @param rejectedCount        number of lines that could not be parsed
+     * @param weekendFilteredCount number of parsed lines dropped because they fall on a weekend
+     * @param fallbackCount        number of lines that were parsed by the regex fallback
+     * @param fallbackLines        1-based numbers of the first such lines, at most {@value #MAX_RECORDED_LINES}
+     * @param dayMismatchCount     number of parsed lines whose day-of-week word does not name the date's day
+     * @param quarantinedLines     the last rejected, weekend-filtered and mismatched lines in line order,
+     *                             at most {@value #MAX_RECORDED_LINES}
+     */
+    ParseReport(List<Holiday> holidays, int linesRead, int rejectedCount, int weekendFilteredCount,
+                int fallbackCount, List<Integer> fallbackLines, int dayMismatchCount,
+                List<QuarantinedLine> quarantinedLines) {
+        this.holidays = holidays;
+        this.linesRead = linesRead;
+        this.rejectedCount = rejectedCount;
+        this.weekendFilteredCount = weekendFilteredCount;
+        this.fallbackCount = fallbackCount;
+        this.fallbackLines = List.copyOf(fallbackLines);
+        this.dayMismatchCount = dayMismatchCount;
+        this.quarantinedLines = List.copyOf(quarantinedLines);
+    }
+
+    /**
+     * @return parsed weekday holidays in file order
+     */
+    public List<Holiday> getHolidays() {
+        return holidays;
+    }
+
+    /**
+     * @return number of lines read, by this parse or by the parse that wrote the binary snapshot it came from
+     */
+    public int getLinesRead() {
+        return linesRead;
+    }
+
+    /**
+     * @return number of lines neither the scanner nor the regex fallback could parse
+     */
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * @return number of parsed lines dropped because the holiday falls on a Saturday or Sunday
+     */
+    public int getWeekendFilteredCount() {
+        return weekendFilteredCount;
+    }
+
+    /**
+     * @return number of lines the scanner rejected but the regex fallback accepted
+     */
+    public int getFallbackCount() {
+        return fallbackCount;
+    }
+
+    /**
+     * @return 1-based numbers of the first lines that went through the regex fallback
+     */
+    public List<Integer> getFallbackLines() {
+        return fallbackLines;
+    }
+
+    /**
+     * @return number of parsed lines whose day-of-week word does not name the day of their date
+     */
+    public int getDayMismatchCount() {
+        return dayMismatchCount;
+    }
+
+    /**
+     * @return the last rejected, weekend-filtered and day-of-week-mismatched lines, in line order
+     */
+    public List<QuarantinedLine> getQuarantinedLines() {
+        return quarantinedLines;
+    }
+}
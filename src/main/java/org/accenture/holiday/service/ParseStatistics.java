@@ -0,0 +1,110 @@
+package org.accenture.holiday.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cumulative counters over every holidays file load performed by a {@link HolidayService}.
+ *
+ * <p>Loads are rare, so plain atomics are enough; readers such as metrics exporters may poll the
+ * getters at any time without coordinating with the loader.</p>
+ */
+public final class ParseStatistics {
+
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong snapshotLoads = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong lastNanos = new AtomicLong();
+    private final AtomicLong linesRead = new AtomicLong();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong weekendFiltered = new AtomicLong();
+    private final AtomicLong dayMismatches = new AtomicLong();
+
+    /**
+     * Adds one completed load.
+     *
+     * @param report       result of the load
+     * @param nanos        wall-clock duration of the load
+     * @param fromSnapshot whether the holidays came from a binary snapshot rather than the text file
+     */
+    void record(ParseReport report, long nanos, boolean fromSnapshot) {
+        loads.incrementAndGet();
+        if (fromSnapshot) {
+            snapshotLoads.incrementAndGet();
+        }
+        totalNanos.addAndGet(nanos);
+        lastNanos.set(nanos);
+        if (fromSnapshot) {
+            // The line counters describe text that was actually read; a snapshot repeats an earlier parse.
+            return;
+        }
+        linesRead.addAndGet(report.getLinesRead());
+        accepted.addAndGet(report.getHolidays().size());
+        rejected.addAndGet(report.getRejectedCount());
+        weekendFiltered.addAndGet(report.getWeekendFilteredCount());
+        dayMismatches.addAndGet(report.getDayMismatchCount());
+    }
+
+    /**
+     * @return number of completed loads, from text or snapshot
+     */
+    public long getLoads() {
+        return loads.get();
+    }
+
+    /**
+     * @return number of loads answered from a binary snapshot
+     */
+    public long getSnapshotLoads() {
+        return snapshotLoads.get();
+    }
+
+    /**
+     * @return total duration of all loads in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+
+    /**
+     * @return duration of the most recent load in nanoseconds
+     */
+    public long getLastNanos() {
+        return lastNanos.get();
+    }
+
+    /**
+     * @return lines read from text files
+     */
+    public long getLinesRead() {
+        return linesRead.get();
+    }
+
+    /**
+     * @return lines parsed into weekday holidays
+     */
+    public long getAccepted() {
+        return accepted.get();
+    }
+
+    /**
+     * @return lines that could not be parsed
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * @return parsed lines dropped because they fall on a weekend
+     */
+    public long getWeekendFiltered() {
+        return weekendFiltered.get();
+    }
+
+    /**
+     * @return parsed lines whose day-of-week word does not name the day of their date
+     */
+    public long getDayMismatches() {
+        return dayMismatches.get();
+    }
+}
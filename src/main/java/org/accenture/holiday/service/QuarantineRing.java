@@ -0,0 +1,85 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+import org.accenture.holiday.model.QuarantinedLine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded ring of the most recent quarantined lines of one parse.
+ *
+ * <p>Entries are held in parallel arrays, allocated on the first entry, and overwritten oldest first
+ * once the ring is full. Recording a line therefore allocates nothing, and a file without problem
+ * lines costs nothing at all.</p>
+ */
+final class QuarantineRing {
+
+    private static final QuarantinedLine.Reason[] REASONS = QuarantinedLine.Reason.values();
+
+    private final int capacity;
+    private long[] lineNumbers;
+    private byte[] reasons;
+    private String[] texts;
+    private Holiday[] holidays;
+    /** Total entries ever recorded; the newest is at {@code (count - 1) % capacity}. */
+    private long count;
+
+    /**
+     * @param capacity maximum number of entries kept
+     */
+    QuarantineRing(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records a line, evicting the oldest entry if the ring is full.
+     *
+     * @param lineNumber 1-based line number
+     * @param reason     why the line is quarantined
+     * @param text       the line as read, or {@code null}
+     * @param holiday    the parsed holiday, or {@code null}
+     */
+    void add(long lineNumber, QuarantinedLine.Reason reason, String text, Holiday holiday) {
+        if (capacity == 0) {
+            return;
+        }
+        if (lineNumbers == null) {
+            lineNumbers = new long[capacity];
+            reasons = new byte[capacity];
+            texts = new String[capacity];
+            holidays = new Holiday[capacity];
+        }
+        int slot = (int) (count++ % capacity);
+        lineNumbers[slot] = lineNumber;
+        reasons[slot] = (byte) reason.ordinal();
+        texts[slot] = text;
+        holidays[slot] = holiday;
+    }
+
+    /**
+     * Records the entries of a ring that covered the lines following this one's.
+     *
+     * @param next       ring of the following lines
+     * @param lineOffset number of lines before those covered by {@code next}
+     */
+    void addAll(QuarantineRing next, long lineOffset) {
+        for (QuarantinedLine line : next.toList(lineOffset)) {
+            add(line.getLineNumber(), line.getReason(), line.getText(), line.getHoliday());
+        }
+    }
+
+    /**
+     * @param lineOffset number added to each line number
+     * @return the entries kept, oldest first
+     */
+    List<QuarantinedLine> toList(long lineOffset) {
+        int size = (int) Math.min(count, capacity);
+        List<QuarantinedLine> lines = new ArrayList<>(size);
+        for (long i = count - size; i < count; i++) {
+            int slot = (int) (i % capacity);
+            lines.add(new QuarantinedLine(lineNumbers[slot] + lineOffset, REASONS[reasons[slot]], texts[slot], holidays[slot]));
+        }
+        return lines;
+    }
+}
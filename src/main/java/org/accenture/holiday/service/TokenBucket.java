@@ -0,0 +1,61 @@
+package org.accenture.holiday.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A lock-free token bucket refilled at a fixed rate.
+ *
+ * <p>The bucket is kept as a single "theoretical arrival time": the instant at which it would be full
+ * again. Taking a token pushes that instant one refill interval further; the token is refused if the
+ * instant would lie more than {@code burst} intervals ahead of now. This is the generic cell rate
+ * algorithm, equivalent to a token bucket of {@code burst} tokens, but needs no refill thread and
+ * only one compare-and-set per request.</p>
+ */
+public final class TokenBucket {
+
+    /** Nanoseconds between two tokens. */
+    private final long intervalNanos;
+    /** How far the theoretical arrival time may run ahead of now. */
+    private final long toleranceNanos;
+    private final LongSupplier nanoClock;
+    /** Instant, on {@link #nanoClock}, at which the bucket is full again. */
+    private final AtomicLong fullAt;
+
+    /**
+     * Constructs a new bucket that starts full.
+     *
+     * @param ratePerSecond tokens added per second; must be positive
+     * @param burst         capacity in tokens; must be positive
+     * @param nanoClock     monotonic clock in nanoseconds, normally {@code System::nanoTime}
+     */
+    public TokenBucket(double ratePerSecond, int burst, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Rate and burst must be positive: " + ratePerSecond + ", " + burst);
+        }
+        this.intervalNanos = Math.max(1, Math.round(1_000_000_000d / ratePerSecond));
+        this.toleranceNanos = intervalNanos * burst;
+        this.nanoClock = nanoClock;
+        this.fullAt = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Takes one token if available. A refused caller can succeed again after at most one refill interval.
+     *
+     * @return {@code true} if a token was taken
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = fullAt.get();
+            // Compared by difference, as System.nanoTime values may overflow.
+            long next = (current - now > 0 ? current : now) + intervalNanos;
+            if (next - now > toleranceNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+}
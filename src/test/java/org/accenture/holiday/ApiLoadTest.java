@@ -0,0 +1,315 @@
+package org.accenture.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Opt-in load test of the REST API with a machine-readable report and a p99 regression gate.
+ *
+ * <p>Enabled with {@code -Dholidays.apiload=true}. For each size in {@code holidays.apiload.rows}
+ * (default {@code 10000,100000}) a holidays file is generated by repeating the bundled file, the
+ * application is started on {@code holidays.apiload.port} (default {@code 0}, a random free port) and
+ * each of the five holiday endpoints is driven with {@code holidays.apiload.requests} requests at every
+ * concurrency in {@code holidays.apiload.concurrency} (default {@code 1,16,64}). Everything runs
+ * locally; no network access is needed.</p>
+ *
+ * <p>Each scenario records throughput, p50/p99/p999 latency, heap in use afterwards and the garbage
+ * collections during the run, and the report is written to {@code holidays.apiload.report} (default
+ * {@code target/api-load-report.json}). If the baseline {@code holidays.apiload.baseline} (default
+ * {@code src/test/resources/api-load-baseline.json}) exists, the test fails when a scenario's p99 exceeds
+ * the baseline's by more than {@code holidays.apiload.max-p99-regression} (default {@code 0.25}) plus
+ * {@code holidays.apiload.p99-slack-ms} (default {@code 1}). {@code -Dholidays.apiload.update-baseline=true}
+ * stores the report as the new baseline instead. Baselines are only comparable on the same machine.</p>
+ *
+ * <p>The server and the clients share one JVM, so heap and GC figures include both. Bulkheads are
+ * disabled so that every request measures the handler rather than load shedding.</p>
+ */
+@EnabledIfSystemProperty(named = "holidays.apiload", matches = "true")
+class ApiLoadTest {
+
+    private static final List<Integer> ROWS = integers("holidays.apiload.rows", "10000,100000");
+    private static final List<Integer> CONCURRENCY = integers("holidays.apiload.concurrency", "1,16,64");
+    private static final int REQUESTS = Integer.getInteger("holidays.apiload.requests", 2_000);
+    private static final int PORT = Integer.getInteger("holidays.apiload.port", 0);
+    private static final Path REPORT = Path.of(System.getProperty("holidays.apiload.report", "target/api-load-report.json"));
+    private static final Path BASELINE = Path.of(System.getProperty("holidays.apiload.baseline",
+            "src/test/resources/api-load-baseline.json"));
+    private static final double MAX_REGRESSION = Double.parseDouble(System.getProperty("holidays.apiload.max-p99-regression", "0.25"));
+    private static final double SLACK_MS = Double.parseDouble(System.getProperty("holidays.apiload.p99-slack-ms", "1"));
+    private static final Path BUNDLED = Path.of("src/main/resources/bangalore_holidays.log");
+
+    /** Endpoints driven by the test, by name. */
+    private static final Map<String, String> ENDPOINTS = new LinkedHashMap<>();
+
+    static {
+        ENDPOINTS.put("mandatory", "/api/holidays/mandatory");
+        ENDPOINTS.put("floating", "/api/holidays/floating");
+        ENDPOINTS.put("mandatoryByMonth", "/api/holidays/mandatory/month/1");
+        ENDPOINTS.put("floatingByMonth", "/api/holidays/floating/month/3");
+        ENDPOINTS.put("search", "/api/holidays/search/jayanti");
+    }
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    /**
+     * Runs every scenario, writes the report and compares it with the baseline.
+     */
+    @Test
+    void measuresEndpointsAgainstBaseline() throws Exception {
+        ObjectNode report = JSON.createObjectNode();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("maxHeapBytes", Runtime.getRuntime().maxMemory());
+        report.put("requestsPerScenario", REQUESTS);
+        ArrayNode scenarios = report.putArray("scenarios");
+
+        Path dir = Files.createTempDirectory("holiday-load");
+        try {
+            for (int rows : ROWS) {
+                Path file = generate(dir, rows);
+                try (ConfigurableApplicationContext context = start(file)) {
+                    String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                    HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+                    for (Map.Entry<String, String> endpoint : ENDPOINTS.entrySet()) {
+                        URI uri = URI.create(base + endpoint.getValue());
+                        // Warm-up so JIT compilation and the response cache do not dominate the measured runs.
+                        fire(client, uri, 8, Math.max(100, REQUESTS / 10));
+                        for (int clients : CONCURRENCY) {
+                            ObjectNode scenario = measure(client, uri, clients);
+                            scenario.put("rows", rows);
+                            scenario.put("endpoint", endpoint.getKey());
+                            scenario.put("concurrency", clients);
+                            scenarios.add(scenario);
+                            System.out.printf("%7d rows %-16s x%-3d %8.0f req/s  p50 %6.2f ms  p99 %6.2f ms  p999 %6.2f ms  gc %d (%d ms)%n",
+                                    rows, endpoint.getKey(), clients, scenario.get("throughputPerSecond").asDouble(),
+                                    scenario.get("p50Ms").asDouble(), scenario.get("p99Ms").asDouble(),
+                                    scenario.get("p999Ms").asDouble(), scenario.get("gcCount").asLong(),
+                                    scenario.get("gcTimeMs").asLong());
+                        }
+                    }
+                }
+            }
+        } finally {
+            try (var files = Files.list(dir)) {
+                for (Path path : files.toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+            Files.deleteIfExists(dir);
+        }
+
+        write(REPORT, report);
+        System.out.println("Load report written to " + REPORT.toAbsolutePath());
+        if (Boolean.getBoolean("holidays.apiload.update-baseline")) {
+            write(BASELINE, report);
+            System.out.println("Baseline updated at " + BASELINE.toAbsolutePath());
+        } else if (Files.exists(BASELINE)) {
+            List<String> regressions = regressions(JSON.readTree(BASELINE.toFile()), report);
+            assertTrue(regressions.isEmpty(), "p99 regressions against " + BASELINE + ":\n" + String.join("\n", regressions));
+        } else {
+            System.out.println("No baseline at " + BASELINE + "; run with -Dholidays.apiload.update-baseline=true to record one");
+        }
+    }
+
+    /**
+     * Writes a holidays file of {@code rows} lines by repeating the bundled file.
+     */
+    private static Path generate(Path dir, int rows) throws IOException {
+        List<String> source = Files.readAllLines(BUNDLED, StandardCharsets.UTF_8);
+        Path file = dir.resolve("holidays-" + rows + ".log");
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < rows; i++) {
+                out.write(source.get(i % source.size()));
+                out.newLine();
+            }
+        }
+        return file;
+    }
+
+    private static ConfigurableApplicationContext start(Path file) {
+        // Command-line arguments, unlike builder properties, take precedence over application.properties.
+        return new SpringApplicationBuilder(AccentureHolidayApplication.class)
+                .run("--server.port=" + PORT,
+                        "--holidays.file.path=" + file,
+                        "--holidays.snapshot.enabled=false",
+                        "--holidays.watch.enabled=false",
+                        "--holidays.events.enabled=false",
+                        "--holidays.bulkhead.enabled=false");
+    }
+
+    /**
+     * Runs one scenario and describes it: throughput, latency percentiles, errors, heap and GC.
+     */
+    private static ObjectNode measure(HttpClient client, URI uri, int clients) throws Exception {
+        System.gc();
+        long gcCount = gcCount();
+        long gcTime = gcTime();
+        resetPeakHeap();
+
+        long start = System.nanoTime();
+        AtomicInteger errors = new AtomicInteger();
+        long[] latencies = fire(client, uri, clients, REQUESTS, errors);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Arrays.sort(latencies);
+
+        ObjectNode scenario = JSON.createObjectNode();
+        scenario.put("requests", latencies.length);
+        scenario.put("errors", errors.get());
+        scenario.put("throughputPerSecond", round(latencies.length / seconds));
+        scenario.put("p50Ms", percentile(latencies, 0.50));
+        scenario.put("p99Ms", percentile(latencies, 0.99));
+        scenario.put("p999Ms", percentile(latencies, 0.999));
+        scenario.put("maxMs", round(latencies[latencies.length - 1] / 1e6));
+        scenario.put("heapUsedBytes", ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+        scenario.put("heapPeakBytes", peakHeap());
+        scenario.put("gcCount", gcCount() - gcCount);
+        scenario.put("gcTimeMs", gcTime() - gcTime);
+        return scenario;
+    }
+
+    private static long[] fire(HttpClient client, URI uri, int clients, int total) throws Exception {
+        return fire(client, uri, clients, total, new AtomicInteger());
+    }
+
+    /**
+     * Sends {@code total} GET requests to {@code uri} from {@code clients} threads, counting non-200 responses.
+     *
+     * @return the latency of every request in nanoseconds
+     */
+    private static long[] fire(HttpClient client, URI uri, int clients, int total, AtomicInteger errors) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri).build();
+            List<Future<long[]>> futures = new ArrayList<>(clients);
+            for (int c = 0; c < clients; c++) {
+                int share = total / clients + (c < total % clients ? 1 : 0);
+                futures.add(pool.submit(() -> {
+                    long[] latencies = new long[share];
+                    for (int i = 0; i < share; i++) {
+                        long t0 = System.nanoTime();
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        latencies[i] = System.nanoTime() - t0;
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return latencies;
+                }));
+            }
+            long[] all = new long[total];
+            int pos = 0;
+            for (Future<long[]> future : futures) {
+                long[] part = future.get();
+                System.arraycopy(part, 0, all, pos, part.length);
+                pos += part.length;
+            }
+            return all;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Lists the scenarios of {@code report} whose p99 exceeds the matching baseline scenario's beyond the allowed margin.
+     */
+    private static List<String> regressions(JsonNode baseline, JsonNode report) {
+        Map<String, Double> allowed = new LinkedHashMap<>();
+        for (JsonNode scenario : baseline.get("scenarios")) {
+            allowed.put(key(scenario), scenario.get("p99Ms").asDouble() * (1 + MAX_REGRESSION) + SLACK_MS);
+        }
+        List<String> regressions = new ArrayList<>();
+        for (JsonNode scenario : report.get("scenarios")) {
+            Double limit = allowed.get(key(scenario));
+            double p99 = scenario.get("p99Ms").asDouble();
+            if (limit != null && p99 > limit) {
+                regressions.add(String.format("%s: p99 %.2f ms > allowed %.2f ms", key(scenario), p99, limit));
+            }
+        }
+        return regressions;
+    }
+
+    private static String key(JsonNode scenario) {
+        return scenario.get("rows").asInt() + " rows " + scenario.get("endpoint").asString()
+                + " x" + scenario.get("concurrency").asInt();
+    }
+
+    private static void write(Path path, JsonNode report) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.writeString(path, JSON.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).filter(c -> c > 0).sum();
+    }
+
+    private static long gcTime() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).filter(t -> t > 0).sum();
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * @return sum of the heap pools' peak usage since {@link #resetPeakHeap()}; an upper bound of the true peak
+     */
+    private static long peakHeap() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return round(sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)] / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static List<Integer> integers(String property, String fallback) {
+        return Arrays.stream(System.getProperty(property, fallback).split(","))
+                .map(String::trim).map(Integer::valueOf).toList();
+    }
+}
@@ -0,0 +1,124 @@
+package org.accenture.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Opt-in load test comparing request handling on Tomcat platform threads and on virtual threads.
+ *
+ * <p>Enabled with {@code -Dholidays.loadtest=true}. Each mode starts the application on a random
+ * port with a deliberately small Tomcat pool ({@code holidays.loadtest.tomcat-threads}, default 50)
+ * and fires {@code holidays.loadtest.requests} requests from {@code holidays.loadtest.concurrency}
+ * concurrent clients, then prints throughput and latency percentiles. The virtual-thread run needs Java 21.</p>
+ */
+@EnabledIfSystemProperty(named = "holidays.loadtest", matches = "true")
+class ThreadModeLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("holidays.loadtest.concurrency", 500);
+    private static final int REQUESTS = Integer.getInteger("holidays.loadtest.requests", 50_000);
+    private static final int TOMCAT_THREADS = Integer.getInteger("holidays.loadtest.tomcat-threads", 50);
+    private static final List<String> PATHS = List.of("/api/holidays/mandatory", "/api/holidays/floating/month/3",
+            "/api/holidays/search/jayanti", "/api/holidays/business-days?from=2026-01-01&to=2026-12-31");
+
+    /**
+     * Baseline: requests handled by the bounded Tomcat platform thread pool.
+     */
+    @Test
+    void platformThreads() throws Exception {
+        run(false);
+    }
+
+    /**
+     * Requests handled on one virtual thread each.
+     */
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreads() throws Exception {
+        run(true);
+    }
+
+    private static void run(boolean virtual) throws Exception {
+        // Command-line arguments, unlike builder properties, take precedence over application.properties.
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccentureHolidayApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "--holidays.file.path=src/main/resources/bangalore_holidays.log",
+                        "--holidays.snapshot.enabled=false",
+                        "--holidays.watch.enabled=false",
+                        "--holidays.bulkhead.enabled=false")) {
+            String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            // Warm-up so JIT compilation does not dominate the measured run.
+            fire(client, base, Math.min(CONCURRENCY, 64), REQUESTS / 10);
+
+            long start = System.nanoTime();
+            long[] latencies = fire(client, base, CONCURRENCY, REQUESTS);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            Arrays.sort(latencies);
+            System.out.printf("%s threads: %d requests, %d clients, %.0f req/s, p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                    virtual ? "virtual" : "platform", latencies.length, CONCURRENCY, latencies.length / seconds,
+                    percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1] / 1e6);
+        }
+    }
+
+    /**
+     * Sends {@code total} GET requests from {@code clients} threads, cycling through {@link #PATHS}.
+     *
+     * @return the latency of every request in nanoseconds
+     */
+    private static long[] fire(HttpClient client, String base, int clients, int total) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>(clients);
+            for (int c = 0; c < clients; c++) {
+                int share = total / clients + (c < total % clients ? 1 : 0);
+                int offset = c;
+                futures.add(pool.submit(() -> {
+                    long[] latencies = new long[share];
+                    for (int i = 0; i < share; i++) {
+                        HttpRequest request = HttpRequest.newBuilder(
+                                URI.create(base + PATHS.get((offset + i) % PATHS.size()))).build();
+                        long t0 = System.nanoTime();
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        latencies[i] = System.nanoTime() - t0;
+                        assertEquals(200, response.statusCode());
+                    }
+                    return latencies;
+                }));
+            }
+            long[] all = new long[total];
+            int pos = 0;
+            for (Future<long[]> future : futures) {
+                long[] part = future.get();
+                System.arraycopy(part, 0, all, pos, part.length);
+                pos += part.length;
+            }
+            return all;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+}
@@ -0,0 +1,114 @@
+package org.accenture.holiday.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link BulkheadInterceptor}.
+ */
+class BulkheadInterceptorTest {
+
+    private final HolidayController controller = mock(HolidayController.class);
+
+    private final BulkheadInterceptor interceptor = new BulkheadInterceptor(new MockEnvironment()
+            .withProperty("holidays.bulkhead.default.max-concurrent", "5")
+            .withProperty("holidays.bulkhead.searchHolidaysByName.max-concurrent", "1")
+            .withProperty("holidays.bulkhead.countBusinessDays.max-concurrent", "1"));
+
+    private HandlerMethod handler(String name) {
+        return new HandlerMethod(controller, Arrays.stream(HolidayController.class.getDeclaredMethods())
+                .filter(m -> m.getName().equals(name)).findFirst().orElseThrow());
+    }
+
+    /**
+     * A saturated endpoint answers 429 without affecting other endpoints, and admits again once its permit is returned.
+     */
+    @Test
+    void shedsLoadPerEndpoint() {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(first, response, handler("searchHolidaysByName")));
+
+        MockHttpServletResponse refused = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), refused, handler("searchHolidaysByName")));
+        assertEquals(429, refused.getStatus());
+        assertEquals("1", refused.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("getMandatoryHolidays")));
+
+        interceptor.afterCompletion(first, response, handler("searchHolidaysByName"), null);
+        interceptor.afterCompletion(first, response, handler("searchHolidaysByName"), null);
+        assertEquals(0, interceptor.getBulkhead("searchHolidaysByName").getActive());
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("searchHolidaysByName")));
+    }
+
+    /**
+     * Overloaded handlers mapped to different HTTP methods get separate bulkheads, so saturating one leaves the
+     * other admitting.
+     */
+    @Test
+    void separatesOverloadedEndpoints() throws NoSuchMethodException {
+        HandlerMethod post = new HandlerMethod(controller, HolidayController.class.getMethod("countBusinessDays", List.class));
+        HandlerMethod get = new HandlerMethod(controller, HolidayController.class.getMethod("countBusinessDays",
+                LocalDate.class, LocalDate.class, String.class));
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), post));
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), post));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), get));
+
+        assertEquals(1, interceptor.getBulkhead("countBusinessDays.post").getActive());
+        assertEquals(1, interceptor.getBulkhead("countBusinessDays.get").getActive());
+        assertEquals(1, interceptor.getBulkhead("countBusinessDays.get").getMaxConcurrent());
+        assertNull(interceptor.getBulkhead("countBusinessDays"));
+    }
+
+    /**
+     * Asynchronous responses return their permit when the request thread is released, and their redispatch is not limited.
+     */
+    @Test
+    void releasesPermitForAsyncResponses() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(request, response, handler("export")));
+        interceptor.afterConcurrentHandlingStarted(request, response, handler("export"));
+        assertEquals(0, interceptor.getBulkhead("export").getActive());
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        assertTrue(interceptor.preHandle(request, response, handler("export")));
+        interceptor.afterCompletion(request, response, handler("export"), null);
+        assertEquals(0, interceptor.getBulkhead("export").getActive());
+        assertEquals(1, interceptor.getBulkhead("export").getAdmittedCount());
+    }
+
+    /**
+     * Limits and outcomes are exported per endpoint.
+     */
+    @Test
+    void exportsMetersPerEndpoint() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        interceptor.bindTo(registry);
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("searchHolidaysByName"));
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("searchHolidaysByName"));
+
+        assertEquals(1, registry.get("holidays.bulkhead.max.concurrent").tag("endpoint", "searchHolidaysByName").gauge().value());
+        assertEquals(5, registry.get("holidays.bulkhead.max.concurrent").tag("endpoint", "getMandatoryHolidays").gauge().value());
+        assertEquals(1, registry.get("holidays.bulkhead.active").tag("endpoint", "searchHolidaysByName").gauge().value());
+        assertEquals(1, registry.get("holidays.bulkhead.requests").tags("endpoint", "searchHolidaysByName", "outcome", "saturated")
+                .functionCounter().count());
+    }
+}
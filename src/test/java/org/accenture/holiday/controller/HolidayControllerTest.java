@@ -1,13 +1,48 @@
 package org.accenture.holiday.controller;
 
+import org.accenture.holiday.model.AvailabilityReport;
+import org.accenture.holiday.model.AvailabilityRequest;
+import org.accenture.holiday.model.BusinessDayCount;
+import org.accenture.holiday.model.DateRange;
 import org.accenture.holiday.model.Holiday;
+import org.accenture.holiday.model.HolidayQuery;
+import org.accenture.holiday.model.LeaveInterval;
+import org.accenture.holiday.model.QuarantineReport;
+import org.accenture.holiday.model.QuarantinedLine;
+import org.accenture.holiday.service.AvailabilityEngine;
+import org.accenture.holiday.service.HolidayBatchWriter;
+import org.accenture.holiday.service.HolidayEventPublisher;
+import org.accenture.holiday.service.HolidayExportWriter;
+import org.accenture.holiday.service.HolidayJsonCache;
+import org.accenture.holiday.service.HolidayRegistry;
+import org.accenture.holiday.service.HolidayRepository;
 import org.accenture.holiday.service.HolidayService;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -19,6 +54,8 @@ import static org.mockito.Mockito.when;
  */
 class HolidayControllerTest {
 
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
     /**
      * Helper to create a {@link Holiday} with a computed day-of-week.
      */
@@ -27,22 +64,63 @@ class HolidayControllerTest {
         return new Holiday(name, date, date.getDayOfWeek(), city, type);
     }
 
+    /**
+     * Helper to create a controller whose repository has published the given holidays.
+     */
+    private HolidayController controllerFor(List<Holiday> data) throws IOException {
+        HolidayService service = mock(HolidayService.class);
+        when(service.loadHolidays(any(Path.class))).thenReturn(data);
+        HolidayRepository repository = new HolidayRepository(service, "ignored/path.log");
+        repository.reload();
+        return controllerFor(repository);
+    }
+
+    /**
+     * Helper to create a controller over {@code repository} with a disabled registry and no event scheduler.
+     */
+    private static HolidayController controllerFor(HolidayRepository repository) {
+        HolidayRegistry registry = disabledRegistry();
+        return new HolidayController(repository, registry, new HolidayJsonCache(JSON, 16), new HolidayBatchWriter(JSON),
+                new HolidayExportWriter(JSON), new HolidayEventPublisher(repository, registry, false, "UTC", 0),
+                new AvailabilityEngine(), 10, 36600, 50, 300, 100);
+    }
+
+    /**
+     * Helper to create a registry without a directory, so city and year filter the main snapshot.
+     */
+    private static HolidayRegistry disabledRegistry() {
+        return new HolidayRegistry(mock(HolidayService.class), new HolidayJsonCache(JSON, 16), "", 0);
+    }
+
+    /**
+     * Helper to decode a serialized JSON response back into holidays.
+     */
+    private List<Holiday> body(ResponseEntity<byte[]> response) {
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<Holiday> holidays = new ArrayList<>();
+        for (JsonNode node : JSON.readTree(response.getBody())) {
+            holidays.add(new Holiday(node.get("name").asString(),
+                    LocalDate.parse(node.get("date").asString()),
+                    DayOfWeek.valueOf(node.get("dayOfWeek").asString()),
+                    node.get("city").asString(),
+                    Holiday.Type.valueOf(node.get("type").asString())));
+        }
+        return holidays;
+    }
+
     /**
      * Ensures only mandatory holidays are returned by the endpoint.
      */
     @Test
     void returnsOnlyMandatoryHolidays() throws IOException {
-        HolidayService service = mock(HolidayService.class);
-        HolidayController controller = new HolidayController(service, "ignored/path.log");
-
         List<Holiday> data = List.of(
                 createHoliday("Republic Day", 2024, 1, 15, "Bangalore", Holiday.Type.MANDATORY),
                 createHoliday("Regional Festival", 2024, 1, 16, "Bangalore", Holiday.Type.FLOATING),
                 createHoliday("Independence Day", 2024, 8, 15, "Bangalore", Holiday.Type.MANDATORY)
         );
-        when(service.loadHolidays(any(Path.class))).thenReturn(data);
+        HolidayController controller = controllerFor(data);
 
-        List<Holiday> result = controller.getMandatoryHolidays().getBody();
+        List<Holiday> result = body(controller.getMandatoryHolidays(null, null, false, null, null));
 
         assertNotNull(result);
         assertEquals(2, result.size());
@@ -54,16 +132,13 @@ class HolidayControllerTest {
      */
     @Test
     void returnsOnlyFloatingHolidays() throws IOException {
-        HolidayService service = mock(HolidayService.class);
-        HolidayController controller = new HolidayController(service, "ignored/path.log");
-
         List<Holiday> data = List.of(
                 createHoliday("Optional Festival", 2024, 4, 10, "Bangalore", Holiday.Type.FLOATING),
                 createHoliday("Mandatory Event", 2024, 5, 1, "Bangalore", Holiday.Type.MANDATORY)
         );
-        when(service.loadHolidays(any(Path.class))).thenReturn(data);
+        HolidayController controller = controllerFor(data);
 
-        List<Holiday> result = controller.getFloatingHolidays().getBody();
+        List<Holiday> result = body(controller.getFloatingHolidays(null, null, false, null, null));
 
         assertNotNull(result);
         assertEquals(1, result.size());
@@ -76,17 +151,14 @@ class HolidayControllerTest {
      */
     @Test
     void returnsMandatoryHolidaysFilteredByMonth() throws IOException {
-        HolidayService service = mock(HolidayService.class);
-        HolidayController controller = new HolidayController(service, "ignored/path.log");
-
         List<Holiday> data = List.of(
                 createHoliday("May Mandatory 1", 2024, 5, 2, "Bangalore", Holiday.Type.MANDATORY),
                 createHoliday("June Mandatory", 2024, 6, 3, "Bangalore", Holiday.Type.MANDATORY),
                 createHoliday("May Floating", 2024, 5, 4, "Bangalore", Holiday.Type.FLOATING)
         );
-        when(service.loadHolidays(any(Path.class))).thenReturn(data);
+        HolidayController controller = controllerFor(data);
 
-        List<Holiday> result = controller.getMandatoryHolidaysByMonth(5).getBody();
+        List<Holiday> result = body(controller.getMandatoryHolidaysByMonth(5, null, null, false, null, null));
 
         assertNotNull(result);
         assertEquals(1, result.size());
@@ -100,18 +172,15 @@ class HolidayControllerTest {
      */
     @Test
     void returnsFloatingHolidaysFilteredByMonth() throws IOException {
-        HolidayService service = mock(HolidayService.class);
-        HolidayController controller = new HolidayController(service, "ignored/path.log");
-
         List<Holiday> data = List.of(
                 createHoliday("July Floating 1", 2024, 7, 10, "Bangalore", Holiday.Type.FLOATING),
                 createHoliday("July Floating 2", 2024, 7, 11, "Bangalore", Holiday.Type.FLOATING),
                 createHoliday("July Mandatory", 2024, 7, 12, "Bangalore", Holiday.Type.MANDATORY),
                 createHoliday("August Floating", 2024, 8, 13, "Bangalore", Holiday.Type.FLOATING)
         );
-        when(service.loadHolidays(any(Path.class))).thenReturn(data);
+        HolidayController controller = controllerFor(data);
 
-        List<Holiday> result = controller.getFloatingHolidaysByMonth(7).getBody();
+        List<Holiday> result = body(controller.getFloatingHolidaysByMonth(7, null, null, false, null, null));
 
         assertNotNull(result);
         assertEquals(2, result.size());
@@ -123,17 +192,14 @@ class HolidayControllerTest {
      */
     @Test
     void searchHolidaysByNameIsCaseInsensitive() throws IOException {
-        HolidayService service = mock(HolidayService.class);
-        HolidayController controller = new HolidayController(service, "ignored/path.log");
-
         List<Holiday> data = List.of(
                 createHoliday("New Year", 2024, 1, 1, "Bangalore", Holiday.Type.MANDATORY),
                 createHoliday("regional festival", 2024, 2, 2, "Bangalore", Holiday.Type.FLOATING),
                 createHoliday("Company Day", 2024, 3, 3, "Bangalore", Holiday.Type.MANDATORY)
         );
-        when(service.loadHolidays(any(Path.class))).thenReturn(data);
+        HolidayController controller = controllerFor(data);
 
-        List<Holiday> result = controller.searchHolidaysByName("FEST").getBody();
+        List<Holiday> result = body(controller.searchHolidaysByName("FEST", null, null, false, null, null));
 
         assertNotNull(result);
         assertEquals(1, result.size());
@@ -145,14 +211,11 @@ class HolidayControllerTest {
      */
     @Test
     void returnsEmptyListForInvalidMonthParameter() throws IOException {
-        HolidayService service = mock(HolidayService.class);
-        HolidayController controller = new HolidayController(service, "ignored/path.log");
-
-        when(service.loadHolidays(any(Path.class))).thenReturn(List.of(
+        HolidayController controller = controllerFor(List.of(
                 createHoliday("Event", 2024, 5, 5, "Bangalore", Holiday.Type.MANDATORY)
         ));
 
-        List<Holiday> result = controller.getMandatoryHolidaysByMonth(13).getBody();
+        List<Holiday> result = body(controller.getMandatoryHolidaysByMonth(13, null, null, false, null, null));
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
@@ -163,29 +226,387 @@ class HolidayControllerTest {
      */
     @Test
     void returnsEmptyListWhenNoSearchMatches() throws IOException {
-        HolidayService service = mock(HolidayService.class);
-        HolidayController controller = new HolidayController(service, "ignored/path.log");
-
-        when(service.loadHolidays(any(Path.class))).thenReturn(List.of(
+        HolidayController controller = controllerFor(List.of(
                 createHoliday("Some Event", 2024, 1, 10, "Bangalore", Holiday.Type.MANDATORY)
         ));
 
-        List<Holiday> result = controller.searchHolidaysByName("xyz").getBody();
+        List<Holiday> result = body(controller.searchHolidaysByName("xyz", null, null, false, null, null));
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
     }
 
     /**
-     * Confirms IOExceptions from the service are propagated.
+     * A failed reload propagates the IOException and keeps serving the previous snapshot.
      */
     @Test
-    void propagatesIOExceptionFromService() throws IOException {
+    void failedReloadKeepsPreviousSnapshot() throws IOException {
         HolidayService service = mock(HolidayService.class);
-        HolidayController controller = new HolidayController(service, "ignored/path.log");
+        HolidayRepository repository = new HolidayRepository(service, "ignored/path.log");
+        HolidayController controller = controllerFor(repository);
 
+        when(service.loadHolidays(any(Path.class))).thenReturn(List.of(
+                createHoliday("Event", 2024, 5, 6, "Bangalore", Holiday.Type.MANDATORY)
+        ));
+        repository.reload();
         when(service.loadHolidays(any(Path.class))).thenThrow(new IOException("failed to read"));
 
-        assertThrows(IOException.class, controller::getMandatoryHolidays);
+        assertThrows(IOException.class, repository::reload);
+        List<Holiday> result = body(controller.getMandatoryHolidays(null, null, false, null, null));
+        assertNotNull(result);
+        assertEquals(1, result.size());
+    }
+
+    /**
+     * A matching If-None-Match yields 304; a new snapshot changes the ETag.
+     */
+    @Test
+    void honoursIfNoneMatchUntilSnapshotChanges() throws IOException {
+        HolidayService service = mock(HolidayService.class);
+        HolidayRepository repository = new HolidayRepository(service, "ignored/path.log");
+        HolidayController controller = controllerFor(repository);
+        when(service.loadHolidays(any(Path.class))).thenReturn(List.of(
+                createHoliday("Event", 2024, 5, 6, "Bangalore", Holiday.Type.MANDATORY)
+        ));
+        repository.reload();
+
+        ResponseEntity<byte[]> first = controller.getMandatoryHolidays(null, null, false, null, null);
+        String eTag = first.getHeaders().getETag();
+        assertNotNull(eTag);
+        assertSame(first.getBody(), controller.getMandatoryHolidays(null, null, false, null, null).getBody());
+
+        ResponseEntity<byte[]> revalidated = controller.getMandatoryHolidays(null, null, false, eTag, null);
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatusCode());
+        assertNull(revalidated.getBody());
+
+        repository.reload();
+        ResponseEntity<byte[]> changed = controller.getMandatoryHolidays(null, null, false, eTag, null);
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertNotEquals(eTag, changed.getHeaders().getETag());
+    }
+
+    /**
+     * A batch answers each query in order from one snapshot.
+     */
+    @Test
+    void batchAnswersEachQueryInOrder() throws IOException {
+        HolidayController controller = controllerFor(List.of(
+                createHoliday("Jan Mandatory", 2024, 1, 15, "Bangalore", Holiday.Type.MANDATORY),
+                createHoliday("Jan Floating", 2024, 1, 16, "Bangalore", Holiday.Type.FLOATING),
+                createHoliday("Jan 2025 Floating", 2025, 1, 16, "Bangalore", Holiday.Type.FLOATING),
+                createHoliday("Feb Festival", 2024, 2, 6, "Bangalore", Holiday.Type.FLOATING)
+        ));
+
+        ResponseEntity<StreamingResponseBody> response = controller.batch(List.of(
+                new HolidayQuery("mandatory", 1, null, null),
+                new HolidayQuery("FLOATING", 1, 2025, null),
+                new HolidayQuery(null, null, 2024, "fest")
+        ), null, null);
+        boolean[] closed = new boolean[1];
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        response.getBody().writeTo(out);
+        JsonNode results = JSON.readTree(out.toByteArray());
+
+        assertFalse(closed[0]);
+        assertEquals(3, results.size());
+        assertEquals("MANDATORY", results.get(0).get("query").get("type").asString());
+        assertEquals("Jan Mandatory", results.get(0).get("holidays").get(0).get("name").asString());
+        assertEquals(1, results.get(1).get("holidays").size());
+        assertEquals("Jan 2025 Floating", results.get(1).get("holidays").get(0).get("name").asString());
+        assertEquals(1, results.get(2).get("holidays").size());
+        assertEquals("Feb Festival", results.get(2).get("holidays").get(0).get("name").asString());
+    }
+
+    /**
+     * Empty and oversized batches, and batches with an out-of-range month or year, are rejected before streaming.
+     */
+    @Test
+    void batchRejectsEmptyAndOversizedRequests() throws IOException {
+        HolidayController controller = controllerFor(List.of());
+
+        assertEquals(HttpStatus.BAD_REQUEST, controller.batch(List.of(), null, null).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.batch(Collections.nCopies(11,
+                new HolidayQuery(null, null, null, null)), null, null).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.batch(List.of(
+                new HolidayQuery("mandatory", 1, 2024, null),
+                new HolidayQuery("mandatory", 13, 2024, null)), null, null).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.batch(List.of(
+                new HolidayQuery("mandatory", 1, 1_000_000_000, null)), null, null).getStatusCode());
+    }
+
+    /**
+     * Business days skip weekends and mandatory holidays, singly and in bulk, and oversized spans and missing
+     * ranges or bounds are rejected.
+     */
+    @Test
+    void countsAndOffsetsBusinessDays() throws IOException {
+        HolidayController controller = controllerFor(List.of(
+                createHoliday("Republic Day", 2024, 1, 26, "Bangalore", Holiday.Type.MANDATORY),
+                createHoliday("Floating", 2024, 1, 25, "Bangalore", Holiday.Type.FLOATING)
+        ));
+        LocalDate monday = LocalDate.of(2024, 1, 22);
+        LocalDate sunday = LocalDate.of(2024, 1, 28);
+
+        assertEquals(4, controller.countBusinessDays(monday, sunday, "Bangalore").getBody().getBusinessDays());
+        assertEquals(LocalDate.of(2024, 1, 29),
+                controller.addBusinessDays(LocalDate.of(2024, 1, 25), 1, "Bangalore").getBody().getResult());
+
+        List<BusinessDayCount> bulk = controller.countBusinessDays(List.of(
+                new DateRange(monday, sunday, null),
+                new DateRange(monday, sunday, "Pune"))).getBody();
+        assertEquals(List.of(4L, 5L), bulk.stream().map(BusinessDayCount::getBusinessDays).toList());
+
+        assertEquals(HttpStatus.BAD_REQUEST,
+                controller.countBusinessDays(monday, monday.plusDays(36601), null).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.countBusinessDays(List.of()).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.countBusinessDays(
+                Arrays.asList(new DateRange(monday, sunday, null), null)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                controller.countBusinessDays(List.of(new DateRange(null, sunday, null))).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                controller.countBusinessDays(List.of(new DateRange(monday, null, null))).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                controller.addBusinessDays(LocalDate.MAX.minusDays(2), 10, null).getStatusCode());
+    }
+
+    /**
+     * Without a registry directory, city and year filter the main snapshot's results.
+     */
+    @Test
+    void filtersByCityAndYearWithoutRegistry() throws IOException {
+        HolidayController controller = controllerFor(List.of(
+                createHoliday("Bangalore 2024", 2024, 1, 15, "Bangalore", Holiday.Type.MANDATORY),
+                createHoliday("Pune 2024", 2024, 1, 16, "Pune", Holiday.Type.MANDATORY),
+                createHoliday("Bangalore 2025", 2025, 1, 14, "Bangalore", Holiday.Type.MANDATORY)
+        ));
+
+        assertEquals(List.of("Bangalore 2024", "Bangalore 2025"),
+                body(controller.getMandatoryHolidays("bangalore", null, false, null, null)).stream().map(Holiday::getName).toList());
+        assertEquals(List.of("Bangalore 2024", "Pune 2024"),
+                body(controller.getMandatoryHolidaysByMonth(1, null, 2024, false, null, null)).stream().map(Holiday::getName).toList());
+        assertEquals(List.of("Pune 2024"),
+                body(controller.searchHolidaysByName("2024", "PUNE", 2024, false, null, null)).stream().map(Holiday::getName).toList());
+        assertEquals(3, body(controller.getMandatoryHolidays(null, null, false, null, null)).size());
+    }
+
+    /**
+     * Availability is answered for the requested city and rejects reversed, oversized, malformed or incomplete
+     * requests.
+     */
+    @Test
+    void availabilityFiltersByCityAndValidates() throws IOException {
+        HolidayController controller = controllerFor(List.of(
+                createHoliday("Bangalore Day", 2024, 8, 15, "Bangalore", Holiday.Type.MANDATORY),
+                createHoliday("Pune Day", 2024, 8, 16, "Pune", Holiday.Type.MANDATORY)
+        ));
+        LocalDate from = LocalDate.of(2024, 8, 1);
+        LocalDate to = LocalDate.of(2024, 8, 31);
+        List<LeaveInterval> leave = List.of(new LeaveInterval("a", LocalDate.of(2024, 8, 14), LocalDate.of(2024, 8, 16)));
+
+        AvailabilityReport report = controller.availability(new AvailabilityRequest(from, to, "bangalore", leave, null)).getBody();
+        assertNotNull(report);
+        assertEquals(List.of("Bangalore Day"), report.getHolidays().stream().map(Holiday::getName).toList());
+        assertEquals(List.of(LocalDate.of(2024, 8, 16)), report.getBridgeDays());
+        assertEquals(2, report.getLeaves().get(0).getBusinessDays());
+
+        assertEquals(HttpStatus.BAD_REQUEST,
+                controller.availability(new AvailabilityRequest(to, from, null, null, null)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                controller.availability(new AvailabilityRequest(from, from.plusDays(36601), null, null, null)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.availability(new AvailabilityRequest(from, to, null,
+                List.of(new LeaveInterval("b", to, from)), null)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.availability(new AvailabilityRequest(from, to, null,
+                Collections.nCopies(101, leave.get(0)), null)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                controller.availability(new AvailabilityRequest(from, to, null, null, -1)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                controller.availability(new AvailabilityRequest(null, to, null, null, null)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                controller.availability(new AvailabilityRequest(from, null, null, null, null)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.availability(new AvailabilityRequest(from, to, null,
+                List.of(new LeaveInterval("c", null, to)), null)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.availability(new AvailabilityRequest(from, to, null,
+                List.of(new LeaveInterval("d", from, null)), null)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.availability(new AvailabilityRequest(from, to, null,
+                Arrays.asList(leave.get(0), null), null)).getStatusCode());
+    }
+
+    /**
+     * The export filters by type, resumes from a date cursor, leaves the response stream open and rejects
+     * unknown formats.
+     */
+    @Test
+    void exportsFilteredAndResumable() throws IOException {
+        HolidayController controller = controllerFor(List.of(
+                createHoliday("Second", 2024, 2, 6, "Bangalore", Holiday.Type.MANDATORY),
+                createHoliday("First", 2024, 1, 15, "Bangalore", Holiday.Type.MANDATORY),
+                createHoliday("Floating", 2024, 1, 16, "Bangalore", Holiday.Type.FLOATING)
+        ));
+
+        boolean[] closed = new boolean[1];
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        controller.export("NDJSON", "mandatory", null, null, LocalDate.of(2024, 1, 16), 0).getBody().writeTo(out);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertFalse(closed[0]);
+        assertEquals(1, lines.length);
+        assertEquals("Second", JSON.readTree(lines[0]).get("name").asString());
+
+        assertEquals(HttpStatus.BAD_REQUEST, controller.export("xml", null, null, null, null, 0).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.export("csv", null, null, null, null, -1).getStatusCode());
+    }
+
+    /**
+     * Upcoming holidays start at the given date, honour type, city and limit, and reject bad input.
+     */
+    @Test
+    void returnsUpcomingHolidaysFromDate() throws IOException {
+        HolidayController controller = controllerFor(List.of(
+                createHoliday("Later", 2024, 3, 5, "Bangalore", Holiday.Type.MANDATORY),
+                createHoliday("Past", 2024, 1, 2, "Bangalore", Holiday.Type.MANDATORY),
+                createHoliday("Next", 2024, 2, 6, "Bangalore", Holiday.Type.MANDATORY),
+                createHoliday("Floating", 2024, 2, 7, "Bangalore", Holiday.Type.FLOATING),
+                createHoliday("Elsewhere", 2024, 2, 8, "Pune", Holiday.Type.MANDATORY)
+        ));
+        LocalDate from = LocalDate.of(2024, 2, 6);
+
+        List<Holiday> next = controller.getUpcomingHolidays(null, null, 2, from).getBody();
+        assertEquals(List.of("Next", "Floating"), next.stream().map(Holiday::getName).toList());
+        List<Holiday> mandatory = controller.getUpcomingHolidays("mandatory", "bangalore", 10, from).getBody();
+        assertEquals(List.of("Next", "Later"), mandatory.stream().map(Holiday::getName).toList());
+
+        assertEquals(HttpStatus.BAD_REQUEST, controller.getUpcomingHolidays("public", null, 10, from).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.getUpcomingHolidays(null, null, 0, from).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.getUpcomingHolidays(null, null, 51, from).getStatusCode());
+    }
+
+    /**
+     * The collapsed view merges same-day aliases into one entry and carries its own ETag.
+     */
+    @Test
+    void collapsesAliasesOnRequest() throws IOException {
+        HolidayController controller = controllerFor(List.of(
+                createHoliday("Pongal", 2025, 1, 14, "Bengaluru", Holiday.Type.MANDATORY),
+                createHoliday("Uttarayana", 2025, 1, 14, "Bengaluru", Holiday.Type.MANDATORY),
+                createHoliday("Republic Day", 2025, 1, 27, "Bengaluru", Holiday.Type.MANDATORY)
+        ));
+
+        ResponseEntity<byte[]> full = controller.getMandatoryHolidays(null, null, false, null, null);
+        ResponseEntity<byte[]> collapsed = controller.getMandatoryHolidays(null, null, true, null, null);
+        JsonNode entries = JSON.readTree(collapsed.getBody());
+
+        assertEquals(3, body(full).size());
+        assertEquals(2, entries.size());
+        assertEquals("Uttarayana", entries.get(0).get("aliases").get(0).asString());
+        assertEquals(0, entries.get(1).get("aliases").size());
+        assertNotEquals(full.getHeaders().getETag(), collapsed.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED,
+                controller.getMandatoryHolidays(null, null, true, collapsed.getHeaders().getETag(), null).getStatusCode());
+        assertEquals(HttpStatus.OK,
+                controller.getMandatoryHolidays(null, null, false, collapsed.getHeaders().getETag(), null).getStatusCode());
+    }
+
+    /**
+     * List responses carry the data file's Last-Modified and a max-age, and use the stored gzip body, under its own
+     * ETag, when accepted.
+     */
+    @Test
+    void servesCachedGzipWithCacheHeaders(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        StringBuilder lines = new StringBuilder();
+        for (int day = 1; day <= 28; day++) {
+            LocalDate date = LocalDate.of(2024, 2, day);
+            if (date.getDayOfWeek().getValue() < 6) {
+                lines.append("Mandatory holiday for Day ").append(day).append(" on ")
+                        .append(date.getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.ENGLISH)).append(", ")
+                        .append(day).append("-Feb-2024 in Bangalore\n");
+            }
+        }
+        Files.writeString(file, lines);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2024-01-01T10:00:00Z")));
+        HolidayRepository repository = new HolidayRepository(new HolidayService(), file.toString());
+        repository.reload();
+        HolidayController controller = controllerFor(repository);
+
+        ResponseEntity<byte[]> plain = controller.getMandatoryHolidays(null, null, false, null, null);
+        ResponseEntity<byte[]> gzip = controller.getMandatoryHolidays(null, null, false, null, "gzip");
+
+        assertEquals(Instant.parse("2024-01-01T10:00:00Z").toEpochMilli(), plain.getHeaders().getLastModified());
+        assertEquals("max-age=300, public", plain.getHeaders().getCacheControl());
+        assertTrue(plain.getHeaders().getVary().contains(HttpHeaders.ACCEPT_ENCODING));
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HolidayJsonCache.gzipETag(plain.getHeaders().getETag()), gzip.getHeaders().getETag());
+        ResponseEntity<byte[]> revalidated = controller.getMandatoryHolidays(null, null, false, gzip.getHeaders().getETag(), "gzip");
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatusCode());
+        assertEquals(gzip.getHeaders().getETag(), revalidated.getHeaders().getETag());
+        assertSame(gzip.getBody(), controller.getMandatoryHolidays(null, null, false, null, "gzip").getBody());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getBody()))) {
+            assertArrayEquals(plain.getBody(), in.readAllBytes());
+        }
+    }
+
+    /**
+     * The admin endpoint lists the quarantined lines of the loaded file.
+     */
+    @Test
+    void listsQuarantinedLines(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, String.join("\n",
+                "Mandatory holiday for Republic Day on Monday, 15-Jan-2024 in Bangalore",
+                "garbage"));
+        HolidayRepository repository = new HolidayRepository(new HolidayService(), file.toString());
+        repository.reload();
+        HolidayController controller = controllerFor(repository);
+
+        List<QuarantineReport> reports = controller.getQuarantine().getBody();
+
+        assertEquals(1, reports.size());
+        assertEquals(file.toAbsolutePath().normalize().toString(), reports.get(0).getFile());
+        assertEquals(1, reports.get(0).getRejectedCount());
+        assertEquals(2, reports.get(0).getLines().get(0).getLineNumber());
+        assertEquals(QuarantinedLine.Reason.REJECTED, reports.get(0).getLines().get(0).getReason());
+    }
+
+    /**
+     * After a restart that loads the file from its binary snapshot, the admin endpoint still lists its lines.
+     */
+    @Test
+    void listsQuarantinedLinesAfterRestartFromSnapshot(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, String.join("\n",
+                "Mandatory holiday for Republic Day on Monday, 15-Jan-2024 in Bangalore",
+                "garbage",
+                "Floating holiday for Wrong Day on Tuesday, 15-Jan-2024 in Bangalore",
+                "Mandatory holiday for Saturday Event on Saturday, 20-Jan-2024 in Bangalore"));
+        new HolidayRepository(new HolidayService(-1, 8 * 1024 * 1024, true),
+                file.toString()).reload();
+        assertTrue(Files.exists(file.resolveSibling("holidays.log.snap")));
+
+        HolidayService restarted = new HolidayService(-1, 8 * 1024 * 1024, true);
+        HolidayRepository repository = new HolidayRepository(restarted, file.toString());
+        repository.reload();
+        List<QuarantineReport> reports = controllerFor(repository).getQuarantine().getBody();
+
+        assertEquals(1, restarted.getStatistics().getSnapshotLoads());
+        assertEquals(1, reports.size());
+        QuarantineReport report = reports.get(0);
+        assertEquals(4, report.getLinesRead());
+        assertEquals(1, report.getRejectedCount());
+        assertEquals(1, report.getDayMismatchCount());
+        assertEquals(1, report.getWeekendFilteredCount());
+        assertEquals(List.of(2L, 3L, 4L), report.getLines().stream().map(QuarantinedLine::getLineNumber).toList());
+        assertEquals("garbage", report.getLines().get(0).getText());
+        assertEquals("Wrong Day", report.getLines().get(1).getHoliday().getName());
+        assertEquals("Saturday Event", report.getLines().get(2).getHoliday().getName());
     }
 }
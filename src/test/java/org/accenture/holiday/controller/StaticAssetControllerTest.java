@@ -0,0 +1,62 @@
+package org.accenture.holiday.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link StaticAssetController} covering hashed asset URLs, caching headers and compression.
+ */
+class StaticAssetControllerTest {
+
+    private final StaticAssetController controller = new StaticAssetController();
+
+    /**
+     * The page references hashed assets, which are served immutable and gzip-encoded on request.
+     */
+    @Test
+    void servesHashedImmutableAssets() {
+        ResponseEntity<byte[]> page = controller.index(null, null);
+        String html = new String(page.getBody(), StandardCharsets.UTF_8);
+        Matcher script = Pattern.compile("src=\"assets/(app\\.[0-9a-f]{32}\\.js)\"").matcher(html);
+
+        assertTrue(script.find(), html);
+        assertFalse(html.contains("href=\"styles.css\""));
+        assertEquals("no-cache", page.getHeaders().getCacheControl());
+
+        ResponseEntity<byte[]> asset = controller.asset(script.group(1), null, "gzip");
+        assertEquals(HttpStatus.OK, asset.getStatusCode());
+        assertTrue(asset.getHeaders().getCacheControl().contains("immutable"));
+        assertEquals("gzip", asset.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(asset.getHeaders().getContentType().toString().contains("javascript"));
+        assertNull(controller.asset(script.group(1), null, null).getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpStatus.NOT_FOUND, controller.asset("app.js", null, null).getStatusCode());
+    }
+
+    /**
+     * The page revalidates with its ETag; the gzip body has its own ETag, which revalidates too.
+     */
+    @Test
+    void revalidatesPage() {
+        String eTag = controller.index(null, null).getHeaders().getETag();
+        String gzipETag = controller.index(null, "gzip").getHeaders().getETag();
+
+        assertNotEquals(eTag, gzipETag);
+        assertEquals(HttpStatus.NOT_MODIFIED, controller.index(eTag, "gzip").getStatusCode());
+        ResponseEntity<byte[]> revalidated = controller.index(gzipETag, "gzip");
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatusCode());
+        assertEquals(gzipETag, revalidated.getHeaders().getETag());
+        assertEquals("app.0123.js", StaticAssetController.hashedName("app.js", "0123"));
+    }
+}
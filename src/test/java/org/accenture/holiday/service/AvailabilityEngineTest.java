@@ -0,0 +1,96 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.AvailabilityReport;
+import org.accenture.holiday.model.AvailabilityRequest;
+import org.accenture.holiday.model.FloatingChoice;
+import org.accenture.holiday.model.Holiday;
+import org.accenture.holiday.model.LeaveInterval;
+import org.accenture.holiday.model.LeaveOverlap;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link AvailabilityEngine}.
+ */
+class AvailabilityEngineTest {
+
+    private static final LocalDate HOLI = LocalDate.of(2024, 3, 25);
+    private static final LocalDate MIDWEEK = LocalDate.of(2024, 3, 27);
+    private static final LocalDate INDEPENDENCE_DAY = LocalDate.of(2024, 8, 15);
+    private static final LocalDate AFTER_INDEPENDENCE_DAY = LocalDate.of(2024, 8, 16);
+
+    private final HolidaySnapshot snapshot = new HolidaySnapshot(List.of(
+            createHoliday("Holi", HOLI, Holiday.Type.FLOATING),
+            createHoliday("Holika", HOLI, Holiday.Type.FLOATING),
+            createHoliday("Midweek", MIDWEEK, Holiday.Type.FLOATING),
+            createHoliday("Independence Day", INDEPENDENCE_DAY, Holiday.Type.MANDATORY),
+            createHoliday("Parsi New Year", AFTER_INDEPENDENCE_DAY, Holiday.Type.FLOATING)
+    ), 1L, Instant.now());
+
+    private final AvailabilityEngine engine = new AvailabilityEngine();
+
+    private static Holiday createHoliday(String name, LocalDate date, Holiday.Type type) {
+        return new Holiday(name, date, date.getDayOfWeek(), "Bengaluru", type);
+    }
+
+    private AvailabilityReport evaluate(LocalDate from, LocalDate to, List<LeaveInterval> leaves, int choices) {
+        return engine.evaluate(snapshot, h -> true, new AvailabilityRequest(from, to, "bengaluru", leaves, choices));
+    }
+
+    /**
+     * Each leave interval lists the holidays it covers and its business-day cost.
+     */
+    @Test
+    void reportsHolidaysPerLeave() {
+        AvailabilityReport report = evaluate(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), List.of(
+                new LeaveInterval("asha", LocalDate.of(2024, 3, 20), HOLI),
+                new LeaveInterval("ravi", LocalDate.of(2024, 8, 14), LocalDate.of(2024, 8, 20)),
+                new LeaveInterval("meera", LocalDate.of(2024, 5, 6), LocalDate.of(2024, 5, 10))), 3);
+
+        assertEquals(5, report.getHolidays().size());
+        List<LeaveOverlap> leaves = report.getLeaves();
+        assertEquals(List.of("Holi", "Holika"), leaves.get(0).getHolidays().stream().map(Holiday::getName).toList());
+        assertEquals(4, leaves.get(0).getBusinessDays());
+        assertEquals(List.of(INDEPENDENCE_DAY, AFTER_INDEPENDENCE_DAY),
+                leaves.get(1).getHolidays().stream().map(Holiday::getDate).toList());
+        assertEquals(4, leaves.get(1).getBusinessDays());
+        assertTrue(leaves.get(2).getHolidays().isEmpty());
+        assertEquals(5, leaves.get(2).getBusinessDays());
+    }
+
+    /**
+     * A working day between a mandatory holiday and the weekend is a bridge day, but only inside the window.
+     */
+    @Test
+    void findsBridgeDays() {
+        assertEquals(List.of(AFTER_INDEPENDENCE_DAY),
+                evaluate(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), List.of(), 3).getBridgeDays());
+        assertTrue(evaluate(LocalDate.of(2024, 8, 1), INDEPENDENCE_DAY, List.of(), 3).getBridgeDays().isEmpty());
+    }
+
+    /**
+     * Floating holidays rank by the time off they create, then by fewest people already on leave, one entry per date.
+     */
+    @Test
+    void ranksFloatingChoices() {
+        AvailabilityReport report = evaluate(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), List.of(
+                new LeaveInterval("asha", HOLI, MIDWEEK),
+                new LeaveInterval("ravi", LocalDate.of(2024, 3, 26), MIDWEEK),
+                new LeaveInterval("meera", AFTER_INDEPENDENCE_DAY, AFTER_INDEPENDENCE_DAY)), 5);
+
+        List<FloatingChoice> choices = report.getFloatingChoices();
+        assertEquals(List.of(AFTER_INDEPENDENCE_DAY, HOLI, MIDWEEK),
+                choices.stream().map(c -> c.getHoliday().getDate()).toList());
+        assertEquals(List.of(4, 3, 1), choices.stream().map(FloatingChoice::getDaysOff).toList());
+        assertEquals(List.of(1, 1, 2), choices.stream().map(FloatingChoice::getOnLeave).toList());
+
+        assertEquals(2, evaluate(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), List.of(), 2)
+                .getFloatingChoices().size());
+    }
+}
@@ -0,0 +1,133 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+import org.accenture.holiday.model.QuarantinedLine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link BinarySnapshotCodec} covering round trips, including parse diagnostics, and staleness.
+ */
+class BinarySnapshotCodecTest {
+
+    private static final String REPUBLIC_DAY = "Mandatory holiday for Republic Day on Monday, 15-Jan-2024 in Bangalore";
+
+    private static BasicFileAttributes attrs(Path file) throws IOException {
+        return Files.readAttributes(file, BasicFileAttributes.class);
+    }
+
+    /**
+     * A snapshot round-trips every field and shares repeated strings.
+     */
+    @Test
+    void roundTripsBundledFile(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.copy(Path.of("src/main/resources/bangalore_holidays_2025.log"), file);
+        List<Holiday> parsed = new HolidayService().loadHolidays(file);
+
+        BinarySnapshotCodec.write(file, attrs(file), new HolidayService().parse(file));
+        List<Holiday> read = BinarySnapshotCodec.readIfCurrent(file).getHolidays();
+
+        assertNotNull(read);
+        assertEquals(parsed.size(), read.size());
+        for (int i = 0; i < parsed.size(); i++) {
+            assertEquals(parsed.get(i).getName(), read.get(i).getName());
+            assertEquals(parsed.get(i).getDate(), read.get(i).getDate());
+            assertEquals(parsed.get(i).getDayOfWeek(), read.get(i).getDayOfWeek());
+            assertEquals(parsed.get(i).getCity(), read.get(i).getCity());
+            assertEquals(parsed.get(i).getType(), read.get(i).getType());
+        }
+        assertSame(read.get(0).getCity(), read.get(1).getCity());
+        assertTrue(Files.size(BinarySnapshotCodec.snapshotPathFor(file)) < Files.size(file));
+    }
+
+    /**
+     * A snapshot whose source changed, or whose bytes are corrupt, is not used.
+     */
+    @Test
+    void ignoresStaleAndCorruptSnapshots(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, REPUBLIC_DAY);
+        BinarySnapshotCodec.write(file, attrs(file), new HolidayService().parse(file));
+        assertNotNull(BinarySnapshotCodec.readIfCurrent(file));
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(attrs(file).lastModifiedTime().toMillis() + 1000));
+        assertNull(BinarySnapshotCodec.readIfCurrent(file));
+
+        BinarySnapshotCodec.write(file, attrs(file), new HolidayService().parse(file));
+        Path snapshot = BinarySnapshotCodec.snapshotPathFor(file);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length - 6] ^= 0x7f;
+        Files.write(snapshot, bytes);
+        assertNull(BinarySnapshotCodec.readIfCurrent(file));
+
+        Files.write(snapshot, new byte[]{1, 2, 3});
+        assertNull(BinarySnapshotCodec.readIfCurrent(file));
+    }
+
+    /**
+     * The service prefers a current snapshot and writes one after parsing text.
+     */
+    @Test
+    void serviceLoadsCurrentSnapshotInsteadOfText(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, REPUBLIC_DAY);
+        HolidayService service = new HolidayService(-1, HolidayService.DEFAULT_MAPPED_CHUNK_BYTES, true);
+
+        assertEquals(1, service.loadHolidays(file).size());
+        assertTrue(Files.exists(BinarySnapshotCodec.snapshotPathFor(file)));
+
+        LocalDate date = LocalDate.of(2024, 1, 16);
+        BinarySnapshotCodec.write(file, attrs(file), new ParseReport(
+                List.of(new Holiday("From Snapshot", date, date.getDayOfWeek(), "Bangalore", Holiday.Type.FLOATING)),
+                1, 0, 0, 0, List.of(), 0, List.of()));
+
+        assertEquals("From Snapshot", service.loadHolidays(file).get(0).getName());
+    }
+
+    /**
+     * Counts and quarantined lines round-trip, including weekend lines without text and rejected lines without a holiday.
+     */
+    @Test
+    void roundTripsDiagnostics(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, String.join("\n",
+                REPUBLIC_DAY,
+                "not a holiday line",
+                "Floating holiday for Wrong Day on Tuesday, 15-Jan-2024 in Bangalore",
+                "Mandatory holiday for Saturday Event on Saturday, 20-Jan-2024 in Bangalore"));
+        ParseReport parsed = new HolidayService().parse(file);
+
+        BinarySnapshotCodec.write(file, attrs(file), parsed);
+        ParseReport read = BinarySnapshotCodec.readIfCurrent(file);
+
+        assertEquals(parsed.getLinesRead(), read.getLinesRead());
+        assertEquals(parsed.getRejectedCount(), read.getRejectedCount());
+        assertEquals(parsed.getWeekendFilteredCount(), read.getWeekendFilteredCount());
+        assertEquals(parsed.getDayMismatchCount(), read.getDayMismatchCount());
+        assertEquals(describe(parsed.getQuarantinedLines()), describe(read.getQuarantinedLines()));
+    }
+
+    private static List<String> describe(List<QuarantinedLine> lines) {
+        return lines.stream()
+                .map(line -> line.getLineNumber() + " " + line.getReason() + " " + line.getText() + " "
+                        + (line.getHoliday() == null ? null : line.getHoliday().getName() + " "
+                        + line.getHoliday().getDate() + " " + line.getHoliday().getDayOfWeek() + " "
+                        + line.getHoliday().getCity() + " " + line.getHoliday().getType()))
+                .toList();
+    }
+}
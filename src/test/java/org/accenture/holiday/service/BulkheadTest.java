@@ -0,0 +1,104 @@
+package org.accenture.holiday.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link Bulkhead} and its {@link TokenBucket}.
+ */
+class BulkheadTest {
+
+    /**
+     * A full bucket allows a burst, then one token per refill interval.
+     */
+    @Test
+    void tokenBucketAllowsBurstThenRate() {
+        AtomicLong now = new AtomicLong(1_000);
+        TokenBucket bucket = new TokenBucket(10, 3, now::get);
+
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+
+        now.addAndGet(99_000_000);
+        assertFalse(bucket.tryAcquire());
+        now.addAndGet(1_000_000);
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+
+        now.addAndGet(10_000_000_000L);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(bucket.tryAcquire());
+        }
+        assertFalse(bucket.tryAcquire());
+    }
+
+    /**
+     * Concurrent callers never take more tokens than the burst while the clock stands still.
+     */
+    @Test
+    void tokenBucketIsExactUnderContention() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1, 500, () -> 0L);
+        AtomicInteger taken = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < 1_000; i++) {
+                    if (bucket.tryAcquire()) {
+                        taken.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(500, taken.get());
+    }
+
+    /**
+     * Requests beyond the concurrency limit are refused until a permit is returned, and outcomes are counted.
+     */
+    @Test
+    void limitsConcurrentRequests() {
+        Bulkhead bulkhead = new Bulkhead("search", 0, 0, 2);
+
+        assertEquals(Bulkhead.Admission.ADMITTED, bulkhead.tryEnter());
+        assertEquals(Bulkhead.Admission.ADMITTED, bulkhead.tryEnter());
+        assertEquals(Bulkhead.Admission.SATURATED, bulkhead.tryEnter());
+        assertEquals(2, bulkhead.getActive());
+
+        bulkhead.exit();
+        assertEquals(Bulkhead.Admission.ADMITTED, bulkhead.tryEnter());
+        assertEquals(3, bulkhead.getAdmittedCount());
+        assertEquals(1, bulkhead.getSaturatedCount());
+    }
+
+    /**
+     * A rate-limited request does not keep its concurrency permit.
+     */
+    @Test
+    void rateLimitedRequestReturnsPermit() {
+        Bulkhead bulkhead = new Bulkhead("search", 0.5, 1, 5);
+
+        assertEquals(Bulkhead.Admission.ADMITTED, bulkhead.tryEnter());
+        assertEquals(Bulkhead.Admission.RATE_LIMITED, bulkhead.tryEnter());
+        assertEquals(1, bulkhead.getActive());
+        assertEquals(1, bulkhead.getRateLimitedCount());
+        assertEquals(2, bulkhead.getRetryAfterSeconds());
+    }
+}
@@ -0,0 +1,133 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link BusinessCalendar}.
+ */
+class BusinessCalendarTest {
+
+    private static final LocalDate REPUBLIC_DAY = LocalDate.of(2024, 1, 26);
+    private static final LocalDate INDEPENDENCE_DAY = LocalDate.of(2024, 8, 15);
+    private static final LocalDate NEW_YEAR = LocalDate.of(2025, 1, 1);
+    private static final LocalDate PUNE_ONLY = LocalDate.of(2024, 3, 8);
+    private static final LocalDate FLOATING = LocalDate.of(2024, 3, 25);
+
+    private final BusinessCalendar calendar = new HolidaySnapshot(List.of(
+            createHoliday("Republic Day", REPUBLIC_DAY, "Bengaluru", Holiday.Type.MANDATORY),
+            createHoliday("Independence Day", INDEPENDENCE_DAY, "Bengaluru", Holiday.Type.MANDATORY),
+            createHoliday("New Year", NEW_YEAR, "Bengaluru", Holiday.Type.MANDATORY),
+            createHoliday("Maha Shivaratri", PUNE_ONLY, "Pune", Holiday.Type.MANDATORY),
+            createHoliday("Holi", FLOATING, "Bengaluru", Holiday.Type.FLOATING)
+    ), 1L, Instant.now()).getBusinessCalendar();
+
+    private static Holiday createHoliday(String name, LocalDate date, String city, Holiday.Type type) {
+        return new Holiday(name, date, date.getDayOfWeek(), city, type);
+    }
+
+    /**
+     * Weekends and mandatory holidays of the city, matched case-insensitively, are non-working; floating holidays and other cities' holidays are not.
+     */
+    @Test
+    void classifiesDaysPerCity() {
+        assertFalse(calendar.isBusinessDay("Bengaluru", REPUBLIC_DAY));
+        assertFalse(calendar.isBusinessDay("Bengaluru", LocalDate.of(2024, 1, 27)));
+        assertTrue(calendar.isBusinessDay("Bengaluru", FLOATING));
+        assertTrue(calendar.isBusinessDay("Bengaluru", PUNE_ONLY));
+        assertFalse(calendar.isBusinessDay("Pune", PUNE_ONLY));
+        assertFalse(calendar.isBusinessDay("pune", PUNE_ONLY));
+        assertFalse(calendar.isBusinessDay(null, PUNE_ONLY));
+        assertTrue(calendar.isBusinessDay("Delhi", REPUBLIC_DAY));
+    }
+
+    /**
+     * Counts and offsets agree with walking the calendar one day at a time, across year boundaries and in both directions.
+     */
+    @Test
+    void matchesDayByDayWalk() {
+        Random random = new Random(42);
+        LocalDate base = LocalDate.of(2023, 6, 1);
+        for (String city : new String[]{"Bengaluru", "Pune", null, "Delhi"}) {
+            for (int i = 0; i < 200; i++) {
+                LocalDate from = base.plusDays(random.nextInt(900));
+                LocalDate to = from.plusDays(1 + random.nextInt(800));
+                assertEquals(walkCount(city, from, to), calendar.countBusinessDays(city, from, to));
+                assertEquals(-walkCount(city, from, to), calendar.countBusinessDays(city, to, from));
+
+                int days = random.nextInt(400) - 200;
+                assertEquals(walkAdd(city, from, days), calendar.addBusinessDays(city, from, days));
+            }
+        }
+    }
+
+    /**
+     * Years without data use the shared weekend bitsets, which holiday years never modify.
+     */
+    @Test
+    void yearsWithoutDataMarkOnlyWeekends() {
+        for (int year = 1896; year <= 2404; year += 7) {
+            LocalDate from = LocalDate.of(year, 1, 1);
+            LocalDate to = LocalDate.of(year, 12, 31);
+            assertEquals(walkCount("Delhi", from, to), calendar.countBusinessDays("Delhi", from, to));
+            assertEquals(walkCount(null, from, to), calendar.countBusinessDays(null, from, to));
+        }
+        assertTrue(calendar.isBusinessDay("Delhi", REPUBLIC_DAY));
+        assertTrue(calendar.isBusinessDay("Bengaluru", LocalDate.of(2052, 1, 26)));
+        assertFalse(calendar.isBusinessDay("Bengaluru", REPUBLIC_DAY));
+    }
+
+    /**
+     * A single-day range counts that day only if it is a business day.
+     */
+    @Test
+    void singleDayRange() {
+        assertEquals(0, calendar.countBusinessDays("Bengaluru", REPUBLIC_DAY, REPUBLIC_DAY));
+        assertEquals(1, calendar.countBusinessDays("Bengaluru", FLOATING, FLOATING));
+        assertEquals(REPUBLIC_DAY, calendar.addBusinessDays("Bengaluru", REPUBLIC_DAY, 0));
+    }
+
+    private long walkCount(String city, LocalDate from, LocalDate to) {
+        long count = 0;
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            if (isBusinessDay(city, d)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private LocalDate walkAdd(String city, LocalDate date, int days) {
+        int step = days < 0 ? -1 : 1;
+        LocalDate d = date;
+        for (int remaining = Math.abs(days); remaining > 0; ) {
+            d = d.plusDays(step);
+            if (isBusinessDay(city, d)) {
+                remaining--;
+            }
+        }
+        return d;
+    }
+
+    private static boolean isBusinessDay(String city, LocalDate d) {
+        if (d.getDayOfWeek() == DayOfWeek.SATURDAY || d.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            return false;
+        }
+        Set<LocalDate> holidays = "Pune".equals(city) ? Set.of(PUNE_ONLY)
+                : "Bengaluru".equals(city) ? Set.of(REPUBLIC_DAY, INDEPENDENCE_DAY, NEW_YEAR)
+                : city == null ? Set.of(REPUBLIC_DAY, INDEPENDENCE_DAY, NEW_YEAR, PUNE_ONLY)
+                : Set.of();
+        return !holidays.contains(d);
+    }
+}
@@ -0,0 +1,71 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link ColumnarHolidayStore}.
+ */
+class ColumnarHolidayStoreTest {
+
+    private Holiday createHoliday(String name, int year, int month, int day, String city, Holiday.Type type) {
+        LocalDate date = LocalDate.of(year, month, day);
+        return new Holiday(name, date, date.getDayOfWeek(), city, type);
+    }
+
+    /**
+     * Rows read back as the holidays they were built from, with names and cities interned.
+     */
+    @Test
+    void storesRowsWithInternedStrings() {
+        List<Holiday> source = List.of(
+                createHoliday("Pongal", 2025, 1, 14, "Bengaluru", Holiday.Type.MANDATORY),
+                createHoliday("Makar Sankranti", 2025, 1, 14, "Bengaluru", Holiday.Type.MANDATORY),
+                createHoliday("Pongal", 2026, 1, 15, "Chennai", Holiday.Type.FLOATING)
+        );
+
+        ColumnarHolidayStore store = ColumnarHolidayStore.of(source);
+
+        assertEquals(3, store.size());
+        assertEquals(2, store.nameCount());
+        assertEquals(2, store.cityCount());
+        assertEquals(store.nameId(0), store.nameId(2));
+        for (int i = 0; i < source.size(); i++) {
+            Holiday expected = source.get(i);
+            Holiday actual = store.get(i);
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getDate(), actual.getDate());
+            assertEquals(expected.getDayOfWeek(), actual.getDayOfWeek());
+            assertEquals(expected.getCity(), actual.getCity());
+            assertEquals(expected.getType(), actual.getType());
+        }
+        assertEquals(Holiday.Type.FLOATING, store.type(2));
+        assertEquals((int) LocalDate.of(2026, 1, 15).toEpochDay(), store.epochDay(2));
+        assertSame(store, ColumnarHolidayStore.of(store));
+    }
+
+    /**
+     * Row views select rows in the given order and are read-only.
+     */
+    @Test
+    void rowViewsAreReadOnly() {
+        ColumnarHolidayStore store = ColumnarHolidayStore.of(List.of(
+                createHoliday("A", 2025, 1, 14, "Bengaluru", Holiday.Type.MANDATORY),
+                createHoliday("B", 2025, 1, 15, "Bengaluru", Holiday.Type.MANDATORY)
+        ));
+
+        List<Holiday> rows = store.rows(new int[]{1, 0});
+
+        assertEquals("B", rows.get(0).getName());
+        assertEquals("A", rows.get(1).getName());
+        assertThrows(UnsupportedOperationException.class, () -> rows.add(rows.get(0)));
+        assertThrows(UnsupportedOperationException.class, () -> store.remove(0));
+    }
+}
@@ -0,0 +1,51 @@
+package org.accenture.holiday.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link EncodedBody} covering precompression and {@code Accept-Encoding} negotiation.
+ */
+class EncodedBodyTest {
+
+    /**
+     * Large bodies get a smaller gzip encoding that decompresses to the original; tiny ones get none.
+     */
+    @Test
+    void compressesOnlyWorthwhileBodies() throws IOException {
+        byte[] json = "{\"name\":\"Republic Day\",\"city\":\"Bengaluru\"},".repeat(50).getBytes(StandardCharsets.UTF_8);
+        EncodedBody body = EncodedBody.of(json);
+
+        assertNotNull(body.getGzip());
+        assertTrue(body.getGzip().length < json.length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body.getGzip()))) {
+            assertArrayEquals(json, in.readAllBytes());
+        }
+        assertNull(EncodedBody.of("[]".getBytes(StandardCharsets.UTF_8)).getGzip());
+    }
+
+    /**
+     * gzip is chosen when listed or covered by a wildcard, unless given a zero quality.
+     */
+    @Test
+    void negotiatesGzip() {
+        assertTrue(EncodedBody.acceptsGzip("gzip, deflate, br"));
+        assertTrue(EncodedBody.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(EncodedBody.acceptsGzip("*"));
+        assertFalse(EncodedBody.acceptsGzip(null));
+        assertFalse(EncodedBody.acceptsGzip("identity"));
+        assertFalse(EncodedBody.acceptsGzip("br, gzip;q=0"));
+        assertFalse(EncodedBody.acceptsGzip("*, gzip;q=0.0"));
+        assertFalse(EncodedBody.acceptsGzip("*;q=0"));
+    }
+}
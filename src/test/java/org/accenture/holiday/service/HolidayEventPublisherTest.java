@@ -0,0 +1,92 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link HolidayEventPublisher} covering day-start scheduling and event fan-out.
+ */
+class HolidayEventPublisherTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Kolkata");
+
+    private static HolidayEventPublisher publisherAt(Instant now) {
+        HolidayRepository repository = new HolidayRepository(mock(HolidayService.class), "ignored/path.log");
+        repository.publish(List.of(
+                new Holiday("Republic Day", LocalDate.of(2024, 1, 26), DayOfWeek.FRIDAY, "Bangalore", Holiday.Type.MANDATORY),
+                new Holiday("Regional Festival", LocalDate.of(2024, 1, 26), DayOfWeek.FRIDAY, "Pune", Holiday.Type.FLOATING)
+        ));
+        HolidayRegistry registry = new HolidayRegistry(mock(HolidayService.class),
+                new HolidayJsonCache(JsonMapper.builder().build(), 16), "", 0);
+        return new HolidayEventPublisher(repository, registry, false, Clock.fixed(now, ZONE), 0, 0, 1);
+    }
+
+    /**
+     * The next wake-up is the start of the following day in the configured zone.
+     */
+    @Test
+    void wakesAtNextDayStartInZone() {
+        HolidayEventPublisher publisher = publisherAt(Instant.parse("2024-01-25T18:00:00Z"));
+
+        assertEquals(LocalDate.of(2024, 1, 25), publisher.today());
+        assertEquals(Duration.ofMinutes(30), publisher.untilNextDay());
+    }
+
+    /**
+     * Each subscriber gets one event for a day with matching holidays and none otherwise.
+     */
+    @Test
+    void sendsMatchingHolidaysToSubscribers() {
+        HolidayEventPublisher publisher = publisherAt(Instant.parse("2024-01-25T18:00:00Z"));
+        publisher.subscribe(null, null);
+        publisher.subscribe(Holiday.Type.FLOATING, null);
+        publisher.subscribe(Holiday.Type.MANDATORY, "pune");
+
+        assertEquals(3, publisher.getSubscriberCount());
+        assertEquals(2, publisher.publish(LocalDate.of(2024, 1, 26)));
+        assertEquals(0, publisher.publish(LocalDate.of(2024, 1, 27)));
+
+        publisher.stop();
+        assertEquals(0, publisher.getSubscriberCount());
+    }
+
+    /**
+     * A day is published once however often the timer fires during it.
+     */
+    @Test
+    void publishesEachDayOnce() {
+        HolidayEventPublisher publisher = publisherAt(Instant.parse("2024-01-25T18:30:00Z"));
+        publisher.subscribe(null, null);
+
+        assertEquals(1, publisher.tick());
+        assertEquals(0, publisher.tick());
+    }
+
+    /**
+     * Heartbeats reach every subscriber, and a subscriber that can no longer be sent to is dropped.
+     */
+    @Test
+    void heartbeatDropsDeadSubscribers() {
+        HolidayEventPublisher publisher = publisherAt(Instant.parse("2024-01-25T18:00:00Z"));
+        publisher.subscribe(null, null);
+        SseEmitter dead = publisher.subscribe(null, "Pune");
+
+        assertEquals(2, publisher.heartbeat());
+        dead.complete();
+        assertEquals(1, publisher.heartbeat());
+        assertEquals(1, publisher.getSubscriberCount());
+    }
+}
@@ -0,0 +1,79 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for {@link HolidayExportWriter} and the date order it exports in.
+ */
+class HolidayExportWriterTest {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private final HolidaySnapshot snapshot = new HolidaySnapshot(List.of(
+            createHoliday("Late", LocalDate.of(2024, 3, 5), Holiday.Type.FLOATING),
+            createHoliday("Early, \"quoted\"", LocalDate.of(2024, 1, 15), Holiday.Type.MANDATORY),
+            createHoliday("Same Day A", LocalDate.of(2024, 2, 6), Holiday.Type.MANDATORY),
+            createHoliday("Same Day B", LocalDate.of(2024, 2, 6), Holiday.Type.FLOATING)
+    ), 1L, Instant.now());
+
+    private static Holiday createHoliday(String name, LocalDate date, Holiday.Type type) {
+        return new Holiday(name, date, date.getDayOfWeek(), "Bengaluru", type);
+    }
+
+    private String export(int from, int skip, HolidayExportWriter.Format format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new HolidayExportWriter(JSON).write(snapshot, from, skip, h -> true, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * NDJSON has one object per line in date order, file order within a date, each line terminated.
+     */
+    @Test
+    void writesNdjsonInDateOrder() throws IOException {
+        String[] lines = export(0, 0, HolidayExportWriter.Format.NDJSON).split("\n", -1);
+
+        assertEquals(5, lines.length);
+        assertEquals("", lines[4]);
+        assertEquals('{', lines[1].charAt(0));
+        assertEquals(List.of("Early, \"quoted\"", "Same Day A", "Same Day B", "Late"),
+                List.of(lines).subList(0, 4).stream().map(l -> JSON.readTree(l).get("name").asString()).toList());
+    }
+
+    /**
+     * A date cursor with a skip count resumes exactly after the last holiday received.
+     */
+    @Test
+    void resumesFromDateCursor() throws IOException {
+        int from = snapshot.indexOfDate(LocalDate.of(2024, 2, 6));
+
+        String csv = export(from, 1, HolidayExportWriter.Format.CSV);
+
+        assertEquals("name,date,dayOfWeek,city,type\r\n"
+                + "Same Day B,2024-02-06,TUESDAY,Bengaluru,FLOATING\r\n"
+                + "Late,2024-03-05,TUESDAY,Bengaluru,FLOATING\r\n", csv);
+        assertEquals(snapshot.size(), snapshot.indexOfDate(LocalDate.of(2025, 1, 1)));
+        assertEquals(0, snapshot.indexOfDate(LocalDate.of(2000, 1, 1)));
+    }
+
+    /**
+     * CSV fields containing separators or quotes are quoted and quotes doubled.
+     */
+    @Test
+    void quotesCsvFields() throws IOException {
+        String csv = export(0, 0, HolidayExportWriter.Format.CSV);
+
+        assertEquals("\"Early, \"\"quoted\"\"\",2024-01-15,MONDAY,Bengaluru,MANDATORY", csv.split("\r\n")[1]);
+    }
+}
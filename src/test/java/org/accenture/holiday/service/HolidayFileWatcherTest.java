@@ -0,0 +1,107 @@
+package org.accenture.holiday.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link HolidayFileWatcher} covering change detection and validation.
+ */
+class HolidayFileWatcherTest {
+
+    private static final String REPUBLIC_DAY = "Mandatory holiday for Republic Day on Monday, 15-Jan-2024 in Bangalore";
+    private static final String FESTIVAL = "Floating holiday for Regional Festival on Tuesday, 16-Jan-2024 in Bangalore";
+
+    /**
+     * A changed file is reloaded and published; an unchanged one is not.
+     */
+    @Test
+    void reloadsOnlyWhenFileChanges(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, REPUBLIC_DAY);
+        HolidayRepository repository = new HolidayRepository(new HolidayService(), file.toString());
+        repository.init();
+        HolidayFileWatcher watcher = new HolidayFileWatcher(repository, false, 1000);
+
+        assertTrue(watcher.checkForChange());
+        assertFalse(watcher.checkForChange());
+
+        Files.writeString(file, String.join("\n", REPUBLIC_DAY, FESTIVAL));
+
+        assertTrue(watcher.checkForChange());
+        assertEquals(2, repository.snapshot().size());
+        assertEquals(3, repository.getReloadCount());
+    }
+
+    /**
+     * Each poll also refreshes the registry catalogue, so a file added to its directory is served.
+     */
+    @Test
+    void refreshesRegistryCatalogue(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, REPUBLIC_DAY);
+        Path dir = Files.createDirectory(tempDir.resolve("registry"));
+        HolidayRepository repository = new HolidayRepository(new HolidayService(), file.toString());
+        HolidayRegistry registry = new HolidayRegistry(new HolidayService(),
+                new HolidayJsonCache(JsonMapper.builder().build(), 16), dir.toString(), 100);
+        registry.init();
+        HolidayFileWatcher watcher = new HolidayFileWatcher(repository, registry, false, 1000);
+        assertEquals(0, registry.partition("Bangalore", null).size());
+
+        Files.writeString(dir.resolve("bangalore.log"), REPUBLIC_DAY);
+
+        assertTrue(watcher.checkRegistry());
+        assertFalse(watcher.checkRegistry());
+        assertEquals(1, registry.partition("Bangalore", null).size());
+    }
+
+    /**
+     * A file that parses to nothing does not replace published data.
+     */
+    @Test
+    void rejectsEmptyReplacement(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, REPUBLIC_DAY);
+        HolidayRepository repository = new HolidayRepository(new HolidayService(), file.toString());
+        repository.init();
+        HolidayFileWatcher watcher = new HolidayFileWatcher(repository, false, 1000);
+        long version = repository.snapshot().getVersion();
+
+        Files.writeString(file, "Mandatory holiday for");
+
+        assertFalse(watcher.checkForChange());
+        assertEquals(version, repository.snapshot().getVersion());
+        assertEquals(1, repository.snapshot().size());
+    }
+
+    /**
+     * The background thread picks up a change without an explicit check.
+     */
+    @Test
+    void backgroundThreadPublishesChanges(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, REPUBLIC_DAY);
+        HolidayRepository repository = new HolidayRepository(new HolidayService(), file.toString());
+        repository.init();
+        HolidayFileWatcher watcher = new HolidayFileWatcher(repository, true, 50);
+        watcher.start();
+        try {
+            Files.writeString(file, String.join("\n", REPUBLIC_DAY, FESTIVAL));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (repository.snapshot().size() != 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(2, repository.snapshot().size());
+        } finally {
+            watcher.stop();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.accenture.holiday.service;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests for {@link HolidayJsonCache} covering which results are stored and compressed.
+ */
+class HolidayJsonCacheTest {
+
+    private static final List<String> LARGE = Collections.nCopies(100, "Republic Day in Bengaluru");
+
+    /**
+     * Stored entries are compressed once; results beyond the entry limit or for an outdated snapshot are
+     * served uncompressed and not stored.
+     */
+    @Test
+    void compressesOnlyStoredEntries() {
+        HolidayJsonCache cache = new HolidayJsonCache(JsonMapper.builder().build(), 1);
+        HolidaySnapshot older = new HolidaySnapshot(List.of(), 1L, Instant.now());
+        HolidaySnapshot current = new HolidaySnapshot(List.of(), 2L, Instant.now());
+
+        HolidayJsonCache.Entry stored = cache.get(current, "a", s -> LARGE);
+        HolidayJsonCache.Entry overflow = cache.get(current, "b", s -> LARGE);
+        HolidayJsonCache.Entry outdated = cache.get(older, "a", s -> LARGE);
+
+        assertNotNull(stored.getEncodedBody().getGzip());
+        assertSame(stored, cache.get(current, "a", s -> LARGE));
+        assertNull(overflow.getEncodedBody().getGzip());
+        assertNotSame(overflow, cache.get(current, "b", s -> LARGE));
+        assertNull(outdated.getEncodedBody().getGzip());
+    }
+}
@@ -0,0 +1,122 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link HolidayLineScanner}, checked against the regex parser.
+ */
+class HolidayLineScannerTest {
+
+    /**
+     * Asserts the scanner either defers or agrees with the regex on {@code line}.
+     */
+    private void assertAgreesWithRegex(String line) {
+        Holiday scanned = HolidayLineScanner.scan(line);
+        if (scanned == null) {
+            return;
+        }
+        Holiday expected = HolidayService.parseLine(line);
+        assertNotNull(expected, line);
+        assertEquals(expected.getName(), scanned.getName(), line);
+        assertEquals(expected.getDate(), scanned.getDate(), line);
+        assertEquals(expected.getDayOfWeek(), scanned.getDayOfWeek(), line);
+        assertEquals(expected.getCity(), scanned.getCity(), line);
+        assertEquals(expected.getType(), scanned.getType(), line);
+    }
+
+    /**
+     * Every line of the bundled files is parsed by the scanner exactly as by the regex.
+     */
+    @Test
+    void matchesRegexOnBundledFiles() throws IOException {
+        for (String file : List.of("src/main/resources/bangalore_holidays.log", "src/main/resources/bangalore_holidays_2025.log")) {
+            for (String line : Files.readAllLines(Path.of(file), StandardCharsets.UTF_8)) {
+                assertNotNull(HolidayLineScanner.scan(line), line);
+                assertAgreesWithRegex(line);
+            }
+        }
+    }
+
+    /**
+     * The name ends at the first " on " that is followed by a valid tail.
+     */
+    @Test
+    void nameIsLazyUpToValidTail() {
+        String line = "  Floating holiday for Feast on the Hill on Friday on Friday, 2-Feb-2024 in  Bengaluru  ";
+        Holiday holiday = HolidayLineScanner.scan(line);
+
+        assertNotNull(holiday);
+        assertEquals("Feast on the Hill on Friday", holiday.getName());
+        assertEquals(LocalDate.of(2024, 2, 2), holiday.getDate());
+        assertEquals("Bengaluru", holiday.getCity());
+        assertAgreesWithRegex(line);
+    }
+
+    /**
+     * Malformed or uncertain lines are left to the fallback.
+     */
+    @Test
+    void rejectsLinesItCannotParseWithCertainty() {
+        assertNull(HolidayLineScanner.scan(""));
+        assertNull(HolidayLineScanner.scan("Not a valid line"));
+        assertNull(HolidayLineScanner.scan("mandatory holiday for X on Monday, 15-Jan-2024 in Bangalore"));
+        assertNull(HolidayLineScanner.scan("Mandatory holiday for X on Monday, 15-jan-2024 in Bangalore"));
+        assertNull(HolidayLineScanner.scan("Mandatory holiday for X on Monday, 31-Feb-2024 in Bangalore"));
+        assertNull(HolidayLineScanner.scan("Mandatory holiday for X on Monday, 115-Jan-2024 in Bangalore"));
+        assertNull(HolidayLineScanner.scan("Mandatory holiday for X on Monday, 15-Jan-24 in Bangalore"));
+        assertNull(HolidayLineScanner.scan("Mandatory holiday for X on Monday, 15-Jan-2024 in "));
+        assertNull(HolidayLineScanner.scan("Mandatory holiday for on Monday, 15-Jan-2024 in Bangalore"));
+    }
+
+    /**
+     * Lines the scanner defers are still parsed by the regex and reported.
+     */
+    @Test
+    void reportsFallbackLines(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, String.join("\n",
+                "Mandatory holiday for Republic Day on Monday, 15-Jan-2024 in Bangalore",
+                "Floating holiday for Year Zero on Monday, 3-Jan-0000 in Bangalore",
+                "Not a valid line"
+        ));
+
+        ParseReport report = new HolidayService().parse(file);
+
+        assertEquals(2, report.getHolidays().size());
+        assertEquals(1, report.getFallbackCount());
+        assertEquals(List.of(2), report.getFallbackLines());
+        assertEquals(LocalDate.of(0, 1, 3), report.getHolidays().get(1).getDate());
+    }
+
+    /**
+     * The day-of-week word is checked against the date, accepting any case and three-letter abbreviations.
+     */
+    @Test
+    void flagsDayOfWeekMismatch() {
+        boolean[] mismatch = new boolean[1];
+        assertNotNull(HolidayLineScanner.scan("Mandatory holiday for X on Tuesday, 15-Jan-2024 in Bangalore", mismatch));
+        assertTrue(mismatch[0]);
+        for (String day : List.of("Monday", "MONDAY", "mon", "Mon")) {
+            assertNotNull(HolidayLineScanner.scan("Mandatory holiday for X on " + day + ", 15-Jan-2024 in Bangalore", mismatch));
+            assertFalse(mismatch[0], day);
+        }
+        assertFalse(HolidayLineScanner.namesDay("Mond", 0, 4, DayOfWeek.MONDAY));
+        assertFalse(HolidayLineScanner.namesDay("Tue", 0, 3, DayOfWeek.MONDAY));
+    }
+}
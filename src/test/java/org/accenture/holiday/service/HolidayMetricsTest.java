@@ -0,0 +1,53 @@
+package org.accenture.holiday.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.accenture.holiday.model.Holiday;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link HolidayMetrics}.
+ */
+class HolidayMetricsTest {
+
+    /**
+     * Line outcomes, snapshot size and cache hit ratio reflect a load followed by repeated queries.
+     */
+    @Test
+    void exportsLoadSnapshotAndCacheMeters(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, String.join("\n",
+                "Mandatory holiday for Weekday Event on Monday, 22-Jan-2024 in Bangalore",
+                "Mandatory holiday for Saturday Event on Saturday, 20-Jan-2024 in Bangalore",
+                "not a holiday line"
+        ));
+        HolidayService service = new HolidayService();
+        HolidayRepository repository = new HolidayRepository(service, file.toString());
+        HolidayJsonCache cache = new HolidayJsonCache(JsonMapper.builder().build(), 16);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new HolidayMetrics(service, repository, cache).bindTo(registry);
+
+        repository.reload();
+        for (int i = 0; i < 4; i++) {
+            cache.get(repository.snapshot(), "mandatory", s -> s.byType(Holiday.Type.MANDATORY));
+        }
+
+        assertEquals(3, registry.get("holidays.parse.lines.read").functionCounter().count());
+        assertEquals(1, registry.get("holidays.parse.lines").tag("outcome", "accepted").functionCounter().count());
+        assertEquals(1, registry.get("holidays.parse.lines").tag("outcome", "rejected").functionCounter().count());
+        assertEquals(1, registry.get("holidays.parse.lines").tag("outcome", "weekend_filtered").functionCounter().count());
+        assertEquals(0, registry.get("holidays.parse.lines.day.mismatch").functionCounter().count());
+        assertEquals(1, registry.get("holidays.parse.duration").functionTimer().count());
+        assertEquals(1, registry.get("holidays.snapshot.size").gauge().value());
+        assertTrue(registry.get("holidays.snapshot.age").timeGauge().value() >= 0);
+        assertEquals(0.75, registry.get("holidays.json.cache.hit.ratio").gauge().value());
+    }
+}
@@ -0,0 +1,188 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link HolidayRegistry}.
+ */
+class HolidayRegistryTest {
+
+    private static HolidayRegistry registry(Path dir, HolidayService service, int maxRows) {
+        HolidayRegistry registry = new HolidayRegistry(service, new HolidayJsonCache(JsonMapper.builder().build(), 16),
+                dir.toString(), maxRows);
+        registry.init();
+        return registry;
+    }
+
+    private static void write(Path dir, String name, String... lines) throws IOException {
+        Files.writeString(dir.resolve(name), String.join("\n", lines));
+    }
+
+    /**
+     * Cataloguing parses nothing; partitions select by city and year across files, load lazily and only
+     * parse the files they need.
+     */
+    @Test
+    void partitionsByCityAndYearLazily(@TempDir Path dir) throws IOException {
+        write(dir, "bangalore_2024.log",
+                "Mandatory holiday for Republic Day on Friday, 26-Jan-2024 in Bengaluru",
+                "Mandatory holiday for Holi on Monday, 25-Mar-2024 in Pune");
+        write(dir, "bangalore_2025.log",
+                "Mandatory holiday for Republic Day on Monday, 27-Jan-2025 in Bengaluru");
+        HolidayService service = spy(new HolidayService());
+        HolidayRegistry registry = registry(dir, service, 100);
+        verify(service, never()).loadHolidays(any(Path.class));
+        assertEquals(0, registry.getLoadedPartitions());
+
+        HolidaySnapshot bengaluru2025 = registry.partition("BENGALURU", 2025);
+        assertEquals(1, bengaluru2025.size());
+        assertEquals(2025, bengaluru2025.getHolidays().get(0).getDate().getYear());
+        verify(service, times(1)).loadHolidays(dir.resolve("bangalore_2025.log"));
+        verify(service, never()).loadHolidays(dir.resolve("bangalore_2024.log"));
+        assertSame(bengaluru2025, registry.partition("bengaluru", 2025));
+
+        assertEquals(List.of("Republic Day", "Republic Day"),
+                registry.partition("Bengaluru", null).getHolidays().stream().map(Holiday::getName).toList());
+        assertEquals(List.of("Holi"),
+                registry.partition(null, 2024).byCity("Pune").stream().map(Holiday::getName).toList());
+        assertSame(HolidaySnapshot.EMPTY, registry.partition("Delhi", null));
+        assertEquals(3, registry.getLoadedPartitions());
+    }
+
+    /**
+     * Least recently used partitions are evicted once the row budget is exceeded.
+     */
+    @Test
+    void evictsLeastRecentlyUsedOverBudget(@TempDir Path dir) throws IOException {
+        write(dir, "holidays.log",
+                "Mandatory holiday for Republic Day on Friday, 26-Jan-2024 in Bengaluru",
+                "Mandatory holiday for Labour Day on Wednesday, 1-May-2024 in Bengaluru",
+                "Mandatory holiday for Republic Day on Monday, 27-Jan-2025 in Bengaluru");
+        HolidayRegistry registry = registry(dir, new HolidayService(), 3);
+
+        HolidaySnapshot first = registry.partition("Bengaluru", 2024);
+        HolidaySnapshot second = registry.partition("Bengaluru", 2025);
+        assertEquals(2, registry.getLoadedPartitions());
+        assertSame(second, registry.partition("Bengaluru", 2025));
+
+        registry.partition("Bengaluru", null);
+        assertEquals(1, registry.getLoadedPartitions());
+        assertNotSame(first, registry.partition("Bengaluru", 2024));
+    }
+
+    /**
+     * A refresh catalogues added and edited files and drops only the partitions they touch.
+     */
+    @Test
+    void refreshPicksUpAddedAndEditedFiles(@TempDir Path dir) throws IOException {
+        write(dir, "a.log", "Mandatory holiday for Republic Day on Friday, 26-Jan-2024 in Bengaluru");
+        write(dir, "b.log", "Mandatory holiday for Holi on Monday, 25-Mar-2024 in Pune");
+        HolidayRegistry registry = registry(dir, new HolidayService(), 100);
+        HolidaySnapshot pune = registry.partition("Pune", null);
+        assertEquals(1, registry.partition("Bengaluru", 2024).size());
+        assertSame(HolidaySnapshot.EMPTY, registry.partition("Delhi", null));
+        assertFalse(registry.refresh());
+
+        write(dir, "a.log", "Mandatory holiday for Republic Day on Friday, 26-Jan-2024 in Bengaluru",
+                "Mandatory holiday for Labour Day on Wednesday, 1-May-2024 in Bengaluru   ");
+        write(dir, "c.log", "Mandatory holiday for Republic Day on Friday, 26-Jan-2024 in Delhi");
+        Files.setLastModifiedTime(dir.resolve("a.log"), FileTime.fromMillis(0));
+        assertTrue(registry.refresh());
+
+        assertSame(pune, registry.partition("Pune", null));
+        assertEquals(2, registry.partition("Bengaluru", 2024).size());
+        assertEquals(1, registry.partition("delhi", null).size());
+
+        Files.delete(dir.resolve("c.log"));
+        assertTrue(registry.refresh());
+        assertSame(HolidaySnapshot.EMPTY, registry.partition("Delhi", null));
+    }
+
+    /**
+     * Concurrent first accesses to one partition share a single parse.
+     */
+    @Test
+    void concurrentMissesParseOnce(@TempDir Path dir) throws Exception {
+        write(dir, "a.log", "Mandatory holiday for Republic Day on Friday, 26-Jan-2024 in Bengaluru");
+        HolidayService service = spy(new HolidayService());
+        CountDownLatch parsing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            parsing.countDown();
+            release.await();
+            return invocation.callRealMethod();
+        }).when(service).loadHolidays(any(Path.class));
+        HolidayRegistry registry = registry(dir, service, 100);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<HolidaySnapshot>> results = new ArrayList<>();
+            results.add(pool.submit(() -> registry.partition("Bengaluru", 2024)));
+            parsing.await();
+            for (int i = 0; i < 3; i++) {
+                results.add(pool.submit(() -> registry.partition("bengaluru", 2024)));
+            }
+            Thread.sleep(50);
+            release.countDown();
+            HolidaySnapshot first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<HolidaySnapshot> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        verify(service, times(1)).loadHolidays(any(Path.class));
+    }
+
+    /**
+     * The catalogue reads the year and city from the end of a line, tolerating extra whitespace.
+     */
+    @Test
+    void cataloguesYearAndCityFromLineEnd() {
+        assertEquals("bengaluru/2024", HolidayRegistry.catalogKey("Mandatory holiday for A-B on Friday, 26-Jan-2024 in  Bengaluru "));
+        assertEquals("new delhi/2025", HolidayRegistry.catalogKey("Floating holiday for X on Monday, 6-Jan-2025 in New Delhi"));
+        assertNull(HolidayRegistry.catalogKey("Mandatory holiday for X on Friday, 26-Jan-2024 in "));
+        assertNull(HolidayRegistry.catalogKey("not a holiday line"));
+    }
+
+    /**
+     * Without a directory the registry is disabled and never reads files.
+     */
+    @Test
+    void disabledWithoutDirectory() throws IOException {
+        HolidayService service = spy(new HolidayService());
+        HolidayRegistry registry = new HolidayRegistry(service, new HolidayJsonCache(JsonMapper.builder().build(), 16), "", 10);
+        registry.init();
+
+        assertEquals(false, registry.isEnabled());
+        verify(service, never()).loadHolidays(any(Path.class));
+    }
+}
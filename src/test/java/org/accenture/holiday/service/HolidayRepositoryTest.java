@@ -0,0 +1,173 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link HolidayRepository} covering snapshot loading and publishing.
+ */
+class HolidayRepositoryTest {
+
+    /**
+     * The file is parsed once and the same snapshot is served until a reload.
+     */
+    @Test
+    void servesSameSnapshotUntilReload(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, "Mandatory holiday for Republic Day on Monday, 15-Jan-2024 in Bangalore");
+        HolidayRepository repository = new HolidayRepository(new HolidayService(), file.toString());
+        repository.init();
+
+        HolidaySnapshot first = repository.snapshot();
+        assertEquals(1, first.size());
+        assertSame(first, repository.snapshot());
+
+        Files.writeString(file, String.join("\n",
+                "Mandatory holiday for Republic Day on Monday, 15-Jan-2024 in Bangalore",
+                "Floating holiday for Regional Festival on Tuesday, 16-Jan-2024 in Bangalore"
+        ));
+        HolidaySnapshot second = repository.reload();
+
+        assertNotSame(first, second);
+        assertSame(second, repository.snapshot());
+        assertEquals(2, second.size());
+        assertTrue(second.getVersion() > first.getVersion());
+    }
+
+    /**
+     * A missing file at startup leaves the empty snapshot in place.
+     */
+    @Test
+    void missingFileAtStartupServesEmptySnapshot(@TempDir Path tempDir) {
+        HolidayRepository repository = new HolidayRepository(new HolidayService(), tempDir.resolve("missing.log").toString());
+        repository.init();
+
+        assertSame(HolidaySnapshot.EMPTY, repository.snapshot());
+        assertThrows(IOException.class, repository::reload);
+    }
+
+    /**
+     * Published snapshots are immutable.
+     */
+    @Test
+    void publishedSnapshotIsUnmodifiable() {
+        HolidayRepository repository = new HolidayRepository(new HolidayService(), "ignored/path.log");
+        HolidaySnapshot snapshot = repository.publish(List.of());
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getHolidays().add(null));
+    }
+
+    private static final String REPUBLIC_DAY = "Mandatory holiday for Republic Day on Monday, 15-Jan-2024 in Bangalore\n";
+    private static final String FESTIVAL = "Floating holiday for Regional Festival on Tuesday, 16-Jan-2024 in Bangalore\n";
+    private static final String MAY_DAY = "Mandatory holiday for May Day on Wednesday, 01-May-2024 in Bangalore\n";
+
+    /**
+     * Appended lines are parsed on their own and merged into the published data and indexes;
+     * an unfinished last line waits for its terminator.
+     */
+    @Test
+    void refreshIngestsOnlyAppendedLines(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, REPUBLIC_DAY);
+        HolidayService service = spy(new HolidayService());
+        HolidayRepository repository = new HolidayRepository(service, file.toString());
+        repository.init();
+        HolidaySnapshot first = repository.snapshot();
+
+        Files.writeString(file, FESTIVAL + MAY_DAY.substring(0, 20), StandardOpenOption.APPEND);
+        HolidaySnapshot second = repository.refresh();
+
+        assertEquals(2, second.size());
+        assertTrue(second.getVersion() > first.getVersion());
+        assertEquals(1, second.byType(Holiday.Type.FLOATING).size());
+
+        Files.writeString(file, MAY_DAY.substring(20), StandardOpenOption.APPEND);
+        HolidaySnapshot third = repository.refresh();
+
+        assertEquals(3, third.size());
+        assertEquals("May Day", third.byTypeAndMonth(Holiday.Type.MANDATORY, 5).get(0).getName());
+        assertSame(third, repository.refresh());
+        verify(service, times(1)).loadHolidays(any(Path.class));
+    }
+
+    /**
+     * A file that shrank or whose consumed content changed is reloaded in full.
+     */
+    @Test
+    void refreshReloadsTruncatedOrRewrittenFile(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, REPUBLIC_DAY + FESTIVAL);
+        HolidayService service = spy(new HolidayService());
+        HolidayRepository repository = new HolidayRepository(service, file.toString());
+        repository.init();
+
+        Files.writeString(file, REPUBLIC_DAY);
+        assertEquals(1, repository.refresh().size());
+
+        Files.writeString(file, REPUBLIC_DAY.replace("Republic", "Republik") + MAY_DAY);
+        HolidaySnapshot rewritten = repository.refresh();
+
+        assertEquals(2, rewritten.size());
+        assertEquals("Republik Day", rewritten.getHolidays().get(0).getName());
+        verify(service, times(3)).loadHolidays(any(Path.class));
+    }
+
+    /**
+     * An in-place edit far before the consumed offset, followed by an append, is still caught and reloaded.
+     */
+    @Test
+    void refreshDetectsInPlaceEditBeforeAppend(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, REPUBLIC_DAY + FESTIVAL.repeat(100));
+        HolidayService service = spy(new HolidayService());
+        HolidayRepository repository = new HolidayRepository(service, file.toString());
+        repository.init();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap("Republik".getBytes(StandardCharsets.UTF_8)), REPUBLIC_DAY.indexOf("Republic"));
+        }
+        Files.writeString(file, MAY_DAY, StandardOpenOption.APPEND);
+        HolidaySnapshot refreshed = repository.refresh();
+
+        assertEquals(102, refreshed.size());
+        assertEquals("Republik Day", refreshed.getHolidays().get(0).getName());
+        verify(service, times(2)).loadHolidays(any(Path.class));
+    }
+
+    /**
+     * With incremental ingestion disabled every refresh is a full reload.
+     */
+    @Test
+    void refreshReloadsWhenIncrementalDisabled(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, REPUBLIC_DAY);
+        HolidayService service = spy(new HolidayService());
+        HolidayRepository repository = new HolidayRepository(service, file.toString(), false);
+        repository.init();
+
+        Files.writeString(file, FESTIVAL, StandardOpenOption.APPEND);
+
+        assertEquals(2, repository.refresh().size());
+        verify(service, times(2)).loadHolidays(any(Path.class));
+    }
+}
@@ -0,0 +1,194 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.CollapsedHoliday;
+import org.accenture.holiday.model.Holiday;
+import org.accenture.holiday.model.HolidayQuery;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link HolidaySnapshot} secondary indexes.
+ */
+class HolidaySnapshotTest {
+
+    private Holiday createHoliday(String name, int year, int month, int day, String city, Holiday.Type type) {
+        LocalDate date = LocalDate.of(year, month, day);
+        return new Holiday(name, date, date.getDayOfWeek(), city, type);
+    }
+
+    /**
+     * Indexes agree with filtering the full list and keep file order.
+     */
+    @Test
+    void indexesMatchFullScan() {
+        HolidaySnapshot snapshot = new HolidaySnapshot(List.of(
+                createHoliday("Jan 2024 Mandatory", 2024, 1, 15, "Bengaluru", Holiday.Type.MANDATORY),
+                createHoliday("Jan 2025 Mandatory", 2025, 1, 14, "Bengaluru", Holiday.Type.MANDATORY),
+                createHoliday("Jan 2024 Floating", 2024, 1, 16, "Pune", Holiday.Type.FLOATING),
+                createHoliday("Aug 2024 Mandatory", 2024, 8, 15, "Bengaluru", Holiday.Type.MANDATORY)
+        ), 1L, Instant.now());
+
+        assertEquals(3, snapshot.byType(Holiday.Type.MANDATORY).size());
+        assertEquals(List.of("Jan 2024 Mandatory", "Jan 2025 Mandatory"),
+                snapshot.byTypeAndMonth(Holiday.Type.MANDATORY, 1).stream().map(Holiday::getName).toList());
+        assertEquals(1, snapshot.byTypeAndYearMonth(Holiday.Type.MANDATORY, YearMonth.of(2025, 1)).size());
+        assertEquals(1, snapshot.byCity("Pune").size());
+        assertTrue(snapshot.byCity("Delhi").isEmpty());
+    }
+
+    /**
+     * Cities are indexed by normalized name, so spellings differing in case or padding share one entry, and city
+     * filters agree with the registry's matcher.
+     */
+    @Test
+    void cityIndexMatchesNormalizedCity() {
+        List<Holiday> holidays = List.of(
+                createHoliday("Republic Day", 2024, 1, 26, "Pune", Holiday.Type.MANDATORY),
+                createHoliday("Holi", 2024, 3, 25, "Bengaluru", Holiday.Type.MANDATORY),
+                createHoliday("Ugadi", 2024, 4, 9, " pune ", Holiday.Type.FLOATING),
+                createHoliday("Diwali", 2024, 11, 1, "PUNE", Holiday.Type.MANDATORY));
+        HolidaySnapshot snapshot = new HolidaySnapshot(holidays, 1L, Instant.now());
+
+        assertEquals(List.of("Republic Day", "Ugadi", "Diwali"),
+                snapshot.byCity(" Pune").stream().map(Holiday::getName).toList());
+        assertEquals(holidays.stream().filter(HolidayRegistry.matcher("pune", null)).map(Holiday::getName).toList(),
+                snapshot.getHolidays().stream().filter(snapshot.cityFilter("PUNE")).map(Holiday::getName).toList());
+        assertEquals(List.of("Republic Day", "Diwali"), snapshot.inCity(snapshot.byType(Holiday.Type.MANDATORY), "pune")
+                .stream().map(Holiday::getName).toList());
+        assertTrue(snapshot.inCity(snapshot.getHolidays(), "Delhi").isEmpty());
+        assertEquals(List.of("Ugadi"), snapshot.select(new HolidayQuery("floating", null, null, null, "PUNE"))
+                .map(Holiday::getName).toList());
+    }
+
+    /**
+     * Out-of-range months yield an empty list rather than an error.
+     */
+    @Test
+    void outOfRangeMonthIsEmpty() {
+        assertTrue(HolidaySnapshot.EMPTY.byTypeAndMonth(Holiday.Type.FLOATING, 0).isEmpty());
+        assertTrue(HolidaySnapshot.EMPTY.byTypeAndMonth(Holiday.Type.FLOATING, 13).isEmpty());
+    }
+
+    /**
+     * Index lists cannot be modified by callers.
+     */
+    @Test
+    void indexListsAreUnmodifiable() {
+        HolidaySnapshot snapshot = new HolidaySnapshot(List.of(
+                createHoliday("Event", 2024, 5, 6, "Bengaluru", Holiday.Type.MANDATORY)
+        ), 1L, Instant.now());
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.byType(Holiday.Type.MANDATORY).clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.byTypeAndMonth(Holiday.Type.MANDATORY, 5).clear());
+    }
+
+    /**
+     * Indexed search returns exactly what a lower-cased contains scan returns, in file order.
+     */
+    @Test
+    void searchMatchesContainsScan() throws IOException {
+        List<Holiday> holidays = new HolidayService().loadHolidays(Path.of("src/main/resources/bangalore_holidays_2025.log"));
+        HolidaySnapshot snapshot = new HolidaySnapshot(holidays, 1L, Instant.now());
+        String longest = holidays.stream().map(Holiday::getName).max(Comparator.comparingInt(String::length)).orElseThrow();
+
+        for (String keyword : List.of("a", "GU", "guru", "Gobind Singh", "day", "jayanti", "xyz", "ndayanthi",
+                longest, longest + "x", "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa")) {
+            List<String> expected = holidays.stream()
+                    .filter(h -> h.getName().toLowerCase().contains(keyword.toLowerCase()))
+                    .map(h -> h.getName() + "@" + h.getDate())
+                    .toList();
+            List<String> actual = snapshot.search(keyword).stream()
+                    .map(h -> h.getName() + "@" + h.getDate())
+                    .toList();
+            assertEquals(expected, actual, keyword);
+        }
+    }
+
+    /**
+     * Upcoming holidays start at the date's first holiday and honour the filter and limit.
+     */
+    @Test
+    void upcomingStartsAtDate() {
+        HolidaySnapshot snapshot = new HolidaySnapshot(List.of(
+                createHoliday("March", 2024, 3, 5, "Bengaluru", Holiday.Type.MANDATORY),
+                createHoliday("January", 2024, 1, 15, "Bengaluru", Holiday.Type.MANDATORY),
+                createHoliday("February", 2024, 2, 6, "Pune", Holiday.Type.FLOATING)
+        ), 1L, Instant.now());
+
+        assertEquals(List.of("February", "March"),
+                snapshot.upcoming(LocalDate.of(2024, 1, 16), h -> true, 5).stream().map(Holiday::getName).toList());
+        assertEquals(List.of("January"),
+                snapshot.upcoming(LocalDate.MIN, h -> h.getType() == Holiday.Type.MANDATORY, 1).stream().map(Holiday::getName).toList());
+        assertEquals(List.of("February"), snapshot.on(LocalDate.of(2024, 2, 6)).stream().map(Holiday::getName).toList());
+        assertTrue(snapshot.upcoming(LocalDate.of(2024, 3, 6), h -> true, 5).isEmpty());
+    }
+
+    /**
+     * Holidays sharing a date, city and type collapse into one entry per group, with the first name canonical.
+     */
+    @Test
+    void collapsesSameDayAliases() {
+        HolidaySnapshot snapshot = new HolidaySnapshot(List.of(
+                createHoliday("Pongal", 2025, 1, 14, "Bengaluru", Holiday.Type.MANDATORY),
+                createHoliday("Lohri", 2025, 1, 13, "Bengaluru", Holiday.Type.FLOATING),
+                createHoliday("Uttarayana", 2025, 1, 14, "Bengaluru", Holiday.Type.MANDATORY),
+                createHoliday("Pongal", 2025, 1, 14, "Bengaluru", Holiday.Type.MANDATORY),
+                createHoliday("Makar Sankranti", 2025, 1, 14, "Bengaluru", Holiday.Type.MANDATORY),
+                createHoliday("Makar Sankranti", 2025, 1, 14, "Bengaluru", Holiday.Type.FLOATING),
+                createHoliday("Pongal", 2025, 1, 14, "Chennai", Holiday.Type.MANDATORY)
+        ), 1L, Instant.now());
+
+        assertEquals(4, snapshot.collapsedSize());
+        List<CollapsedHoliday> mandatory = snapshot.collapse(snapshot.byType(Holiday.Type.MANDATORY));
+        assertEquals(2, mandatory.size());
+        assertEquals("Pongal", mandatory.get(0).getName());
+        assertEquals(List.of("Uttarayana", "Makar Sankranti"), mandatory.get(0).getAliases());
+        assertEquals("Chennai", mandatory.get(1).getCity());
+        assertTrue(mandatory.get(1).getAliases().isEmpty());
+
+        List<CollapsedHoliday> found = snapshot.collapse(snapshot.search("uttara"));
+        assertEquals(1, found.size());
+        assertEquals("Pongal", found.get(0).getName());
+    }
+
+    /**
+     * On the bundled 2025 file the collapsed view has one entry per distinct (date, city, type) and a smaller payload.
+     */
+    @Test
+    void collapsedViewShrinksBundledPayload() throws IOException {
+        List<Holiday> holidays = new HolidayService().loadHolidays(Path.of("src/main/resources/bangalore_holidays_2025.log"));
+        HolidaySnapshot snapshot = new HolidaySnapshot(holidays, 1L, Instant.now());
+        JsonMapper json = JsonMapper.builder().build();
+
+        long groups = holidays.stream().map(h -> h.getDate() + "|" + h.getCity() + "|" + h.getType())
+                .collect(Collectors.toSet()).size();
+        List<CollapsedHoliday> collapsed = snapshot.collapse(snapshot.getHolidays());
+        assertEquals(groups, collapsed.size());
+        assertEquals(groups, snapshot.collapsedSize());
+        assertEquals(holidays.size(), collapsed.stream().mapToInt(c -> 1 + c.getAliases().size()).sum()
+                + duplicateNames(holidays));
+        assertTrue(json.writeValueAsBytes(collapsed).length < json.writeValueAsBytes(snapshot.getHolidays()).length);
+    }
+
+    /**
+     * Helper counting lines that repeat a name already listed for the same date, city and type.
+     */
+    private static int duplicateNames(List<Holiday> holidays) {
+        return holidays.size() - (int) holidays.stream()
+                .map(h -> h.getDate() + "|" + h.getCity() + "|" + h.getType() + "|" + h.getName())
+                .distinct().count();
+    }
+}
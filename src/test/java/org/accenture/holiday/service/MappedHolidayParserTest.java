@@ -0,0 +1,98 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.Holiday;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * Unit tests for {@link MappedHolidayParser}, checked against the line-by-line loader.
+ */
+class MappedHolidayParserTest {
+
+    /** Service that always reads line by line. */
+    private final HolidayService buffered = new HolidayService(-1, HolidayService.DEFAULT_MAPPED_CHUNK_BYTES, false);
+
+    private void assertSameResult(ParseReport expected, ParseReport actual) {
+        assertEquals(expected.getHolidays().size(), actual.getHolidays().size());
+        for (int i = 0; i < expected.getHolidays().size(); i++) {
+            Holiday e = expected.getHolidays().get(i);
+            Holiday a = actual.getHolidays().get(i);
+            assertEquals(e.getName(), a.getName());
+            assertEquals(e.getDate(), a.getDate());
+            assertEquals(e.getCity(), a.getCity());
+            assertEquals(e.getType(), a.getType());
+        }
+        assertEquals(expected.getFallbackCount(), actual.getFallbackCount());
+        assertEquals(expected.getFallbackLines(), actual.getFallbackLines());
+    }
+
+    /**
+     * Small chunks over the bundled files give the same holidays in the same order.
+     */
+    @Test
+    void matchesLineByLineLoaderOnBundledFiles() throws IOException {
+        for (String file : List.of("src/main/resources/bangalore_holidays.log", "src/main/resources/bangalore_holidays_2025.log")) {
+            Path path = Path.of(file);
+            assertSameResult(buffered.parse(path), MappedHolidayParser.parse(path, 1));
+        }
+    }
+
+    /**
+     * Chunks merge into one columnar store whose name and city tables hold each value once.
+     */
+    @Test
+    void mergesChunksIntoOneColumnarStore() throws IOException {
+        ParseReport report = MappedHolidayParser.parse(Path.of("src/main/resources/bangalore_holidays_2025.log"), 1);
+
+        ColumnarHolidayStore store = assertInstanceOf(ColumnarHolidayStore.class, report.getHolidays());
+        assertEquals(report.getHolidays().stream().map(Holiday::getName).distinct().count(), store.nameCount());
+        assertEquals(report.getHolidays().stream().map(Holiday::getCity).distinct().count(), store.cityCount());
+    }
+
+    /**
+     * Mixed line endings, non-ASCII names and fallback lines survive chunking.
+     */
+    @Test
+    void handlesLineEndingsUnicodeAndFallbackLines(@TempDir Path tempDir) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            content.append("Mandatory holiday for Day ").append(i).append(" on Monday, 15-Jan-2024 in Bangalore\r\n");
+            content.append("Floating holiday for Fête ").append(i).append(" on Tuesday, 16-Jan-2024 in Bengaluru\n");
+            content.append("Floating holiday for Year Zero ").append(i).append(" on Monday, 3-Jan-0000 in Bengaluru\r");
+            content.append("garbage\n");
+        }
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+
+        ParseReport mapped = MappedHolidayParser.parse(file, 1);
+
+        assertSameResult(buffered.parse(file), mapped);
+        assertEquals(1500, mapped.getHolidays().size());
+        assertEquals(500, mapped.getFallbackCount());
+        assertEquals(3, mapped.getFallbackLines().get(0));
+        assertEquals("Fête 0", mapped.getHolidays().get(1).getName());
+    }
+
+    /**
+     * The service switches to the mapped loader from the configured threshold.
+     */
+    @Test
+    void serviceUsesMappedLoaderAboveThreshold(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, "Mandatory holiday for Republic Day on Monday, 15-Jan-2024 in Bangalore\n");
+
+        List<Holiday> holidays = new HolidayService(0, 1, false).loadHolidays(file);
+
+        assertEquals(1, holidays.size());
+        assertEquals("Republic Day", holidays.get(0).getName());
+    }
+}
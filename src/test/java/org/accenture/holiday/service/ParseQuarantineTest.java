@@ -0,0 +1,154 @@
+package org.accenture.holiday.service;
+
+import org.accenture.holiday.model.QuarantineReport;
+import org.accenture.holiday.model.QuarantinedLine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Unit tests for the line-level diagnostics recorded by {@link ParseAccumulator} and kept by {@link ParseQuarantine}.
+ */
+class ParseQuarantineTest {
+
+    private static final String LINES = String.join("\n",
+            "Mandatory holiday for Republic Day on Monday, 15-Jan-2024 in Bangalore",
+            "not a holiday line",
+            "Floating holiday for Wrong Day on Tuesday, 15-Jan-2024 in Bangalore",
+            "Mandatory holiday for Saturday Event on Saturday, 20-Jan-2024 in Bangalore",
+            "Floating holiday for Abbreviated on mon, 22-Jan-2024 in Bangalore") + "\n";
+
+    /**
+     * Rejected, day-mismatched and weekend lines are recorded with their line numbers and reasons.
+     */
+    @Test
+    void recordsQuarantinedLinesWithLineNumbers(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, LINES);
+        HolidayService service = new HolidayService(-1, HolidayService.DEFAULT_MAPPED_CHUNK_BYTES, false);
+
+        ParseReport report = service.parse(file);
+        QuarantineReport quarantine = service.getQuarantine().getReport(file);
+
+        assertEquals(3, report.getHolidays().size());
+        assertEquals(1, quarantine.getRejectedCount());
+        assertEquals(1, quarantine.getDayMismatchCount());
+        assertEquals(1, quarantine.getWeekendFilteredCount());
+        List<QuarantinedLine> lines = quarantine.getLines();
+        assertEquals(List.of(2L, 3L, 4L), lines.stream().map(QuarantinedLine::getLineNumber).toList());
+        assertEquals(List.of(QuarantinedLine.Reason.REJECTED, QuarantinedLine.Reason.DAY_OF_WEEK_MISMATCH,
+                QuarantinedLine.Reason.WEEKEND), lines.stream().map(QuarantinedLine::getReason).toList());
+        assertEquals("not a holiday line", lines.get(0).getText());
+        assertNull(lines.get(0).getHoliday());
+        assertEquals("Wrong Day", lines.get(1).getHoliday().getName());
+        assertNull(lines.get(2).getText());
+        assertEquals("Saturday Event", lines.get(2).getHoliday().getName());
+        assertEquals(1, service.getStatistics().getDayMismatches());
+    }
+
+    /**
+     * Lines with impossible or miscased dates are quarantined as rejected instead of failing the load or
+     * being clamped to another date.
+     */
+    @Test
+    void rejectsInvalidDates(@TempDir Path tempDir) throws IOException {
+        List<String> invalid = List.of(
+                "Mandatory holiday for A on Saturday, 32-Jan-2025 in Bangalore",
+                "Mandatory holiday for B on Wednesday, 15-JAN-2025 in Bangalore",
+                "Mandatory holiday for C on Wednesday, 1-Foo-2025 in Bangalore",
+                "Mandatory holiday for D on Friday, 31-Feb-2025 in Bangalore",
+                "Mandatory holiday for E on Friday, 29-Feb-2025 in Bangalore");
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, "Mandatory holiday for Republic Day on Monday, 15-Jan-2024 in Bangalore\n"
+                + String.join("\n", invalid) + "\n");
+        HolidayService service = new HolidayService();
+
+        ParseReport report = service.parse(file);
+
+        assertEquals(List.of("Republic Day"), report.getHolidays().stream().map(h -> h.getName()).toList());
+        assertEquals(invalid.size(), report.getRejectedCount());
+        assertEquals(invalid, service.getQuarantine().getReport(file).getLines().stream()
+                .map(QuarantinedLine::getText).toList());
+        for (String line : invalid) {
+            assertNull(HolidayService.parseLine(line), line);
+        }
+    }
+
+    /**
+     * The mapped loader, split into many chunks, records the same lines as the line-by-line loader.
+     */
+    @Test
+    void mappedLoaderRecordsSameLines(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, LINES.repeat(30));
+        HolidayService buffered = new HolidayService(-1, HolidayService.DEFAULT_MAPPED_CHUNK_BYTES, false);
+        HolidayService mapped = new HolidayService(0, 64, false);
+
+        QuarantineReport expected = summary(buffered, file);
+        QuarantineReport actual = summary(mapped, file);
+
+        assertEquals(expected.getRejectedCount(), actual.getRejectedCount());
+        assertEquals(expected.getDayMismatchCount(), actual.getDayMismatchCount());
+        assertEquals(expected.getWeekendFilteredCount(), actual.getWeekendFilteredCount());
+        assertEquals(describe(expected), describe(actual));
+    }
+
+    /**
+     * Only the last {@value ParseReport#MAX_RECORDED_LINES} quarantined lines are kept, while counts cover the file.
+     */
+    @Test
+    void keepsOnlyTheLastLines(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, "bad line\n".repeat(ParseReport.MAX_RECORDED_LINES + 50));
+        HolidayService service = new HolidayService();
+
+        QuarantineReport quarantine = summary(service, file);
+
+        assertEquals(ParseReport.MAX_RECORDED_LINES + 50, quarantine.getRejectedCount());
+        assertEquals(ParseReport.MAX_RECORDED_LINES, quarantine.getLines().size());
+        assertEquals(51, quarantine.getLines().get(0).getLineNumber());
+        assertEquals(ParseReport.MAX_RECORDED_LINES + 50, quarantine.getLines().get(ParseReport.MAX_RECORDED_LINES - 1).getLineNumber());
+    }
+
+    /**
+     * Lines ingested by an incremental refresh are numbered from the start of the file.
+     */
+    @Test
+    void refreshNumbersAppendedLinesFromStartOfFile(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("holidays.log");
+        Files.writeString(file, LINES);
+        HolidayService service = new HolidayService();
+        HolidayRepository repository = new HolidayRepository(service, file.toString());
+        repository.init();
+
+        Files.writeString(file, "appended bad line\n", StandardOpenOption.APPEND);
+        repository.refresh();
+        QuarantineReport quarantine = repository.getQuarantine().getReport(file);
+
+        assertEquals(2, quarantine.getRejectedCount());
+        assertEquals(6, quarantine.getLinesRead());
+        QuarantinedLine last = quarantine.getLines().get(quarantine.getLines().size() - 1);
+        assertEquals(6, last.getLineNumber());
+        assertEquals("appended bad line", last.getText());
+    }
+
+    private static QuarantineReport summary(HolidayService service, Path file) throws IOException {
+        service.parse(file);
+        return service.getQuarantine().getReport(file);
+    }
+
+    private static List<String> describe(QuarantineReport report) {
+        return report.getLines().stream()
+                .map(line -> line.getLineNumber() + " " + line.getReason() + " " + line.getText()
+                        + " " + (line.getHoliday() == null ? null : line.getHoliday().getName()))
+                .toList();
+    }
+}